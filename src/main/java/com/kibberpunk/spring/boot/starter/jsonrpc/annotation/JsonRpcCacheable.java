@@ -0,0 +1,51 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Cached results of an idempotent {@link JsonRpcMethod}.
+ * Results are cached by the request params (with members in any order) and are kept already serialized,
+ * so a repeated call neither executes the method nor serializes its result. Failed calls are not cached.
+ * The attributes can be overridden by
+ * {@code spring.json-rpc.methods[<method name>]} properties.
+ *
+ * @author kibberpunk
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface JsonRpcCacheable {
+
+    /**
+     * Time to live of a cached result in milliseconds.
+     *
+     * @return Time to live
+     */
+    long ttlMillis();
+
+    /**
+     * Maximum number of the cached results, the least recently used are evicted over the limit.
+     *
+     * @return By default returns 1000
+     */
+    long maxSize() default 1000;
+
+    /**
+     * Age of a cached result in milliseconds, after which a call is still answered by the result, but the method
+     * is called in background to refresh it.
+     *
+     * @return By default returns 0 - results are not refreshed
+     */
+    long refreshAfterMillis() default 0;
+
+    /**
+     * Cache results per {@link java.security.Principal}.
+     *
+     * @return By default returns false - results are shared by all the callers
+     */
+    boolean perPrincipal() default false;
+}
@@ -0,0 +1,43 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.annotation;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcExceptionMapper;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Error response of an exception thrown by a {@link JsonRpcMethod}.
+ * The mapping applies to the annotated exception class and its subclasses without their own mapping.
+ * A {@link JsonRpcExceptionMapper} bean of the same exception class takes precedence.
+ *
+ * @author kibberpunk
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface JsonRpcExceptionMapping {
+
+    /**
+     * Error code. The codes from -32768 to -32000 are reserved by the protocol.
+     *
+     * @return Error code
+     */
+    int code();
+
+    /**
+     * Error message, a concise single sentence.
+     *
+     * @return Error message
+     */
+    String message();
+
+    /**
+     * Details of the exception put into the error data, limited by {@code spring.json-rpc.error-detail}.
+     *
+     * @return By default returns {@link JsonRpcExceptionMapper.Data#MESSAGE}
+     */
+    JsonRpcExceptionMapper.Data data() default JsonRpcExceptionMapper.Data.MESSAGE;
+}
@@ -9,6 +9,14 @@ import java.lang.annotation.Target;
 /**
  * JSON-RPC method marker.
  * Without this marker the method will not be recognized by the framework.
+ * <p>
+ * The method bulkhead limits its concurrent calls, so a slow method can not take all the request threads.
+ * Calls over the limit wait in a bounded queue, calls over the queue are rejected with
+ * {@code JsonRpcError.Code.METHOD_OVERLOADED}. The method timeout limits the time of a single call.
+ * Calls of an idempotent method can be coalesced: a call with the same params as a call in flight
+ * gets the result of that call.
+ * The attributes can be overridden by
+ * {@code spring.json-rpc.methods[<method name>]} properties.
  *
  * @author kibberpunk
  */
@@ -16,4 +24,41 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface JsonRpcMethod {
+
+    /**
+     * Maximum number of the method calls executed at the same time.
+     *
+     * @return By default returns 0 - not limited
+     */
+    int maxConcurrentCalls() default 0;
+
+    /**
+     * Maximum number of the method calls waiting for the {@link #maxConcurrentCalls()} limit.
+     *
+     * @return By default returns 0 - calls over the limit are rejected at once
+     */
+    int maxWaitingCalls() default 0;
+
+    /**
+     * Maximum time of a waiting call in milliseconds. The call is rejected when the time is over.
+     *
+     * @return By default returns 0 - waiting calls wait until a running call is completed
+     */
+    long maxWaitMillis() default 0;
+
+    /**
+     * Method timeout in milliseconds. A call exceeding the timeout is interrupted and rejected with
+     * {@code JsonRpcError.Code.METHOD_TIMEOUT}, an asynchronous result is cancelled.
+     *
+     * @return By default returns 0 - not limited
+     */
+    long timeoutMillis() default 0;
+
+    /**
+     * Coalesce the calls with the same params in flight, including the same calls of a batch. The method is executed
+     * once and its result (or failure) is responded to every call. Only for idempotent methods.
+     *
+     * @return By default returns false - every call executes the method
+     */
+    boolean coalesceCalls() default false;
 }
@@ -6,21 +6,31 @@ import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Request;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Response;
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpc20DefaultExceptionHandler;
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcExceptionHandler;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcExceptionMapper;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcExceptionMapperRegistry;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodLoader;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodNameResolver;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodProvider;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.impl.JsonRpcControllerDotMethodNameResolver;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.impl.JsonRpcMethodLoaderImpl;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.impl.JsonRpcMethodProviderImpl;
+import com.kibberpunk.spring.boot.starter.jsonrpc.rest.JsonRpcResponseWriter;
 import com.kibberpunk.spring.boot.starter.jsonrpc.rest.controller.JsonRpcRestController;
+import com.kibberpunk.spring.boot.starter.jsonrpc.rest.impl.JsonRpcResponseWriterImpl;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcCallObserver;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcProtocolSupport;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcServiceListener;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpc20ProtocolService;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpc20ProtocolSupportImpl;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpc20RequestContext;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpcExecutors;
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,15 +38,17 @@ import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.support.ConversionServiceFactoryBean;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.web.servlet.DispatcherServlet;
 
 /**
  * JSON-RPC auto configuration.
+ * The REST controller is registered in a servlet web application with Spring MVC, see
+ * {@link JsonRpcWebFluxAutoConfiguration} for a reactive one.
  *
  * @author kibberpunk
  */
 @Configuration
 @EnableConfigurationProperties({JsonRpcConfigurationProperties.class})
-@Import(JsonRpcRestController.class)
 @PropertySource("classpath:spring-boot-starter-json-rpc.properties")
 public class JsonRpcAutoConfiguration {
 
@@ -45,6 +57,10 @@ public class JsonRpcAutoConfiguration {
      *
      * @param protocolSupport See {@link JsonRpc20ProtocolSupportImpl}
      * @param methodProvider  See {@link JsonRpcMethodProvider}
+     * @param executors       See {@link JsonRpcExecutors}
+     * @param properties      See {@link JsonRpcConfigurationProperties}
+     * @param listener        See {@link JsonRpcServiceListener}, f.e. the Micrometer metrics
+     * @param observer        See {@link JsonRpcCallObserver}, f.e. the Micrometer observations
      * @return {@link JsonRpc20ProtocolService}
      */
     @Bean
@@ -52,8 +68,26 @@ public class JsonRpcAutoConfiguration {
     public JsonRpcService jsonRpcProcessor(
             final JsonRpcProtocolSupport
                     <JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> protocolSupport,
-            final JsonRpcMethodProvider methodProvider) {
-        return new JsonRpc20ProtocolService(protocolSupport, methodProvider);
+            final JsonRpcMethodProvider methodProvider,
+            final JsonRpcExecutors executors,
+            final JsonRpcConfigurationProperties properties,
+            final ObjectProvider<JsonRpcServiceListener> listener,
+            final ObjectProvider<JsonRpcCallObserver> observer) {
+        return new JsonRpc20ProtocolService(protocolSupport, methodProvider, executors, properties,
+                listener.getIfUnique(() -> JsonRpcServiceListener.NONE),
+                observer.getIfUnique(() -> JsonRpcCallObserver.NONE));
+    }
+
+    /**
+     * Create {@link JsonRpcExecutors}.
+     *
+     * @param properties See {@link JsonRpcConfigurationProperties}
+     * @return {@link JsonRpcExecutors} configured by {@link JsonRpcConfigurationProperties}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JsonRpcExecutors jsonRpcExecutors(final JsonRpcConfigurationProperties properties) {
+        return new JsonRpcExecutors(properties);
     }
 
     /**
@@ -64,6 +98,7 @@ public class JsonRpcAutoConfiguration {
      *                                 or will still have to be created at the stage of context assembly
      * @param jsonRpcConversionService See {@link ConversionService}
      * @param jsonRpcExceptionHandler  See {@link JsonRpcExceptionHandler}
+     * @param methodProvider           See {@link JsonRpcMethodProvider}
      * @return {@link JsonRpc20ProtocolSupportImpl}
      */
     @Bean
@@ -73,8 +108,10 @@ public class JsonRpcAutoConfiguration {
             final ObjectMapper objectMapper,
             final @Qualifier("jsonRpcConversionService") ConversionService jsonRpcConversionService,
             final JsonRpcExceptionHandler
-                    <JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> jsonRpcExceptionHandler) {
-        return new JsonRpc20ProtocolSupportImpl(objectMapper, jsonRpcConversionService, jsonRpcExceptionHandler);
+                    <JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> jsonRpcExceptionHandler,
+            final JsonRpcMethodProvider methodProvider) {
+        return new JsonRpc20ProtocolSupportImpl(
+                objectMapper, jsonRpcConversionService, jsonRpcExceptionHandler, methodProvider);
     }
 
     /**
@@ -92,16 +129,23 @@ public class JsonRpcAutoConfiguration {
     /**
      * Create {@link JsonRpcMethodLoader}.
      *
-     * @param methodNameResolver {@link JsonRpcMethodNameResolver}
-     * @param beanFactory        {@link ListableBeanFactory}
+     * @param methodNameResolver       {@link JsonRpcMethodNameResolver}
+     * @param beanFactory              {@link ListableBeanFactory}
+     * @param objectMapper             See {@link ObjectMapper}
+     * @param jsonRpcConversionService See {@link ConversionService}
+     * @param properties               See {@link JsonRpcConfigurationProperties}
      * @return {@link JsonRpcMethodLoaderImpl}
      */
     @Bean
     @ConditionalOnMissingBean
     public JsonRpcMethodLoader jsonRpcMethodLoader(
             final JsonRpcMethodNameResolver methodNameResolver,
-            final ListableBeanFactory beanFactory) {
-        return new JsonRpcMethodLoaderImpl(methodNameResolver, beanFactory);
+            final ListableBeanFactory beanFactory,
+            final ObjectMapper objectMapper,
+            final @Qualifier("jsonRpcConversionService") ConversionService jsonRpcConversionService,
+            final JsonRpcConfigurationProperties properties) {
+        return new JsonRpcMethodLoaderImpl(methodNameResolver, beanFactory, objectMapper, jsonRpcConversionService,
+                properties);
     }
 
     /**
@@ -132,12 +176,50 @@ public class JsonRpcAutoConfiguration {
     /**
      * Create {@link JsonRpcExceptionHandler}.
      *
+     * @param properties     See {@link JsonRpcConfigurationProperties}
+     * @param mapperRegistry See {@link JsonRpcExceptionMapperRegistry}
      * @return See {@link JsonRpc20DefaultExceptionHandler}
      */
     @Bean
     @ConditionalOnMissingBean
-    public JsonRpcExceptionHandler
-            <JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> jsonRpcExceptionHandler() {
-        return new JsonRpc20DefaultExceptionHandler();
+    public JsonRpcExceptionHandler<JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext>
+    jsonRpcExceptionHandler(final JsonRpcConfigurationProperties properties,
+                            final JsonRpcExceptionMapperRegistry mapperRegistry) {
+        return new JsonRpc20DefaultExceptionHandler(properties.getErrorDetail(), mapperRegistry);
+    }
+
+    /**
+     * Create {@link JsonRpcExceptionMapperRegistry}.
+     *
+     * @param mappers {@link JsonRpcExceptionMapper} beans
+     * @return {@link JsonRpcExceptionMapperRegistry} of the protocol exceptions and the mapper beans
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JsonRpcExceptionMapperRegistry jsonRpcExceptionMapperRegistry(
+            final ObjectProvider<JsonRpcExceptionMapper<?>> mappers) {
+        return new JsonRpcExceptionMapperRegistry(mappers.orderedStream().toList());
+    }
+
+    /**
+     * Servlet web application configuration. The servlet API and Spring MVC are optional dependencies.
+     */
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(DispatcherServlet.class)
+    @Import(JsonRpcRestController.class)
+    public static class Servlet {
+
+        /**
+         * Create {@link JsonRpcResponseWriter}.
+         *
+         * @param objectMapper See {@link ObjectMapper}
+         * @return {@link JsonRpcResponseWriterImpl}
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public JsonRpcResponseWriter jsonRpcResponseWriter(final ObjectMapper objectMapper) {
+            return new JsonRpcResponseWriterImpl(objectMapper);
+        }
     }
 }
@@ -0,0 +1,71 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.context;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodLoader;
+import com.kibberpunk.spring.boot.starter.jsonrpc.metrics.JsonRpcCallObservations;
+import com.kibberpunk.spring.boot.starter.jsonrpc.metrics.JsonRpcExecutorsMeterBinder;
+import com.kibberpunk.spring.boot.starter.jsonrpc.metrics.JsonRpcMethodMeterBinder;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcCallObserver;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcServiceListener;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpcExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JSON-RPC Micrometer metrics auto configuration.
+ * Micrometer {@link io.micrometer.core.instrument.binder.MeterBinder}s are bound
+ * to the registry by Spring Boot actuator, the calls are observed by its {@link ObservationRegistry}.
+ *
+ * @author kibberpunk
+ */
+@Configuration
+@AutoConfigureAfter(value = JsonRpcAutoConfiguration.class,
+        name = "org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration")
+@ConditionalOnClass(MeterRegistry.class)
+public class JsonRpcMetricsAutoConfiguration {
+
+    /**
+     * Create {@link JsonRpcExecutorsMeterBinder}.
+     *
+     * @param executors See {@link JsonRpcExecutors}
+     * @return {@link JsonRpcExecutorsMeterBinder}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(JsonRpcExecutors.class)
+    public JsonRpcExecutorsMeterBinder jsonRpcExecutorsMeterBinder(final JsonRpcExecutors executors) {
+        return new JsonRpcExecutorsMeterBinder(executors);
+    }
+
+    /**
+     * Create {@link JsonRpcMethodMeterBinder}. It is also the {@link JsonRpcServiceListener} of the JSON-RPC
+     * service and controller.
+     *
+     * @param methodLoader See {@link JsonRpcMethodLoader}
+     * @return {@link JsonRpcMethodMeterBinder}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(JsonRpcMethodLoader.class)
+    public JsonRpcMethodMeterBinder jsonRpcMethodMeterBinder(final JsonRpcMethodLoader methodLoader) {
+        return new JsonRpcMethodMeterBinder(methodLoader);
+    }
+
+    /**
+     * Create {@link JsonRpcCallObservations}. It is the {@link JsonRpcCallObserver} of the JSON-RPC service.
+     *
+     * @param observationRegistry See {@link ObservationRegistry}
+     * @return {@link JsonRpcCallObservations}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(ObservationRegistry.class)
+    public JsonRpcCallObservations jsonRpcCallObservations(final ObservationRegistry observationRegistry) {
+        return new JsonRpcCallObservations(observationRegistry);
+    }
+}
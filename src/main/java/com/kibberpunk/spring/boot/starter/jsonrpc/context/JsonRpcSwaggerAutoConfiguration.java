@@ -29,8 +29,10 @@ import org.springdoc.webmvc.api.OpenApiWebMvcResource;
 import org.springdoc.webmvc.ui.SwaggerIndexPageTransformer;
 import org.springdoc.webmvc.ui.SwaggerWelcomeCommon;
 import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -40,12 +42,15 @@ import java.util.List;
 import java.util.Optional;
 
 /**
- * JSON-RPC Swagger auto configuration.
+ * JSON-RPC Swagger auto configuration. Requires the optional springdoc Spring MVC dependency
+ * in a servlet web application.
  *
  * @author kibberpunk
  */
 @Profile("Swagger")
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(OpenApiWebMvcResource.class)
 public class JsonRpcSwaggerAutoConfiguration {
 
     /**
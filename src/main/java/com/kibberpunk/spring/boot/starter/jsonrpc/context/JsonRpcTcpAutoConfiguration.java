@@ -0,0 +1,50 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.context;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpcExecutors;
+import com.kibberpunk.spring.boot.starter.jsonrpc.socket.JsonRpcSocketServer;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetSocketAddress;
+import java.util.Optional;
+
+/**
+ * JSON-RPC TCP auto configuration.
+ * The server is started if {@code spring.json-rpc.consumer.tcp.port} is set, in any application type.
+ *
+ * @author kibberpunk
+ */
+@Configuration
+@AutoConfigureAfter(JsonRpcAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "spring.json-rpc.consumer.tcp", name = "port")
+public class JsonRpcTcpAutoConfiguration {
+
+    /**
+     * Create TCP {@link JsonRpcSocketServer}.
+     *
+     * @param service      See {@link JsonRpcService}
+     * @param objectMapper See {@link ObjectMapper}
+     * @param properties   See {@link JsonRpcConfigurationProperties}
+     * @param executors    See {@link JsonRpcExecutors}
+     * @return {@link JsonRpcSocketServer} bound to {@code spring.json-rpc.consumer.tcp.address} and {@code port}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "jsonRpcTcpServer")
+    public JsonRpcSocketServer jsonRpcTcpServer(final JsonRpcService service,
+                                                final ObjectMapper objectMapper,
+                                                final JsonRpcConfigurationProperties properties,
+                                                final JsonRpcExecutors executors) {
+        final JsonRpcConfigurationProperties.Tcp tcp = properties.getConsumer().getTcp();
+        return new JsonRpcSocketServer(service, objectMapper, tcp,
+                Optional.ofNullable(tcp.getAddress())
+                        .map(address -> new InetSocketAddress(address, tcp.getPort()))
+                        .orElseGet(() -> new InetSocketAddress(tcp.getPort())),
+                "tcp", executors);
+    }
+}
@@ -0,0 +1,43 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.context;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpcExecutors;
+import com.kibberpunk.spring.boot.starter.jsonrpc.socket.JsonRpcSocketServer;
+import com.kibberpunk.spring.boot.starter.jsonrpc.socket.JsonRpcUnixSocketServer;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JSON-RPC Unix domain socket auto configuration.
+ * The server is started if {@code spring.json-rpc.consumer.unix.path} is set, in any application type.
+ *
+ * @author kibberpunk
+ */
+@Configuration
+@AutoConfigureAfter(JsonRpcAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "spring.json-rpc.consumer.unix", name = "path")
+public class JsonRpcUnixSocketAutoConfiguration {
+
+    /**
+     * Create Unix domain socket {@link JsonRpcSocketServer}.
+     *
+     * @param service      See {@link JsonRpcService}
+     * @param objectMapper See {@link ObjectMapper}
+     * @param properties   See {@link JsonRpcConfigurationProperties}
+     * @param executors    See {@link JsonRpcExecutors}
+     * @return {@link JsonRpcUnixSocketServer} bound to {@code spring.json-rpc.consumer.unix.path}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "jsonRpcUnixSocketServer")
+    public JsonRpcSocketServer jsonRpcUnixSocketServer(final JsonRpcService service,
+                                                       final ObjectMapper objectMapper,
+                                                       final JsonRpcConfigurationProperties properties,
+                                                       final JsonRpcExecutors executors) {
+        return new JsonRpcUnixSocketServer(service, objectMapper, properties.getConsumer().getUnix(), executors);
+    }
+}
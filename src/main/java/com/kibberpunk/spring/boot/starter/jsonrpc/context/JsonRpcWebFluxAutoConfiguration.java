@@ -0,0 +1,63 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.context;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.reactive.JsonRpcWebFluxHandler;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcServiceListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * JSON-RPC WebFlux auto configuration.
+ * The endpoint is served by {@code spring.json-rpc.consumer.path} in a reactive web application
+ * (f.e. on Netty), the blocking methods are executed by {@link Schedulers#boundedElastic()}.
+ *
+ * @author kibberpunk
+ */
+@Configuration
+@AutoConfigureAfter(JsonRpcAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass({RouterFunction.class, Schedulers.class})
+public class JsonRpcWebFluxAutoConfiguration {
+
+    /**
+     * Create {@link JsonRpcWebFluxHandler}.
+     *
+     * @param service    See {@link JsonRpcService}
+     * @param properties See {@link JsonRpcConfigurationProperties}
+     * @param listener   See {@link JsonRpcServiceListener}, f.e. the Micrometer metrics
+     * @return {@link JsonRpcWebFluxHandler} executing the blocking methods by {@link Schedulers#boundedElastic()}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JsonRpcWebFluxHandler jsonRpcWebFluxHandler(final JsonRpcService service,
+                                                       final JsonRpcConfigurationProperties properties,
+                                                       final ObjectProvider<JsonRpcServiceListener> listener) {
+        return new JsonRpcWebFluxHandler(service, properties, Schedulers.boundedElastic(),
+                listener.getIfUnique(() -> JsonRpcServiceListener.NONE));
+    }
+
+    /**
+     * Create {@link RouterFunction} of the endpoint.
+     *
+     * @param handler    See {@link JsonRpcWebFluxHandler}
+     * @param properties See {@link JsonRpcConfigurationProperties}
+     * @return {@link RouterFunction} of POST {@code spring.json-rpc.consumer.path}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "jsonRpcRouterFunction")
+    public RouterFunction<ServerResponse> jsonRpcRouterFunction(final JsonRpcWebFluxHandler handler,
+                                                                final JsonRpcConfigurationProperties properties) {
+        return RouterFunctions.route(RequestPredicates.POST(properties.getConsumer().getPath()), handler);
+    }
+}
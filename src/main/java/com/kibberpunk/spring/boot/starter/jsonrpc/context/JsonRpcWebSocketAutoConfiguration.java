@@ -0,0 +1,62 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.context;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpcExecutors;
+import com.kibberpunk.spring.boot.starter.jsonrpc.websocket.JsonRpcWebSocketEndpoint;
+import com.kibberpunk.spring.boot.starter.jsonrpc.websocket.JsonRpcWebSocketEndpointRegistrar;
+import jakarta.websocket.server.ServerContainer;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JSON-RPC WebSocket auto configuration.
+ * The endpoint is registered if {@code spring.json-rpc.consumer.websocket.path} is set,
+ * on the servlet container WebSocket support (f.e. {@code tomcat-embed-websocket}).
+ *
+ * @author kibberpunk
+ */
+@Configuration
+@AutoConfigureAfter(JsonRpcAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(ServerContainer.class)
+@ConditionalOnProperty(prefix = "spring.json-rpc.consumer.websocket", name = "path")
+public class JsonRpcWebSocketAutoConfiguration {
+
+    /**
+     * Create {@link JsonRpcWebSocketEndpoint}.
+     *
+     * @param service      See {@link JsonRpcService}
+     * @param objectMapper See {@link ObjectMapper}
+     * @param properties   See {@link JsonRpcConfigurationProperties}
+     * @param executors    See {@link JsonRpcExecutors}
+     * @return {@link JsonRpcWebSocketEndpoint}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JsonRpcWebSocketEndpoint jsonRpcWebSocketEndpoint(final JsonRpcService service,
+                                                             final ObjectMapper objectMapper,
+                                                             final JsonRpcConfigurationProperties properties,
+                                                             final JsonRpcExecutors executors) {
+        return new JsonRpcWebSocketEndpoint(service, objectMapper, properties, executors);
+    }
+
+    /**
+     * Create {@link JsonRpcWebSocketEndpointRegistrar}.
+     *
+     * @param endpoint See {@link JsonRpcWebSocketEndpoint}
+     * @return {@link JsonRpcWebSocketEndpointRegistrar}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JsonRpcWebSocketEndpointRegistrar jsonRpcWebSocketEndpointRegistrar(
+            final JsonRpcWebSocketEndpoint endpoint) {
+        return new JsonRpcWebSocketEndpointRegistrar(endpoint);
+    }
+}
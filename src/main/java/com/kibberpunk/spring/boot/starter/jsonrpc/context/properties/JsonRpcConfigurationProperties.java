@@ -4,6 +4,10 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * JSON-RPC configuration properties.
  *
@@ -19,6 +23,75 @@ public class JsonRpcConfigurationProperties {
      */
     private Consumer consumer;
 
+    /**
+     * @see Batch
+     */
+    private Batch batch = new Batch();
+
+    /**
+     * @see Notification
+     */
+    private Notification notification = new Notification();
+
+    /**
+     * Threads executing the JSON-RPC methods. See {@link Execution}
+     */
+    private Execution execution = Execution.PLATFORM_THREADS;
+
+    /**
+     * Methods options by method name, f.e. {@code spring.json-rpc.methods[reportController.export]}.
+     * Options set here override the {@code JsonRpcMethod} attributes
+     */
+    private Map<String, MethodOptions> methods = new HashMap<>();
+
+    /**
+     * Details of the failure put into the {@code data} member of the error response. See {@link ErrorDetail}
+     */
+    private ErrorDetail errorDetail = ErrorDetail.MESSAGE;
+
+    /**
+     * @see ErrorLog
+     */
+    private ErrorLog errorLog = new ErrorLog();
+
+    /**
+     * Details of the failure in the error response.
+     */
+    public enum ErrorDetail {
+
+        /**
+         * No details, the error response has only the error code and message.
+         */
+        NONE,
+
+        /**
+         * Message of the failure.
+         */
+        MESSAGE,
+
+        /**
+         * Stack trace of the failure, costly to build and to send. For debugging only
+         */
+        STACKTRACE
+    }
+
+    /**
+     * JSON-RPC methods execution mode.
+     */
+    public enum Execution {
+
+        /**
+         * Methods are executed in the request thread, batch elements and notifications on the bounded pools.
+         */
+        PLATFORM_THREADS,
+
+        /**
+         * Every call, batch element and notification is executed on its own virtual thread, the request thread
+         * is freed while the method blocks. Requires Java 21, platform threads are used on older runtimes.
+         */
+        VIRTUAL_THREADS
+    }
+
     /**
      * JSON-RPC consumer properties.
      */
@@ -31,5 +104,424 @@ public class JsonRpcConfigurationProperties {
          * The main endpoint for calling JSON-RPC methods will be available along this path
          */
         private String path = "/api";
+
+        /**
+         * Write responses straight to the servlet output stream by a reused writer,
+         * bypassing Spring MVC message converters. See {@code JsonRpcResponseWriter}
+         */
+        private boolean directWrite;
+
+        /**
+         * @see WebSocket
+         */
+        private WebSocket websocket = new WebSocket();
+
+        /**
+         * @see WebFlux
+         */
+        private WebFlux webflux = new WebFlux();
+
+        /**
+         * @see Tcp
+         */
+        private Tcp tcp = new Tcp();
+
+        /**
+         * @see Unix
+         */
+        private Unix unix = new Unix();
+    }
+
+    /**
+     * JSON-RPC WebFlux consumer properties.
+     * The endpoint is served by {@link Consumer#getPath()} in a reactive web application.
+     */
+    @Getter
+    @Setter
+    public static class WebFlux {
+
+        /**
+         * Default {@link #maxRequestSize}.
+         */
+        private static final int DEFAULT_MAX_REQUEST_SIZE = 1024 * 1024;
+
+        /**
+         * Maximum size of a request body in bytes, the body is buffered before it is parsed.
+         * A larger body is answered with 413 Payload Too Large
+         */
+        private int maxRequestSize = DEFAULT_MAX_REQUEST_SIZE;
+    }
+
+    /**
+     * JSON-RPC WebSocket consumer properties.
+     * A connection carries many calls at the same time, responses are sent as they are completed.
+     */
+    @Getter
+    @Setter
+    public static class WebSocket {
+
+        /**
+         * Default {@link #maxInFlightCalls}.
+         */
+        private static final int DEFAULT_MAX_IN_FLIGHT_CALLS = 64;
+
+        /**
+         * Default {@link #maxMessageSize}.
+         */
+        private static final int DEFAULT_MAX_MESSAGE_SIZE = 1024 * 1024;
+
+        /**
+         * WebSocket endpoint path, f.e. {@code /api/ws}. Null - there is no WebSocket endpoint
+         */
+        private String path;
+
+        /**
+         * Maximum number of the calls of a connection being executed or having their responses sent.
+         * At the limit the reading of the connection is suspended until a call is completed (Tomcat),
+         * on other containers a message over the limit closes the connection
+         */
+        private int maxInFlightCalls = DEFAULT_MAX_IN_FLIGHT_CALLS;
+
+        /**
+         * Maximum size of a message in bytes. A larger message closes the connection
+         */
+        private int maxMessageSize = DEFAULT_MAX_MESSAGE_SIZE;
+
+        /**
+         * Close a connection without messages for this time. 0 - connections are not closed
+         */
+        private Duration maxIdleTime = Duration.ZERO;
+
+        /**
+         * Executor of the calls. Over the queue capacity a call is rejected and its connection is closed.
+         * With {@link Execution#VIRTUAL_THREADS} the calls are executed on virtual threads
+         */
+        private Pool executor = new Pool();
+    }
+
+    /**
+     * JSON-RPC socket consumer properties.
+     * A connection carries framed requests (or batches) one after another without waiting for the responses,
+     * responses are sent as they are completed.
+     */
+    @Getter
+    @Setter
+    public static class Socket {
+
+        /**
+         * Default {@link #selectorThreads}.
+         */
+        private static final int DEFAULT_SELECTOR_THREADS = 2;
+
+        /**
+         * Default {@link #bufferSize}.
+         */
+        private static final int DEFAULT_BUFFER_SIZE = 16 * 1024;
+
+        /**
+         * Default {@link #maxPooledBuffers}.
+         */
+        private static final int DEFAULT_MAX_POOLED_BUFFERS = 256;
+
+        /**
+         * Default {@link #maxFrameSize}.
+         */
+        private static final int DEFAULT_MAX_FRAME_SIZE = 1024 * 1024;
+
+        /**
+         * Default {@link #maxInFlightCalls}.
+         */
+        private static final int DEFAULT_MAX_IN_FLIGHT_CALLS = 64;
+
+        /**
+         * See {@link Framing}.
+         */
+        private Framing framing = Framing.NEWLINE;
+
+        /**
+         * Number of the threads reading and writing the connections.
+         * The connections are spread over the threads, a connection is served by one thread
+         */
+        private int selectorThreads = DEFAULT_SELECTOR_THREADS;
+
+        /**
+         * Size of the pooled direct read buffers in bytes.
+         * A connection holds a buffer only while it has a partially read frame
+         */
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+        /**
+         * Maximum number of the direct read buffers kept in the pool.
+         */
+        private int maxPooledBuffers = DEFAULT_MAX_POOLED_BUFFERS;
+
+        /**
+         * Maximum size of a frame in bytes. A larger frame closes the connection
+         */
+        private int maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+
+        /**
+         * Maximum number of the calls of a connection being executed or having their responses sent.
+         * Over the limit the connection is not read until a call is completed
+         */
+        private int maxInFlightCalls = DEFAULT_MAX_IN_FLIGHT_CALLS;
+
+        /**
+         * Executor of the blocking methods, the methods with an asynchronous result are invoked by the selector
+         * thread. Over the queue capacity a call is answered with the internal error.
+         * With {@link Execution#VIRTUAL_THREADS} the blocking methods are executed on virtual threads
+         */
+        private Pool executor = new Pool();
+    }
+
+    /**
+     * JSON-RPC TCP consumer properties.
+     */
+    @Getter
+    @Setter
+    public static class Tcp extends Socket {
+
+        /**
+         * TCP port. Null - there is no TCP server, 0 - any free port
+         */
+        private Integer port;
+
+        /**
+         * Bind address, f.e. {@code 127.0.0.1}. Null - all the local addresses
+         */
+        private String address;
+    }
+
+    /**
+     * JSON-RPC Unix domain socket consumer properties.
+     */
+    @Getter
+    @Setter
+    public static class Unix extends Socket {
+
+        /**
+         * Socket file path, f.e. {@code /run/app/json-rpc.sock}. Null - there is no Unix domain socket server.
+         * A socket file left by a stopped server is replaced
+         */
+        private String path;
+
+        /**
+         * POSIX permissions of the socket file, f.e. {@code rw-rw----} for the group. A client connects if it can
+         * write the file
+         */
+        private String permissions = "rw-------";
+    }
+
+    /**
+     * Socket frames.
+     */
+    public enum Framing {
+
+        /**
+         * Every frame is a single line JSON ended by {@code \n}.
+         */
+        NEWLINE,
+
+        /**
+         * Every frame is prefixed by its length in bytes, 4 bytes big-endian.
+         */
+        LENGTH_PREFIX
+    }
+
+    /**
+     * JSON-RPC batch requests properties.
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * Default {@link #maxSize}.
+         */
+        private static final int DEFAULT_MAX_SIZE = 100;
+
+        /**
+         * Default {@link #parallelism}.
+         */
+        private static final int DEFAULT_PARALLELISM = 4;
+
+        /**
+         * Maximum number of requests in a single batch.
+         * Larger batches are rejected entirely with the 'Invalid Request' error
+         */
+        private int maxSize = DEFAULT_MAX_SIZE;
+
+        /**
+         * Maximum number of elements of a single batch executed at the same time.
+         * 1 - batch elements are executed sequentially in the request thread
+         */
+        private int parallelism = DEFAULT_PARALLELISM;
+
+        /**
+         * @see Pool
+         */
+        private Pool executor = new Pool();
+    }
+
+    /**
+     * JSON-RPC notifications (requests without id) properties.
+     */
+    @Getter
+    @Setter
+    public static class Notification {
+
+        /**
+         * Execute notifications in the background. The request is acknowledged at once without a response body.
+         * false - notifications are executed in the request thread, but still without a response body
+         */
+        private boolean async = true;
+
+        /**
+         * What to do with a notification if the notification executor queue is full.
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.CALLER_RUNS;
+
+        /**
+         * @see Pool
+         */
+        private Pool executor = new Pool();
+    }
+
+    /**
+     * Policy of a task that does not fit into the full executor queue.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Execute the task in the request thread. Slows down the clients instead of losing the task.
+         */
+        CALLER_RUNS,
+
+        /**
+         * Drop the task.
+         */
+        DISCARD,
+
+        /**
+         * Drop the oldest queued task and enqueue the task.
+         */
+        DISCARD_OLDEST
+    }
+
+    /**
+     * JSON-RPC thread pool properties.
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * Default {@link #threads}.
+         */
+        private static final int DEFAULT_THREADS = 16;
+
+        /**
+         * Default {@link #queueCapacity}.
+         */
+        private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+        /**
+         * Number of pool threads. Idle threads are released after a minute.
+         */
+        private int threads = DEFAULT_THREADS;
+
+        /**
+         * Capacity of the pool tasks queue.
+         */
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    }
+
+    /**
+     * JSON-RPC failures logging properties.
+     * Failures are logged per method and error code: at most {@link #permits} failures per {@link #period},
+     * the suppressed failures are counted and reported with the next logged failure.
+     */
+    @Getter
+    @Setter
+    public static class ErrorLog {
+
+        /**
+         * Default {@link #permits}.
+         */
+        private static final int DEFAULT_PERMITS = 10;
+
+        /**
+         * Default {@link #maxBodyLength}.
+         */
+        private static final int DEFAULT_MAX_BODY_LENGTH = 1024;
+
+        /**
+         * Maximum number of the logged failures of a method and error code per {@link #period}.
+         */
+        private int permits = DEFAULT_PERMITS;
+
+        /**
+         * Period of the {@link #permits}.
+         */
+        private Duration period = Duration.ofSeconds(1);
+
+        /**
+         * Share of the failures to log, from 0 to 1. The rest are counted as suppressed
+         */
+        private double sampleRate = 1;
+
+        /**
+         * Maximum number of the logged request body characters, bytes of a binary or streamed body.
+         * 0 - the request body is not logged
+         */
+        private int maxBodyLength = DEFAULT_MAX_BODY_LENGTH;
+    }
+
+    /**
+     * JSON-RPC method options. Null options are taken from the {@code JsonRpcMethod} attributes.
+     */
+    @Getter
+    @Setter
+    public static class MethodOptions {
+
+        /**
+         * Maximum number of the method calls executed at the same time. 0 - not limited
+         */
+        private Integer maxConcurrentCalls;
+
+        /**
+         * Maximum number of the method calls waiting for the {@link #maxConcurrentCalls} limit.
+         */
+        private Integer maxWaitingCalls;
+
+        /**
+         * Maximum time of a waiting call. 0 - waiting calls wait until a running call is completed
+         */
+        private Duration maxWait;
+
+        /**
+         * Method timeout. 0 - not limited
+         */
+        private Duration timeout;
+
+        /**
+         * Time to live of a cached result of a {@code JsonRpcCacheable} method.
+         */
+        private Duration cacheTtl;
+
+        /**
+         * Maximum number of the cached results of a {@code JsonRpcCacheable} method.
+         */
+        private Long cacheMaxSize;
+
+        /**
+         * Age of a cached result of a {@code JsonRpcCacheable} method to refresh it. 0 - not refreshed
+         */
+        private Duration cacheRefreshAfter;
+
+        /**
+         * Coalesce the calls with the same params in flight.
+         */
+        private Boolean coalesceCalls;
     }
 }
@@ -1,6 +1,7 @@
 package com.kibberpunk.spring.boot.starter.jsonrpc.dto;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
@@ -33,6 +34,7 @@ public class JsonRpc20Request extends AbstractJsonRpc20Object {
     /**
      * A Structured value that holds the parameter values to be used during the invocation of the method.
      * This member MAY be omitted.
+     * Kept as raw tokens: every method parameter is deserialized straight from them only once
      */
-    private JsonNode params;
+    private TokenBuffer params;
 }
@@ -1,12 +1,21 @@
 package com.kibberpunk.spring.boot.starter.jsonrpc.dto;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * JSON-RPC response.
  * See <a href="https://www.jsonrpc.org/specification#response_object">label</a>
@@ -19,10 +28,28 @@ import lombok.experimental.Accessors;
 @Builder
 public class JsonRpc20Response extends AbstractJsonRpc20Object {
 
+    /**
+     * Preallocated read-only error responses with the null id and without data by {@link JsonRpcError.Code},
+     * f.e. for unparsable requests.
+     */
+    private static final Map<JsonRpcError.Code, JsonRpc20Response> STANDARD = Collections.unmodifiableMap(
+            Arrays.stream(JsonRpcError.Code.values()).collect(Collectors.toMap(Function.identity(),
+                    code -> new Shared(JsonRpcError.of(code)),
+                    (first, second) -> first, () -> new EnumMap<>(JsonRpcError.Code.class))));
+
+    /**
+     * Preallocated read-only error responses with the null id by the preallocated errors. See {@link JsonRpcError#of}
+     */
+    private static final Map<JsonRpcError, JsonRpc20Response> STANDARD_BY_ERROR = Collections.unmodifiableMap(
+            STANDARD.values().stream().collect(Collectors.toMap(JsonRpc20Response::getError, Function.identity(),
+                    (first, second) -> first, IdentityHashMap::new)));
+
     /**
      * Create error response with id and {@link JsonRpcError.Code}.
+     * The error is preallocated, see {@link JsonRpcError#of(JsonRpcError.Code)}.
+     * The response with the null id is preallocated too, it is shared and read-only.
      *
-     * @param id   Request id
+     * @param id   Request id. Null or {@link NullNode} for the null id
      * @param code Error {@link JsonRpcError.Code}
      * @return Error response with id and {@link JsonRpcError.Code}
      */
@@ -34,17 +61,44 @@ public class JsonRpc20Response extends AbstractJsonRpc20Object {
     /**
      * Create error response with id, {@link JsonRpcError.Code} and specific error data.
      *
-     * @param id   Request id
+     * @param id   Request id. Null or {@link NullNode} for the null id
      * @param code Error {@link JsonRpcError.Code}
-     * @param data Optional error data
+     * @param data Optional error data. Without data the error is preallocated, see {@link JsonRpcError#of}
      * @return Error response with id, {@link JsonRpcError.Code} and specific error data.
      */
     @NonNull
     public static JsonRpc20Response error(final JsonNode id, final @NonNull JsonRpcError.Code code, final Object data) {
+        if (data == null) {
+            return isNull(id) ? STANDARD.get(code) : builder().id(id).error(JsonRpcError.of(code)).build();
+        }
         return builder().id(id)
                 .error(new JsonRpcError(code.getCode(), code.getMessage(), data)).build();
     }
 
+    /**
+     * Create error response with id and error.
+     * The response with the null id of a preallocated error is preallocated too, see {@link JsonRpcError#of}.
+     *
+     * @param id    Request id. Null or {@link NullNode} for the null id
+     * @param error Error
+     * @return Error response with id and error
+     */
+    @NonNull
+    public static JsonRpc20Response error(final JsonNode id, final @NonNull JsonRpcError error) {
+        final JsonRpc20Response standard = isNull(id) ? STANDARD_BY_ERROR.get(error) : null;
+        return standard != null ? standard : builder().id(id).error(error).build();
+    }
+
+    /**
+     * Check request id is the null id.
+     *
+     * @param id Request id
+     * @return true if the id is absent or {@link NullNode}
+     */
+    private static boolean isNull(final JsonNode id) {
+        return id == null || id.isNull();
+    }
+
     /**
      * This member is REQUIRED.
      * It MUST be the same as the value of the id member in the Request Object.
@@ -66,4 +120,64 @@ public class JsonRpc20Response extends AbstractJsonRpc20Object {
      * The value for this member MUST be an Object as defined in section 5.1.
      */
     private JsonRpcError error;
+
+    /**
+     * Read-only error response with the null id shared by the requests, see {@link #error(JsonNode, JsonRpcError)}.
+     *
+     * @author kibberpunk
+     */
+    private static final class Shared extends JsonRpc20Response {
+
+        /**
+         * Constructor.
+         *
+         * @param error Shared error, see {@link JsonRpcError#of(JsonRpcError.Code)}
+         */
+        private Shared(final JsonRpcError error) {
+            super(NullNode.getInstance(), null, error);
+        }
+
+        /**
+         * Shared response can not be changed.
+         *
+         * @param id Ignored
+         * @return Never returns
+         */
+        @Override
+        public JsonRpc20Response setId(final JsonNode id) {
+            throw new UnsupportedOperationException("Shared JSON-RPC response can not be changed");
+        }
+
+        /**
+         * Shared response can not be changed.
+         *
+         * @param result Ignored
+         * @return Never returns
+         */
+        @Override
+        public JsonRpc20Response setResult(final Object result) {
+            throw new UnsupportedOperationException("Shared JSON-RPC response can not be changed");
+        }
+
+        /**
+         * Shared response can not be changed.
+         *
+         * @param error Ignored
+         * @return Never returns
+         */
+        @Override
+        public JsonRpc20Response setError(final JsonRpcError error) {
+            throw new UnsupportedOperationException("Shared JSON-RPC response can not be changed");
+        }
+
+        /**
+         * Shared response can not be changed.
+         *
+         * @param jsonRpc Ignored
+         */
+        @Override
+        public void setJsonRpc(final String jsonRpc) {
+            throw new UnsupportedOperationException("Shared JSON-RPC response can not be changed");
+        }
+    }
 }
@@ -4,8 +4,16 @@ import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcRequestId;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.NonNull;
 import lombok.Setter;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * JSON-RPC error object.
  * See <a href="https://www.jsonrpc.org/specification#error_object">label</a>
@@ -57,6 +65,16 @@ public class JsonRpcError {
          */
         INTERNAL_ERROR(-32603, "Internal error"),
 
+        /**
+         * -32001             Method overloaded          The method bulkhead is full, the call is not executed.
+         */
+        METHOD_OVERLOADED(-32001, "Method overloaded"),
+
+        /**
+         * -32002             Method timeout             The method call exceeded the method timeout.
+         */
+        METHOD_TIMEOUT(-32002, "Method timeout"),
+
         /**
          * -32768             Request id is empty        If the {@link JsonRpcRequestId#required()} is true.
          */
@@ -74,6 +92,39 @@ public class JsonRpcError {
         private final String message;
     }
 
+    /**
+     * Preallocated errors without data by {@link Code}.
+     */
+    private static final Map<Code, JsonRpcError> STANDARD = Collections.unmodifiableMap(
+            Arrays.stream(Code.values()).collect(Collectors.toMap(Function.identity(),
+                    code -> shared(code.getCode(), code.getMessage()),
+                    (first, second) -> first, () -> new EnumMap<>(Code.class))));
+
+    /**
+     * Get preallocated error without data. The error is shared and read-only, see {@link #shared(int, String)}.
+     *
+     * @param code Error {@link Code}
+     * @return Shared error with the code and message of the {@link Code}
+     */
+    @NonNull
+    public static JsonRpcError of(final @NonNull Code code) {
+        return STANDARD.get(code);
+    }
+
+    /**
+     * Create read-only error without data, shared by the responses.
+     * Its setters throw {@link UnsupportedOperationException}, so a shared error can not be changed for every
+     * later response, f.e. by a custom exception handler.
+     *
+     * @param code    Error code
+     * @param message Error message
+     * @return Read-only error without data
+     */
+    @NonNull
+    public static JsonRpcError shared(final int code, final @NonNull String message) {
+        return new Shared(code, message);
+    }
+
     /**
      * A Number that indicates the error type that occurred. This MUST be an integer.
      * Code message meaning. @see {@link Code}
@@ -92,4 +143,52 @@ public class JsonRpcError {
      * The value of this member is defined by the Server (e.g. detailed error information, nested errors etc.).
      */
     private Object data;
+
+    /**
+     * Read-only error shared by the responses, see {@link #shared(int, String)}.
+     *
+     * @author kibberpunk
+     */
+    private static final class Shared extends JsonRpcError {
+
+        /**
+         * Constructor.
+         *
+         * @param code    Error code
+         * @param message Error message
+         */
+        private Shared(final int code, final String message) {
+            super(code, message, null);
+        }
+
+        /**
+         * Shared error can not be changed.
+         *
+         * @param code Ignored
+         */
+        @Override
+        public void setCode(final int code) {
+            throw new UnsupportedOperationException("Shared JSON-RPC error can not be changed");
+        }
+
+        /**
+         * Shared error can not be changed.
+         *
+         * @param message Ignored
+         */
+        @Override
+        public void setMessage(final String message) {
+            throw new UnsupportedOperationException("Shared JSON-RPC error can not be changed");
+        }
+
+        /**
+         * Shared error can not be changed.
+         *
+         * @param data Ignored
+         */
+        @Override
+        public void setData(final Object data) {
+            throw new UnsupportedOperationException("Shared JSON-RPC error can not be changed");
+        }
+    }
 }
@@ -2,22 +2,63 @@ package com.kibberpunk.spring.boot.starter.jsonrpc.exception;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties.ErrorDetail;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Request;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Response;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpcError;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpc20RequestContext;
 import lombok.NonNull;
-import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.core.convert.ConversionService;
 
 /**
  * Default {@link JsonRpcExceptionHandler}.
+ * Exceptions are mapped to errors by the {@link JsonRpcExceptionMapperRegistry},
+ * details of the failure are put into the error data by the {@link ErrorDetail}.
+ * Errors without data are preallocated, see {@link JsonRpcError#of(JsonRpcError.Code)}.
  *
  * @author kibberpunk
  */
 public class JsonRpc20DefaultExceptionHandler implements
         JsonRpcExceptionHandler<JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> {
 
+    /**
+     * Details of the failure in the error data.
+     */
+    private final ErrorDetail detail;
+
+    /**
+     * See {@link JsonRpcExceptionMapperRegistry}.
+     */
+    private final JsonRpcExceptionMapperRegistry registry;
+
+    /**
+     * Constructor with {@link ErrorDetail#MESSAGE} details.
+     */
+    public JsonRpc20DefaultExceptionHandler() {
+        this(ErrorDetail.MESSAGE);
+    }
+
+    /**
+     * Constructor with the protocol exceptions mappers only.
+     *
+     * @param errorDetail Details of the failure in the error data. See {@link ErrorDetail}
+     */
+    public JsonRpc20DefaultExceptionHandler(final @NonNull ErrorDetail errorDetail) {
+        this(errorDetail, new JsonRpcExceptionMapperRegistry());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param errorDetail    Details of the failure in the error data. See {@link ErrorDetail}
+     * @param mapperRegistry See {@link JsonRpcExceptionMapperRegistry}
+     */
+    public JsonRpc20DefaultExceptionHandler(final @NonNull ErrorDetail errorDetail,
+                                            final @NonNull JsonRpcExceptionMapperRegistry mapperRegistry) {
+        this.detail = errorDetail;
+        this.registry = mapperRegistry;
+    }
+
     /**
      * Handle exception.
      *
@@ -35,20 +76,6 @@ public class JsonRpc20DefaultExceptionHandler implements
             final @NonNull JsonRpc20RequestContext context,
             final @NonNull ObjectMapper objectMapper,
             final @NonNull ConversionService conversionService) {
-        if (throwable instanceof JsonRpcRequestReceivingException) {
-            return JsonRpc20Response.error(id, JsonRpcError.Code.PARSE_ERROR,
-                    ExceptionUtils.getStackTrace(throwable));
-        } else if (throwable instanceof JsonRpcEmptyRequestBodyException) {
-            return JsonRpc20Response.error(id, JsonRpcError.Code.INVALID_REQUEST);
-        } else if (throwable instanceof JsonRpcMethodNotFoundException) {
-            return JsonRpc20Response.error(id, JsonRpcError.Code.METHOD_NOT_FOUND);
-        } else if (throwable instanceof JsonRpcParseMethodParameterException) {
-            return JsonRpc20Response.error(id, JsonRpcError.Code.INVALID_PARAMS,
-                    ExceptionUtils.getStackTrace(throwable));
-        } else if (throwable instanceof JsonRpcRequestIdNotFoundException) {
-            return JsonRpc20Response.error(id, JsonRpcError.Code.REQUEST_ID_IS_EMPTY);
-        }
-        return JsonRpc20Response.error(id, JsonRpcError.Code.INTERNAL_ERROR,
-                ExceptionUtils.getStackTrace(throwable));
+        return JsonRpc20Response.error(id, registry.map(throwable, detail));
     }
 }
@@ -0,0 +1,21 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.exception;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.utils.FormatUtils;
+
+/**
+ * JSON-RPC batch request contains more requests than allowed {@link RuntimeException}.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcBatchSizeExceededException extends JsonRpcException {
+
+    /**
+     * Constructs a new runtime exception with the batch size detail message.
+     *
+     * @param size    Batch size. Can be a lower bound if the batch was not read completely
+     * @param maxSize Maximum allowed batch size
+     */
+    public JsonRpcBatchSizeExceededException(final int size, final int maxSize) {
+        super(FormatUtils.format("Batch size {} exceeds maximum batch size {}", size, maxSize));
+    }
+}
@@ -0,0 +1,97 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.exception;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties.ErrorDetail;
+import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpcError;
+import lombok.NonNull;
+
+/**
+ * {@link JsonRpcExceptionMapper} of an exception class to a fixed error code and message.
+ * The error without data is preallocated.
+ *
+ * @param <T> Exception type
+ * @author kibberpunk
+ */
+public class JsonRpcCodeExceptionMapper<T extends Throwable> implements JsonRpcExceptionMapper<T> {
+
+    /**
+     * Exception class.
+     */
+    private final Class<T> type;
+
+    /**
+     * Details of the exception in the error data.
+     */
+    private final Data data;
+
+    /**
+     * Preallocated error without data.
+     */
+    private final JsonRpcError error;
+
+    /**
+     * Constructor.
+     *
+     * @param exceptionType Exception class
+     * @param code          Error code
+     * @param message       Error message
+     * @param errorData     Details of the exception in the error data
+     */
+    public JsonRpcCodeExceptionMapper(final @NonNull Class<T> exceptionType,
+                                      final int code,
+                                      final @NonNull String message,
+                                      final @NonNull Data errorData) {
+        this(exceptionType, JsonRpcError.shared(code, message), errorData);
+    }
+
+    /**
+     * Constructor of the standard error code, the error without data is shared.
+     * See {@link JsonRpcError#of(JsonRpcError.Code)}
+     *
+     * @param exceptionType Exception class
+     * @param code          Error {@link JsonRpcError.Code}
+     * @param errorData     Details of the exception in the error data
+     */
+    public JsonRpcCodeExceptionMapper(final @NonNull Class<T> exceptionType,
+                                      final @NonNull JsonRpcError.Code code,
+                                      final @NonNull Data errorData) {
+        this(exceptionType, JsonRpcError.of(code), errorData);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param exceptionType Exception class
+     * @param bare          Error without data
+     * @param errorData     Details of the exception in the error data
+     */
+    private JsonRpcCodeExceptionMapper(final Class<T> exceptionType, final JsonRpcError bare, final Data errorData) {
+        this.type = exceptionType;
+        this.error = bare;
+        this.data = errorData;
+    }
+
+    /**
+     * Get mapped exception class.
+     *
+     * @return Exception class
+     */
+    @Override
+    public @NonNull Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Map exception to the error code and message.
+     *
+     * @param throwable Exception
+     * @param detail    Details of the exception allowed in the error data
+     * @return Preallocated error if there is no data, otherwise error with the data
+     */
+    @Override
+    public @NonNull JsonRpcError map(final @NonNull T throwable, final @NonNull ErrorDetail detail) {
+        final String details = data.of(throwable, detail);
+        return details == null
+                ? error
+                : JsonRpcError.builder().code(error.getCode()).message(error.getMessage()).data(details).build();
+    }
+}
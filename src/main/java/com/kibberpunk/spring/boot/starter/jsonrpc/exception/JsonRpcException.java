@@ -2,33 +2,34 @@ package com.kibberpunk.spring.boot.starter.jsonrpc.exception;
 
 /**
  * Common JSON-RPS platform {@link RuntimeException}.
+ * Protocol exceptions are stackless: they are thrown for bad requests, which may come at a high rate,
+ * and their stack trace tells nothing about the failure. The stack trace of the cause is kept.
  *
  * @author kibberpunk
  */
 public class JsonRpcException extends RuntimeException {
 
     /**
-     * Constructs a new runtime exception with {@code null} as its
-     * detail message.  The cause is not initialized, and may subsequently be
-     * initialized by a call to {@link #initCause}.
+     * Constructs a new stackless runtime exception with {@code null} as its
+     * detail message and cause.
      */
     public JsonRpcException() {
+        super(null, null, true, false);
     }
 
     /**
-     * Constructs a new runtime exception with the specified detail message.
-     * The cause is not initialized, and may subsequently be initialized by a
-     * call to {@link #initCause}.
+     * Constructs a new stackless runtime exception with the specified detail message
+     * and {@code null} as its cause.
      *
      * @param message the detail message. The detail message is saved for
      *                later retrieval by the {@link #getMessage()} method.
      */
     public JsonRpcException(final String message) {
-        super(message);
+        super(message, null, true, false);
     }
 
     /**
-     * Constructs a new runtime exception with the specified cause and a
+     * Constructs a new stackless runtime exception with the specified cause and a
      * detail message of {@code (cause==null ? null : cause.toString())}
      * (which typically contains the class and detail message of
      * {@code cause}).  This constructor is useful for runtime exceptions
@@ -41,6 +42,6 @@ public class JsonRpcException extends RuntimeException {
      * @since 1.4
      */
     public JsonRpcException(final Throwable cause) {
-        super(cause);
+        super(cause == null ? null : cause.toString(), cause, true, false);
     }
 }
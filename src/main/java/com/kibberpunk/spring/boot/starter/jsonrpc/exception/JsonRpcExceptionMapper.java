@@ -0,0 +1,108 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.exception;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcExceptionMapping;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties.ErrorDetail;
+import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpcError;
+import lombok.NonNull;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+/**
+ * JSON-RPC exception mapper: maps an exception class and its subclasses to an error.
+ * Mapper beans are collected by {@link JsonRpcExceptionMapperRegistry}, as well as the exception classes
+ * annotated with {@link JsonRpcExceptionMapping}.
+ *
+ * @param <T> Exception type
+ * @author kibberpunk
+ */
+public interface JsonRpcExceptionMapper<T extends Throwable> {
+
+    /**
+     * Create mapper of the exception class to the error code and message.
+     * The error without data is preallocated.
+     *
+     * @param type    Exception class
+     * @param code    Error code
+     * @param message Error message
+     * @param data    Details of the exception in the error data. See {@link Data}
+     * @param <T>     Exception type
+     * @return See {@link JsonRpcCodeExceptionMapper}
+     */
+    @NonNull
+    static <T extends Throwable> JsonRpcExceptionMapper<T> of(final @NonNull Class<T> type,
+                                                             final int code,
+                                                             final @NonNull String message,
+                                                             final @NonNull Data data) {
+        return new JsonRpcCodeExceptionMapper<>(type, code, message, data);
+    }
+
+    /**
+     * Create mapper of the exception class to the standard error code.
+     *
+     * @param type Exception class
+     * @param code Error {@link JsonRpcError.Code}
+     * @param data Details of the exception in the error data. See {@link Data}
+     * @param <T>  Exception type
+     * @return See {@link JsonRpcCodeExceptionMapper}
+     */
+    @NonNull
+    static <T extends Throwable> JsonRpcExceptionMapper<T> of(final @NonNull Class<T> type,
+                                                             final @NonNull JsonRpcError.Code code,
+                                                             final @NonNull Data data) {
+        return new JsonRpcCodeExceptionMapper<>(type, code, data);
+    }
+
+    /**
+     * Get mapped exception class.
+     *
+     * @return Exception class, its subclasses without their own mapper are mapped too
+     */
+    @NonNull
+    Class<T> type();
+
+    /**
+     * Map exception to error.
+     *
+     * @param throwable Exception
+     * @param detail    Details of the exception allowed in the error data. See {@link ErrorDetail}
+     * @return Error
+     */
+    @NonNull
+    JsonRpcError map(@NonNull T throwable, @NonNull ErrorDetail detail);
+
+    /**
+     * Details of the exception in the error data, limited by the {@link ErrorDetail}.
+     */
+    enum Data {
+
+        /**
+         * No data.
+         */
+        NONE,
+
+        /**
+         * Exception message, unless {@link ErrorDetail#NONE}.
+         */
+        MESSAGE,
+
+        /**
+         * Exception stack trace with {@link ErrorDetail#STACKTRACE}, otherwise as {@link #MESSAGE}.
+         */
+        STACKTRACE;
+
+        /**
+         * Get error data of the exception.
+         *
+         * @param throwable Exception
+         * @param detail    Details of the exception allowed in the error data
+         * @return Error data. Null if there are no details
+         */
+        public String of(final @NonNull Throwable throwable, final @NonNull ErrorDetail detail) {
+            if (this == NONE || detail == ErrorDetail.NONE) {
+                return null;
+            }
+            return this == STACKTRACE && detail == ErrorDetail.STACKTRACE
+                    ? ExceptionUtils.getStackTrace(throwable)
+                    : throwable.getMessage();
+        }
+    }
+}
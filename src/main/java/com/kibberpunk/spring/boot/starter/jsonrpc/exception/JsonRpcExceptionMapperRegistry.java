@@ -0,0 +1,154 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.exception;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcExceptionMapping;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties.ErrorDetail;
+import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpcError;
+import com.kibberpunk.spring.boot.starter.jsonrpc.utils.AsyncResultUtils;
+import lombok.NonNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of {@link JsonRpcExceptionMapper}s.
+ * An exception is mapped by the mapper of its class or of the nearest superclass, a {@link JsonRpcExceptionMapper}
+ * bean or a {@link JsonRpcExceptionMapping} annotation. The protocol exceptions are mapped to the standard errors,
+ * other exceptions to {@link JsonRpcError.Code#INTERNAL_ERROR}, unless mapped otherwise.
+ * The mapper is resolved once per exception class, see {@link ClassValue}.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcExceptionMapperRegistry {
+
+    /**
+     * Mappers of the protocol exceptions.
+     */
+    private static final List<JsonRpcExceptionMapper<?>> STANDARD = List.of(
+            JsonRpcExceptionMapper.of(Throwable.class,
+                    JsonRpcError.Code.INTERNAL_ERROR, JsonRpcExceptionMapper.Data.STACKTRACE),
+            JsonRpcExceptionMapper.of(JsonRpcRequestReceivingException.class,
+                    JsonRpcError.Code.PARSE_ERROR, JsonRpcExceptionMapper.Data.STACKTRACE),
+            JsonRpcExceptionMapper.of(JsonRpcEmptyRequestBodyException.class,
+                    JsonRpcError.Code.INVALID_REQUEST, JsonRpcExceptionMapper.Data.NONE),
+            JsonRpcExceptionMapper.of(JsonRpcBatchSizeExceededException.class,
+                    JsonRpcError.Code.INVALID_REQUEST, JsonRpcExceptionMapper.Data.MESSAGE),
+            JsonRpcExceptionMapper.of(JsonRpcMethodNotFoundException.class,
+                    JsonRpcError.Code.METHOD_NOT_FOUND, JsonRpcExceptionMapper.Data.NONE),
+            JsonRpcExceptionMapper.of(JsonRpcParseMethodParameterException.class,
+                    JsonRpcError.Code.INVALID_PARAMS, JsonRpcExceptionMapper.Data.STACKTRACE),
+            JsonRpcExceptionMapper.of(JsonRpcMethodOverloadedException.class,
+                    JsonRpcError.Code.METHOD_OVERLOADED, JsonRpcExceptionMapper.Data.MESSAGE),
+            JsonRpcExceptionMapper.of(JsonRpcMethodTimeoutException.class,
+                    JsonRpcError.Code.METHOD_TIMEOUT, JsonRpcExceptionMapper.Data.MESSAGE),
+            JsonRpcExceptionMapper.of(JsonRpcRequestTimeoutException.class,
+                    JsonRpcError.Code.METHOD_TIMEOUT, JsonRpcExceptionMapper.Data.MESSAGE),
+            JsonRpcExceptionMapper.of(JsonRpcRequestIdNotFoundException.class,
+                    JsonRpcError.Code.REQUEST_ID_IS_EMPTY, JsonRpcExceptionMapper.Data.NONE));
+
+    /**
+     * Registered mappers by exception class.
+     */
+    private final Map<Class<?>, JsonRpcExceptionMapper<?>> mappers = new HashMap<>();
+
+    /**
+     * Resolved mappers by exception class.
+     */
+    private final ClassValue<JsonRpcExceptionMapper<?>> resolved = new ClassValue<>() {
+        @Override
+        protected JsonRpcExceptionMapper<?> computeValue(final Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    /**
+     * Constructor with the protocol exceptions mappers only.
+     */
+    public JsonRpcExceptionMapperRegistry() {
+        this(List.of());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param exceptionMappers Mappers, override the protocol exceptions mappers of the same exception class
+     */
+    public JsonRpcExceptionMapperRegistry(final @NonNull Collection<JsonRpcExceptionMapper<?>> exceptionMappers) {
+        STANDARD.forEach(mapper -> mappers.put(mapper.type(), mapper));
+        exceptionMappers.forEach(mapper -> mappers.put(mapper.type(), mapper));
+    }
+
+    /**
+     * Map exception to error.
+     * The exception is unwrapped first, see {@link #unwrap(Throwable)}.
+     *
+     * @param throwable Exception
+     * @param detail    Details of the exception allowed in the error data. See {@link ErrorDetail}
+     * @return Error
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public JsonRpcError map(final @NonNull Throwable throwable, final @NonNull ErrorDetail detail) {
+        final Throwable failure = unwrap(throwable);
+        return ((JsonRpcExceptionMapper<Throwable>) resolved.get(failure.getClass())).map(failure, detail);
+    }
+
+    /**
+     * Get mapper of the exception class.
+     *
+     * @param type Exception class
+     * @return Mapper of the class or of the nearest mapped superclass
+     */
+    @NonNull
+    public JsonRpcExceptionMapper<?> mapper(final @NonNull Class<? extends Throwable> type) {
+        return resolved.get(type);
+    }
+
+    /**
+     * Unwrap the exception thrown by the method from the reflection and asynchronous results wrappers.
+     *
+     * @param throwable Exception
+     * @return Exception thrown by the method
+     */
+    @NonNull
+    public Throwable unwrap(final @NonNull Throwable throwable) {
+        Throwable failure = AsyncResultUtils.unwrap(throwable);
+        while ((failure instanceof InvocationTargetException || failure instanceof UndeclaredThrowableException)
+                && failure.getCause() != null) {
+            failure = AsyncResultUtils.unwrap(failure.getCause());
+        }
+        return failure;
+    }
+
+    /**
+     * Resolve mapper of the exception class by the class hierarchy.
+     * A class without its own mapper shares the resolved mapper of its superclass.
+     *
+     * @param type Exception class
+     * @return Mapper of the class or of the nearest mapped superclass
+     */
+    private JsonRpcExceptionMapper<?> resolve(final Class<?> type) {
+        return Optional.<JsonRpcExceptionMapper<?>>ofNullable(mappers.get(type))
+                .or(() -> Optional.ofNullable(annotated(type.asSubclass(Throwable.class))))
+                .orElseGet(() -> type.getSuperclass() == null
+                        ? mappers.get(Throwable.class)
+                        : resolved.get(type.getSuperclass()));
+    }
+
+    /**
+     * Create mapper of the exception class by its {@link JsonRpcExceptionMapping}.
+     *
+     * @param type Exception class
+     * @param <T>  Exception type
+     * @return Mapper of the class. Null if the class is not annotated
+     */
+    private static <T extends Throwable> JsonRpcExceptionMapper<T> annotated(final Class<T> type) {
+        return Optional.ofNullable(type.getDeclaredAnnotation(JsonRpcExceptionMapping.class))
+                .map(mapping -> JsonRpcExceptionMapper.of(type, mapping.code(), mapping.message(), mapping.data()))
+                .orElse(null);
+    }
+}
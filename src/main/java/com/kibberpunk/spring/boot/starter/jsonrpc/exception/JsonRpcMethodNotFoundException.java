@@ -12,17 +12,15 @@ import java.lang.reflect.Method;
 public class JsonRpcMethodNotFoundException extends JsonRpcException {
 
     /**
-     * Constructs a new runtime exception with {@code null} as its
-     * detail message.  The cause is not initialized, and may subsequently be
-     * initialized by a call to {@link #initCause}.
+     * Constructs a new stackless runtime exception with {@code null} as its
+     * detail message and cause.
      */
     public JsonRpcMethodNotFoundException() {
     }
 
     /**
-     * Constructs a new runtime exception with the specified detail message.
-     * The cause is not initialized, and may subsequently be initialized by a
-     * call to {@link #initCause}.
+     * Constructs a new stackless runtime exception with the specified detail message
+     * and {@code null} as its cause.
      *
      * @param name Method name
      */
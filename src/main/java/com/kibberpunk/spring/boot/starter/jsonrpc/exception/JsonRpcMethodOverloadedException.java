@@ -0,0 +1,23 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.exception;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.utils.FormatUtils;
+
+/**
+ * JSON-RPC method call rejected by the method bulkhead {@link RuntimeException}.
+ * See {@link com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodBulkhead}
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcMethodOverloadedException extends JsonRpcException {
+
+    /**
+     * Constructs a new runtime exception with the bulkhead detail message.
+     *
+     * @param method             Method name
+     * @param maxConcurrentCalls Maximum number of the method calls executed at the same time
+     */
+    public JsonRpcMethodOverloadedException(final String method, final int maxConcurrentCalls) {
+        super(FormatUtils.format("Method {} is overloaded, {} calls are already executed", method,
+                maxConcurrentCalls));
+    }
+}
@@ -0,0 +1,24 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.exception;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.utils.FormatUtils;
+
+import java.time.Duration;
+
+/**
+ * JSON-RPC method call exceeded the method timeout {@link RuntimeException}.
+ * See {@link com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodTimeout}
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcMethodTimeoutException extends JsonRpcException {
+
+    /**
+     * Constructs a new runtime exception with the timeout detail message.
+     *
+     * @param method  Method name
+     * @param timeout Method timeout
+     */
+    public JsonRpcMethodTimeoutException(final String method, final Duration timeout) {
+        super(FormatUtils.format("Method {} is not completed in {} ms", method, timeout.toMillis()));
+    }
+}
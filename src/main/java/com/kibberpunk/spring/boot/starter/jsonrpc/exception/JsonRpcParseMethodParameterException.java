@@ -10,9 +10,8 @@ import java.lang.reflect.Method;
 public class JsonRpcParseMethodParameterException extends JsonRpcException {
 
     /**
-     * Constructs a new runtime exception with the specified detail message.
-     * The cause is not initialized, and may subsequently be initialized by a
-     * call to {@link #initCause}.
+     * Constructs a new stackless runtime exception with the specified detail message
+     * and {@code null} as its cause.
      *
      * @param message the detail message. The detail message is saved for
      *                later retrieval by the {@link #getMessage()} method.
@@ -0,0 +1,17 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.exception;
+
+/**
+ * JSON-RPC request is not completed in the transport timeout {@link RuntimeException}.
+ * See {@link com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService#expire}
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcRequestTimeoutException extends JsonRpcException {
+
+    /**
+     * Constructs a new runtime exception with the timeout detail message.
+     */
+    public JsonRpcRequestTimeoutException() {
+        super("Request is not completed in the async request timeout");
+    }
+}
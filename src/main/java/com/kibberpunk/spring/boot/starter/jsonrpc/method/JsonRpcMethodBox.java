@@ -0,0 +1,99 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.method;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.springframework.core.MethodParameter;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Loaded JSON-RPC method: {@link Method}, controller object and {@link Method} parameters {@link ImmutableTriple}
+ * with everything compiled for the call once, when the method is loaded.
+ *
+ * @author kibberpunk
+ */
+@Getter
+public class JsonRpcMethodBox extends ImmutableTriple<Method, Object, List<MethodParameter>> {
+
+    /**
+     * Method name. See {@link JsonRpcMethodNameResolver}
+     */
+    private final String name;
+
+    /**
+     * See {@link JsonRpcMethodBulkhead}. Null if the method calls are not limited
+     */
+    private final transient JsonRpcMethodBulkhead bulkhead;
+
+    /**
+     * See {@link JsonRpcMethodTimeout}. Null if the method calls are not limited in time
+     */
+    private final transient JsonRpcMethodTimeout timeout;
+
+    /**
+     * See {@link JsonRpcMethodCache}. Null if the method results are not cached
+     */
+    private final transient JsonRpcMethodCache cache;
+
+    /**
+     * See {@link JsonRpcMethodFlights}. Null if the method calls are not coalesced
+     */
+    private final transient JsonRpcMethodFlights flights;
+
+    /**
+     * Constructor. The method is named by its Java name.
+     *
+     * @param method     Target {@link Method}
+     * @param controller Target {@link Method} controller object
+     * @param parameters {@link Method} parameters
+     */
+    public JsonRpcMethodBox(final @NonNull Method method,
+                            final @NonNull Object controller,
+                            final @NonNull List<MethodParameter> parameters) {
+        this(method.getName(), method, controller, parameters, null, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param methodName     Method name. See {@link JsonRpcMethodNameResolver}
+     * @param method         Target {@link Method}
+     * @param controller     Target {@link Method} controller object
+     * @param parameters     {@link Method} parameters
+     * @param methodBulkhead See {@link JsonRpcMethodBulkhead}. Null if the method calls are not limited
+     * @param methodTimeout  See {@link JsonRpcMethodTimeout}. Null if the method calls are not limited in time
+     */
+    public JsonRpcMethodBox(final @NonNull String methodName,
+                            final @NonNull Method method,
+                            final @NonNull Object controller,
+                            final @NonNull List<MethodParameter> parameters,
+                            final JsonRpcMethodBulkhead methodBulkhead,
+                            final JsonRpcMethodTimeout methodTimeout) {
+        super(method, controller, parameters);
+        this.name = methodName;
+        this.bulkhead = methodBulkhead;
+        this.timeout = methodTimeout;
+        this.cache = null;
+        this.flights = null;
+    }
+
+    /**
+     * Constructor sharing the method results by the request params.
+     *
+     * @param box           Loaded method, its bulkhead and timeout are kept
+     * @param methodCache   See {@link JsonRpcMethodCache}. Null if the method results are not cached
+     * @param methodFlights See {@link JsonRpcMethodFlights}. Null if the method calls are not coalesced
+     */
+    public JsonRpcMethodBox(final @NonNull JsonRpcMethodBox box,
+                            final JsonRpcMethodCache methodCache,
+                            final JsonRpcMethodFlights methodFlights) {
+        super(box.getLeft(), box.getMiddle(), box.getRight());
+        this.name = box.getName();
+        this.bulkhead = box.getBulkhead();
+        this.timeout = box.getTimeout();
+        this.cache = methodCache;
+        this.flights = methodFlights;
+    }
+}
@@ -0,0 +1,158 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.method;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcMethodOverloadedException;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Method bulkhead. Limits the method calls executed at the same time, calls over the limit wait
+ * in a bounded queue and calls over the queue are rejected with {@link JsonRpcMethodOverloadedException}.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcMethodBulkhead {
+
+    /**
+     * Method name.
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * Maximum number of the method calls executed at the same time.
+     */
+    @Getter
+    private final int maxConcurrentCalls;
+
+    /**
+     * Maximum number of the method calls waiting for a permit.
+     */
+    @Getter
+    private final int maxWaitingCalls;
+
+    /**
+     * Maximum time of a waiting call in nanoseconds. 0 - waiting calls wait until a permit is released.
+     */
+    private final long maxWaitNanos;
+
+    /**
+     * Permits of the executed calls. Fair, the waiting calls are executed in the arrival order:
+     * a free permit is taken by the timed {@link Semaphore#tryAcquire(long, TimeUnit)}, which does not barge ahead
+     * of the waiting calls.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Number of the waiting calls.
+     */
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param methodName    Method name
+     * @param maxCalls      Maximum number of the method calls executed at the same time
+     * @param maxWaiting    Maximum number of the method calls waiting for a permit
+     * @param maxWait       Maximum time of a waiting call. Zero - waiting calls wait until a permit is released
+     */
+    public JsonRpcMethodBulkhead(final @NonNull String methodName,
+                                 final int maxCalls,
+                                 final int maxWaiting,
+                                 final @NonNull Duration maxWait) {
+        if (maxCalls <= 0 || maxWaiting < 0 || maxWait.isNegative()) {
+            throw new IllegalArgumentException("Invalid bulkhead of method " + methodName);
+        }
+        this.name = methodName;
+        this.maxConcurrentCalls = maxCalls;
+        this.maxWaitingCalls = maxWaiting;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxCalls, true);
+    }
+
+    /**
+     * Take a permit to execute the method, waiting for it if the queue is not full.
+     * Every taken permit must be released by {@link #release()}.
+     *
+     * @throws JsonRpcMethodOverloadedException If the queue is full, the waiting time is over
+     *                                          or the waiting thread is interrupted
+     */
+    public void acquire() {
+        acquire(true);
+    }
+
+    /**
+     * Take a permit to execute the method. Every taken permit must be released by {@link #release()}.
+     *
+     * @param wait False to take a free permit only, f.e. in a non-blocking thread, see {@link #acquire()}
+     * @throws JsonRpcMethodOverloadedException If there is no free permit and the call can not wait, the queue
+     *                                          is full, the waiting time is over or the waiting thread is interrupted
+     */
+    public void acquire(final boolean wait) {
+        try {
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new JsonRpcMethodOverloadedException(name, maxConcurrentCalls);
+        }
+        if (!wait) {
+            throw new JsonRpcMethodOverloadedException(name, maxConcurrentCalls);
+        }
+        if (waiting.incrementAndGet() > maxWaitingCalls) {
+            waiting.decrementAndGet();
+            throw new JsonRpcMethodOverloadedException(name, maxConcurrentCalls);
+        }
+        try {
+            if (maxWaitNanos == 0) {
+                permits.acquire();
+            } else if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw new JsonRpcMethodOverloadedException(name, maxConcurrentCalls);
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new JsonRpcMethodOverloadedException(name, maxConcurrentCalls);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Check a call would wait for a permit now.
+     *
+     * @return True if every permit is taken
+     */
+    public boolean isSaturated() {
+        return permits.availablePermits() == 0;
+    }
+
+    /**
+     * Release the permit taken by {@link #acquire()}.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * Get number of the method calls executed now.
+     *
+     * @return Number of the executed calls
+     */
+    public int getConcurrentCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    /**
+     * Get number of the method calls waiting for a permit now.
+     *
+     * @return Number of the waiting calls
+     */
+    public int getWaitingCalls() {
+        return waiting.get();
+    }
+}
@@ -0,0 +1,199 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.method;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Method results cache. Results are kept in a bounded cache with time to live, already serialized by
+ * the protocol, by the canonical request params, see {@link #key(String, String)}.
+ * A result older than the refresh age is refreshed ahead of its expiration, by a single call at a time.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcMethodCache {
+
+    /**
+     * Method name.
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * Time to live of a cached result.
+     */
+    @Getter
+    private final Duration ttl;
+
+    /**
+     * Age of a cached result to refresh it. Null if results are not refreshed
+     */
+    @Getter
+    private final Duration refreshAfter;
+
+    /**
+     * Results are cached per {@link java.security.Principal}.
+     */
+    @Getter
+    private final boolean perPrincipal;
+
+    /**
+     * Cached results by key.
+     */
+    private final Cache<String, Entry> cache;
+
+    /**
+     * Constructor.
+     *
+     * @param methodName         Method name
+     * @param resultTtl          Time to live of a cached result
+     * @param maxSize            Maximum number of the cached results
+     * @param resultRefreshAfter Age of a cached result to refresh it. Null or zero if results are not refreshed
+     * @param principalKeyed     Cache results per {@link java.security.Principal}
+     */
+    public JsonRpcMethodCache(final @NonNull String methodName,
+                              final @NonNull Duration resultTtl,
+                              final long maxSize,
+                              final Duration resultRefreshAfter,
+                              final boolean principalKeyed) {
+        if (resultTtl.isNegative() || resultTtl.isZero() || maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid cache of method " + methodName);
+        }
+        this.name = methodName;
+        this.ttl = resultTtl;
+        this.refreshAfter = resultRefreshAfter == null || resultRefreshAfter.isZero()
+                || resultRefreshAfter.isNegative() ? null : resultRefreshAfter;
+        this.perPrincipal = principalKeyed;
+        this.cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(resultTtl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Build cache key.
+     *
+     * @param params    Canonical request params
+     * @param principal Principal name. Ignored if the results are shared, see {@link #isPerPrincipal()}
+     * @return Cache key
+     */
+    @NonNull
+    public String key(final @NonNull String params, final String principal) {
+        return perPrincipal && principal != null ? principal + '\n' + params : params;
+    }
+
+    /**
+     * Get cached result.
+     *
+     * @param key Cache key. See {@link #key(String, String)}
+     * @return Cached {@link Entry}. Null if the result is not cached or expired
+     */
+    public Entry get(final @NonNull String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Cache result.
+     *
+     * @param key    Cache key. See {@link #key(String, String)}
+     * @param result Serialized result
+     */
+    public void put(final @NonNull String key, final Object result) {
+        cache.put(key, new Entry(result, System.nanoTime()));
+    }
+
+    /**
+     * Take refresh of the cached result. The result is refreshed once, until a new result is cached.
+     *
+     * @param entry Cached {@link Entry}
+     * @return true if the result is to be refreshed by the caller
+     */
+    public boolean refresh(final @NonNull Entry entry) {
+        return refreshAfter != null
+                && System.nanoTime() - entry.getCreated() >= refreshAfter.toNanos()
+                && entry.refreshing.compareAndSet(false, true);
+    }
+
+    /**
+     * Give up refresh of the cached result taken by {@link #refresh(Entry)}, f.e. if the call failed.
+     * The result is refreshed again by a next call.
+     *
+     * @param entry Cached {@link Entry}
+     */
+    public void release(final @NonNull Entry entry) {
+        entry.refreshing.set(false);
+    }
+
+    /**
+     * Evict all the cached results of the method.
+     */
+    public void evict() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Get number of the calls answered by cached results.
+     *
+     * @return Number of the hits
+     */
+    public long getHits() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * Get number of the calls not answered by cached results.
+     *
+     * @return Number of the misses
+     */
+    public long getMisses() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * Get number of the cached results.
+     *
+     * @return Approximate number of the cached results
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Cached result.
+     */
+    public static final class Entry {
+
+        /**
+         * Serialized result.
+         */
+        @Getter
+        private final Object result;
+
+        /**
+         * Time of the result by {@link System#nanoTime()}.
+         */
+        @Getter
+        private final long created;
+
+        /**
+         * The result is being refreshed.
+         */
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        /**
+         * Constructor.
+         *
+         * @param cachedResult Serialized result
+         * @param createdNanos Time of the result by {@link System#nanoTime()}
+         */
+        Entry(final Object cachedResult, final long createdNanos) {
+            this.result = cachedResult;
+            this.created = createdNanos;
+        }
+    }
+}
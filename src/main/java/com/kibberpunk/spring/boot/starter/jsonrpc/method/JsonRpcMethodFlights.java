@@ -0,0 +1,116 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.method;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Method calls in flight. A call with the same canonical request params as a call in flight does not execute
+ * the method, but joins the flight and gets its result (single flight).
+ * The flights are kept in a {@link ConcurrentHashMap}, so calls with different params do not contend.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcMethodFlights {
+
+    /**
+     * Method name.
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * Flights are separate per {@link java.security.Principal}, f.e. if the method takes the principal.
+     */
+    @Getter
+    private final boolean perPrincipal;
+
+    /**
+     * Flights by key.
+     */
+    private final Map<String, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Number of the calls joined flights.
+     */
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param methodName     Method name
+     * @param principalKeyed Flights are separate per {@link java.security.Principal}
+     */
+    public JsonRpcMethodFlights(final @NonNull String methodName, final boolean principalKeyed) {
+        this.name = methodName;
+        this.perPrincipal = principalKeyed;
+    }
+
+    /**
+     * Build flight key.
+     *
+     * @param params    Canonical request params
+     * @param principal Principal name. Ignored if the flights are shared, see {@link #isPerPrincipal()}
+     * @return Flight key
+     */
+    @NonNull
+    public String key(final @NonNull String params, final String principal) {
+        return perPrincipal && principal != null ? principal + '\n' + params : params;
+    }
+
+    /**
+     * Take off a flight or join the flight in the air.
+     *
+     * @param key    Flight key. See {@link #key(String, String)}
+     * @param flight Flight of the caller, completed by the caller with the method result
+     * @return Flight in the air to join. Null if the caller took off and must {@link #land(String, CompletableFuture)}
+     */
+    public CompletableFuture<Object> takeOff(final @NonNull String key,
+                                             final @NonNull CompletableFuture<Object> flight) {
+        final CompletableFuture<Object> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            coalesced.increment();
+        }
+        return inFlight;
+    }
+
+    /**
+     * Land the flight taken off by {@link #takeOff(String, CompletableFuture)}, before it is completed.
+     * Calls after landing execute the method again.
+     *
+     * @param key    Flight key
+     * @param flight Flight of the caller
+     */
+    public void land(final @NonNull String key, final @NonNull CompletableFuture<Object> flight) {
+        flights.remove(key, flight);
+    }
+
+    /**
+     * Count call joined a flight outside of {@link #takeOff(String, CompletableFuture)}, f.e. in a batch.
+     */
+    public void join() {
+        coalesced.increment();
+    }
+
+    /**
+     * Get number of the calls joined flights.
+     *
+     * @return Number of the coalesced calls
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Get number of the flights in the air.
+     *
+     * @return Number of the flights
+     */
+    public int size() {
+        return flights.size();
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.core.MethodParameter;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 
 /**
  * {@link Method} loader. Searches for {@link JsonRpcMethod} methods annotated in context classes.
@@ -22,4 +23,13 @@ public interface JsonRpcMethodLoader {
      * @return {@link Method}, controller object and {@link Method} parameters {@link Triple}
      */
     Triple<Method, Object, List<MethodParameter>> get(@NonNull String name);
+
+    /**
+     * Get all loaded methods.
+     *
+     * @return Loaded methods by specific name. Null if the loader can not list its methods
+     */
+    default Map<String, Triple<Method, Object, List<MethodParameter>>> methods() {
+        return null;
+    }
 }
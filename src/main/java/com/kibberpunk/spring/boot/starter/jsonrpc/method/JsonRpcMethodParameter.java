@@ -0,0 +1,274 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.method;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.base.Defaults;
+import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcRequestId;
+import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcRequestObject;
+import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcRequestObjectParameter;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.security.Principal;
+import java.util.Optional;
+
+/**
+ * {@link Method} parameter with the binding plan compiled once, when the method is loaded.
+ * The plan holds everything the request path needs: the value {@link Source}, the generic target {@link JavaType}
+ * with its {@link ObjectReader} and the resolved simple type conversion,
+ * so no annotations, types or converters are looked up per call.
+ *
+ * @author kibberpunk
+ */
+@Getter
+public class JsonRpcMethodParameter extends MethodParameter {
+
+    /**
+     * String {@link TypeDescriptor}, the source type of simple type conversions.
+     */
+    public static final TypeDescriptor STRING_TYPE = TypeDescriptor.valueOf(String.class);
+
+    /**
+     * See {@link Source}.
+     */
+    private final Source source;
+
+    /**
+     * Request object parameter name. See {@link JsonRpcRequestObjectParameter#value()}
+     */
+    private final String name;
+
+    /**
+     * Request id is required. See {@link JsonRpcRequestId#required()}
+     */
+    private final boolean required;
+
+    /**
+     * Parameter type is a simple value type converted from text. See {@link ClassUtils#isSimpleValueType(Class)}
+     */
+    private final boolean simple;
+
+    /**
+     * Target {@link JavaType} of complex type deserialization.
+     * Generic, so f.e. {@code List<Request>} is read as a list of requests, not of maps.
+     */
+    private final JavaType javaType;
+
+    /**
+     * {@link ObjectReader} of {@link #javaType}.
+     */
+    private final ObjectReader reader;
+
+    /**
+     * Target {@link TypeDescriptor} of simple type conversion.
+     */
+    private final TypeDescriptor typeDescriptor;
+
+    /**
+     * Simple type read straight from a JSON scalar, bypassing the {@link ConversionService}. See {@link Scalar}
+     */
+    private final Scalar scalar;
+
+    /**
+     * Simple type can be converted from text by the {@link ConversionService}.
+     */
+    private final boolean convertible;
+
+    /**
+     * Simple type value of an absent or not convertible parameter.
+     */
+    private final Object defaultValue;
+
+    /**
+     * Constructor. Compiles the binding plan of the parameter.
+     * Type variables of the parameter type are resolved against {@link MethodParameter#getContainingClass()}.
+     *
+     * @param parameter         Original {@link MethodParameter}
+     * @param objectMapper      {@link ObjectMapper} resolving the target {@link JavaType} and reading it
+     * @param conversionService {@link ConversionService} of simple type conversions
+     */
+    public JsonRpcMethodParameter(
+            final @NonNull MethodParameter parameter,
+            final @NonNull ObjectMapper objectMapper,
+            final @NonNull ConversionService conversionService) {
+        this(parameter, parameter.getContainingClass(), objectMapper, conversionService);
+    }
+
+    /**
+     * Constructor. Compiles the binding plan of the parameter.
+     *
+     * @param parameter         Original {@link MethodParameter}
+     * @param controllerClass   Controller class resolving type variables of the parameter type
+     * @param objectMapper      {@link ObjectMapper} resolving the target {@link JavaType} and reading it
+     * @param conversionService {@link ConversionService} of simple type conversions
+     */
+    public JsonRpcMethodParameter(
+            final @NonNull MethodParameter parameter,
+            final @NonNull Class<?> controllerClass,
+            final @NonNull ObjectMapper objectMapper,
+            final @NonNull ConversionService conversionService) {
+        super(parameter);
+        this.source = Source.of(parameter);
+        this.name = Optional.ofNullable(parameter.getParameterAnnotation(JsonRpcRequestObjectParameter.class))
+                .map(JsonRpcRequestObjectParameter::value)
+                .orElse(null);
+        this.required = Optional.ofNullable(parameter.getParameterAnnotation(JsonRpcRequestId.class))
+                .map(JsonRpcRequestId::required)
+                .orElse(false);
+        this.simple = ClassUtils.isSimpleValueType(getParameterType());
+        this.javaType = objectMapper.getTypeFactory().constructType(
+                GenericTypeResolver.resolveType(getGenericParameterType(), controllerClass));
+        this.reader = objectMapper.readerFor(javaType);
+        this.typeDescriptor = new TypeDescriptor(this);
+        this.scalar = Scalar.of(getParameterType());
+        this.convertible = conversionService.canConvert(STRING_TYPE, typeDescriptor);
+        this.defaultValue = Defaults.defaultValue(getParameterType());
+    }
+
+    /**
+     * Source of the parameter value.
+     */
+    public enum Source {
+
+        /**
+         * Request id. See {@link JsonRpcRequestId}
+         */
+        ID,
+
+        /**
+         * Whole request params. See {@link JsonRpcRequestObject}
+         */
+        REQUEST_OBJECT,
+
+        /**
+         * Request params member by name. See {@link JsonRpcRequestObjectParameter}
+         */
+        REQUEST_OBJECT_PARAMETER,
+
+        /**
+         * {@link Principal} of the request.
+         */
+        PRINCIPAL,
+
+        /**
+         * {@link JsonRpcTransportRequest} of the request.
+         */
+        TRANSPORT_REQUEST,
+
+        /**
+         * {@code HttpServletRequest} of the request. Null if the request is not received by the servlet transport.
+         */
+        HTTP_SERVLET_REQUEST,
+
+        /**
+         * Parameter is not bound, it gets the default value.
+         */
+        NONE;
+
+        /**
+         * Class name of {@code HttpServletRequest}, the servlet API is an optional dependency.
+         */
+        private static final String HTTP_SERVLET_REQUEST_CLASS = "jakarta.servlet.http.HttpServletRequest";
+
+        /**
+         * Check the source is a system parameter taken from the request, not from the JSON-RPC body.
+         *
+         * @return true for {@link #PRINCIPAL}, {@link #TRANSPORT_REQUEST} and {@link #HTTP_SERVLET_REQUEST}
+         */
+        public boolean isSystem() {
+            return this == PRINCIPAL || this == TRANSPORT_REQUEST || this == HTTP_SERVLET_REQUEST;
+        }
+
+        /**
+         * Resolve source of the parameter by its type and annotations.
+         *
+         * @param parameter See {@link MethodParameter}
+         * @return Source of the parameter value
+         */
+        @NonNull
+        public static Source of(final @NonNull MethodParameter parameter) {
+            if (parameter.getParameterType() == Principal.class) {
+                return PRINCIPAL;
+            } else if (parameter.getParameterType() == JsonRpcTransportRequest.class) {
+                return TRANSPORT_REQUEST;
+            } else if (parameter.getParameterType().getName().equals(HTTP_SERVLET_REQUEST_CLASS)) {
+                return HTTP_SERVLET_REQUEST;
+            } else if (parameter.hasParameterAnnotation(JsonRpcRequestId.class)) {
+                return ID;
+            } else if (parameter.hasParameterAnnotation(JsonRpcRequestObject.class)) {
+                return REQUEST_OBJECT;
+            } else if (parameter.hasParameterAnnotation(JsonRpcRequestObjectParameter.class)) {
+                return REQUEST_OBJECT_PARAMETER;
+            }
+            return NONE;
+        }
+    }
+
+    /**
+     * Simple type read straight from the JSON scalar of the matching kind.
+     * Other values of the type are still converted from text by the {@link ConversionService}.
+     */
+    public enum Scalar {
+
+        /**
+         * int or {@link Integer} from an integral number within int range.
+         */
+        INT,
+
+        /**
+         * long or {@link Long} from an integral number within long range.
+         */
+        LONG,
+
+        /**
+         * double or {@link Double} from any number.
+         */
+        DOUBLE,
+
+        /**
+         * boolean or {@link Boolean} from true or false.
+         */
+        BOOLEAN,
+
+        /**
+         * {@link String} from a string.
+         */
+        STRING,
+
+        /**
+         * Not read straight from JSON.
+         */
+        NONE;
+
+        /**
+         * Resolve scalar of the parameter type.
+         *
+         * @param type Parameter type
+         * @return Scalar of the type or {@link #NONE}
+         */
+        @NonNull
+        public static Scalar of(final @NonNull Class<?> type) {
+            final Class<?> wrapper = ClassUtils.resolvePrimitiveIfNecessary(type);
+            if (wrapper == Integer.class) {
+                return INT;
+            } else if (wrapper == Long.class) {
+                return LONG;
+            } else if (wrapper == Double.class) {
+                return DOUBLE;
+            } else if (wrapper == Boolean.class) {
+                return BOOLEAN;
+            } else if (wrapper == String.class) {
+                return STRING;
+            }
+            return NONE;
+        }
+    }
+}
@@ -22,4 +22,27 @@ public interface JsonRpcMethodProvider {
      * @return Mapped by {@link JsonRpcMethod} by name with controller object and {@link Method} parameters
      */
     Triple<Method, Object, List<MethodParameter>> get(@NonNull String name);
+
+    /**
+     * Get immutable dispatch table of all provided methods, resolving method names without allocating strings.
+     *
+     * @return See {@link JsonRpcMethodTable}. Null if the provider can not list its methods
+     */
+    default JsonRpcMethodTable table() {
+        return null;
+    }
+
+    /**
+     * Evict all the cached results of the method. See {@link JsonRpcMethodCache}
+     *
+     * @param name Method name
+     * @return true if the method results are cached
+     */
+    default boolean evict(final @NonNull String name) {
+        if (get(name) instanceof JsonRpcMethodBox box && box.getCache() != null) {
+            box.getCache().evict();
+            return true;
+        }
+        return false;
+    }
 }
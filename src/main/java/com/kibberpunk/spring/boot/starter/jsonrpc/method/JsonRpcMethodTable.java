@@ -0,0 +1,182 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.method;
+
+import lombok.NonNull;
+import org.apache.commons.lang3.tuple.Triple;
+import org.springframework.core.MethodParameter;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable method dispatch table. An open addressing hash table over the method names, built once from
+ * the methods index. Method names are resolved straight from parser characters, without allocating a string.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcMethodTable {
+
+    /**
+     * Method name hash multiplier, the same as of {@link String#hashCode()}.
+     */
+    private static final int HASH_MULTIPLIER = 31;
+
+    /**
+     * Shift spreading higher hash bits to the slot index.
+     */
+    private static final int HASH_SPREAD_SHIFT = 16;
+
+    /**
+     * Method names by slot. Null slots are free.
+     */
+    private final String[] names;
+
+    /**
+     * Method name hashes by slot.
+     */
+    private final int[] hashes;
+
+    /**
+     * Methods by slot.
+     */
+    private final Object[] methods;
+
+    /**
+     * Slot index mask, the table size is a power of two.
+     */
+    private final int mask;
+
+    /**
+     * Constructor. The table is kept at most half full.
+     *
+     * @param index Methods index by name. See {@link JsonRpcMethodLoader}
+     */
+    public JsonRpcMethodTable(
+            final @NonNull Map<String, ? extends Triple<Method, Object, List<MethodParameter>>> index) {
+        final int size = Integer.highestOneBit(Math.max(index.size(), 1) * 2 - 1) * 2;
+        this.names = new String[size];
+        this.hashes = new int[size];
+        this.methods = new Object[size];
+        this.mask = size - 1;
+        index.forEach((name, method) -> {
+            final int hash = name.hashCode();
+            int slot = spread(hash) & mask;
+            while (names[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            names[slot] = name;
+            hashes[slot] = hash;
+            methods[slot] = method;
+        });
+    }
+
+    /**
+     * Find method slot by name.
+     *
+     * @param name Method name
+     * @return Method slot or -1 if there is no such method
+     */
+    public int index(final @NonNull String name) {
+        final int hash = name.hashCode();
+        for (int slot = spread(hash) & mask; names[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && names[slot].equals(name)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find method slot by name characters, f.e. straight from the parser text buffer.
+     * Surrounding whitespace is ignored, as of the request method name.
+     *
+     * @param chars  Characters buffer
+     * @param offset Name offset in the buffer
+     * @param length Name length
+     * @return Method slot or -1 if there is no such method or the name is blank
+     */
+    public int index(final @NonNull char[] chars, final int offset, final int length) {
+        int start = offset;
+        int end = offset + length;
+        while (start < end && chars[start] <= ' ') {
+            start++;
+        }
+        while (end > start && chars[end - 1] <= ' ') {
+            end--;
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = HASH_MULTIPLIER * hash + chars[i];
+        }
+        for (int slot = spread(hash) & mask; names[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && matches(names[slot], chars, start, end)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get method name by slot.
+     *
+     * @param slot Method slot. See {@link #index(String)}
+     * @return Method name
+     */
+    public String name(final int slot) {
+        return names[slot];
+    }
+
+    /**
+     * Get method by slot.
+     *
+     * @param slot Method slot. See {@link #index(String)}
+     * @return {@link Method}, controller object and {@link Method} parameters {@link Triple}
+     */
+    @SuppressWarnings("unchecked")
+    public Triple<Method, Object, List<MethodParameter>> method(final int slot) {
+        return (Triple<Method, Object, List<MethodParameter>>) methods[slot];
+    }
+
+    /**
+     * Get method by name.
+     *
+     * @param name Method name
+     * @return {@link Method}, controller object and {@link Method} parameters {@link Triple}.
+     * Null if there is no such method
+     */
+    public Triple<Method, Object, List<MethodParameter>> get(final @NonNull String name) {
+        final int slot = index(name);
+        return slot < 0 ? null : method(slot);
+    }
+
+    /**
+     * Compare method name to characters.
+     *
+     * @param name  Method name
+     * @param chars Characters buffer
+     * @param start Start of the characters, inclusive
+     * @param end   End of the characters, exclusive
+     * @return true if the name consists of the characters
+     */
+    private static boolean matches(final String name, final char[] chars, final int start, final int end) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (name.charAt(i - start) != chars[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Spread higher hash bits to the lower ones used as the slot index.
+     *
+     * @param hash Method name hash
+     * @return Spread hash
+     */
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> HASH_SPREAD_SHIFT);
+    }
+}
@@ -0,0 +1,149 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.method;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcMethodTimeoutException;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Method timeout. A call exceeding the timeout is interrupted by its {@link Watch} and fails with
+ * {@link JsonRpcMethodTimeoutException}, expired calls are counted.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcMethodTimeout {
+
+    /**
+     * Method name.
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * Method timeout.
+     */
+    @Getter
+    private final Duration timeout;
+
+    /**
+     * Number of the expired calls.
+     */
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param methodName    Method name
+     * @param methodTimeout Method timeout
+     */
+    public JsonRpcMethodTimeout(final @NonNull String methodName, final @NonNull Duration methodTimeout) {
+        if (methodTimeout.isNegative() || methodTimeout.isZero()) {
+            throw new IllegalArgumentException("Invalid timeout of method " + methodName);
+        }
+        this.name = methodName;
+        this.timeout = methodTimeout;
+    }
+
+    /**
+     * Count the expired call.
+     */
+    public void expire() {
+        expirations.increment();
+    }
+
+    /**
+     * Create exception of the expired call.
+     *
+     * @return {@link JsonRpcMethodTimeoutException} to fail the call with
+     */
+    @NonNull
+    public JsonRpcMethodTimeoutException exception() {
+        return new JsonRpcMethodTimeoutException(name, timeout);
+    }
+
+    /**
+     * Get number of the expired calls.
+     *
+     * @return Number of the expired calls
+     */
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    /**
+     * Watch of a call executed by a thread. Run by a scheduler when the timeout is over, interrupts the thread
+     * if the call is still executed. The interrupt never leaks out of the call: the thread completes the call
+     * by {@link #complete()}, which clears the interrupt of an expired call.
+     */
+    public static class Watch implements Runnable {
+
+        /**
+         * The call is executed.
+         */
+        private static final int RUNNING = 0;
+
+        /**
+         * The call is completed in time.
+         */
+        private static final int COMPLETED = 1;
+
+        /**
+         * The thread is being interrupted.
+         */
+        private static final int INTERRUPTING = 2;
+
+        /**
+         * The call is expired, the thread is interrupted.
+         */
+        private static final int EXPIRED = 3;
+
+        /**
+         * Thread executing the call.
+         */
+        private final Thread thread;
+
+        /**
+         * Call state.
+         */
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+        /**
+         * Constructor.
+         *
+         * @param callThread Thread executing the call
+         */
+        public Watch(final @NonNull Thread callThread) {
+            this.thread = callThread;
+        }
+
+        /**
+         * Interrupt the thread if the call is still executed.
+         */
+        @Override
+        public void run() {
+            if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+                thread.interrupt();
+                state.set(EXPIRED);
+            }
+        }
+
+        /**
+         * Complete the call. Must be called by the thread executing the call.
+         *
+         * @return true if the call is completed in time, false if it is expired
+         */
+        public boolean complete() {
+            if (state.compareAndSet(RUNNING, COMPLETED)) {
+                return true;
+            }
+            while (state.get() == INTERRUPTING) {
+                Thread.onSpinWait();
+            }
+            Thread.interrupted();
+            return false;
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.kibberpunk.spring.boot.starter.jsonrpc.method.impl;
 
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodNameResolver;
 import lombok.NonNull;
-import org.springdoc.core.utils.Constants;
 import org.springframework.core.ParameterizedTypeReference;
 
 import java.lang.reflect.Method;
@@ -17,6 +16,11 @@ import static org.apache.commons.lang3.ObjectUtils.isEmpty;
  */
 public class JsonRpcControllerDotMethodNameResolver implements JsonRpcMethodNameResolver {
 
+    /**
+     * Controller bean name and method name separator.
+     */
+    public static final String DOT = ".";
+
     /**
      * Resolve method name.
      *
@@ -38,6 +42,6 @@ public class JsonRpcControllerDotMethodNameResolver implements JsonRpcMethodName
         if (isEmpty(controllerBeanNames) || isEmpty(methodName)) {
             throw new IllegalArgumentException();
         }
-        return controllerBeanNames[0] + Constants.DOT + methodName;
+        return controllerBeanNames[0] + DOT + methodName;
     }
 }
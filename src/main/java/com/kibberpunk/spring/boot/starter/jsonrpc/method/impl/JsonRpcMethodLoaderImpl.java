@@ -1,25 +1,38 @@
 package com.kibberpunk.spring.boot.starter.jsonrpc.method.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcCacheable;
 import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcController;
 import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcMethod;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodBox;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodBulkhead;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodCache;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodFlights;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodLoader;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodParameter;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodTimeout;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodNameResolver;
 import com.kibberpunk.spring.boot.starter.jsonrpc.utils.FormatUtils;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.apache.commons.lang3.tuple.Triple;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.security.Principal;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,13 +55,66 @@ public class JsonRpcMethodLoaderImpl implements JsonRpcMethodLoader {
     private final Map<String, Triple<Method, Object, List<MethodParameter>>> index;
 
     /**
-     * Constructor.
+     * {@link ObjectMapper} of the parameters binding plans. See {@link JsonRpcMethodParameter}
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * {@link ConversionService} of the parameters binding plans. See {@link JsonRpcMethodParameter}
+     */
+    private final ConversionService conversionService;
+
+    /**
+     * Methods options overriding the {@link JsonRpcMethod} attributes.
+     * See {@link JsonRpcConfigurationProperties#getMethods()}
+     */
+    private final Map<String, JsonRpcConfigurationProperties.MethodOptions> methodOptions;
+
+    /**
+     * Constructor. Parameters binding plans are compiled with default {@link ObjectMapper} and
+     * {@link ConversionService}.
      *
      * @param nameResolver {@link JsonRpcMethodNameResolver}
      * @param beanFactory  {@link ListableBeanFactory}
      */
     public JsonRpcMethodLoaderImpl(final @NonNull JsonRpcMethodNameResolver nameResolver,
                                    final @NonNull ListableBeanFactory beanFactory) {
+        this(nameResolver, beanFactory, new ObjectMapper(), DefaultConversionService.getSharedInstance());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nameResolver             {@link JsonRpcMethodNameResolver}
+     * @param beanFactory              {@link ListableBeanFactory}
+     * @param bindingObjectMapper      {@link ObjectMapper} of the parameters binding plans
+     * @param bindingConversionService {@link ConversionService} of the parameters binding plans
+     */
+    public JsonRpcMethodLoaderImpl(final @NonNull JsonRpcMethodNameResolver nameResolver,
+                                   final @NonNull ListableBeanFactory beanFactory,
+                                   final @NonNull ObjectMapper bindingObjectMapper,
+                                   final @NonNull ConversionService bindingConversionService) {
+        this(nameResolver, beanFactory, bindingObjectMapper, bindingConversionService,
+                new JsonRpcConfigurationProperties());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nameResolver             {@link JsonRpcMethodNameResolver}
+     * @param beanFactory              {@link ListableBeanFactory}
+     * @param bindingObjectMapper      {@link ObjectMapper} of the parameters binding plans
+     * @param bindingConversionService {@link ConversionService} of the parameters binding plans
+     * @param properties               See {@link JsonRpcConfigurationProperties#getMethods()}
+     */
+    public JsonRpcMethodLoaderImpl(final @NonNull JsonRpcMethodNameResolver nameResolver,
+                                   final @NonNull ListableBeanFactory beanFactory,
+                                   final @NonNull ObjectMapper bindingObjectMapper,
+                                   final @NonNull ConversionService bindingConversionService,
+                                   final @NonNull JsonRpcConfigurationProperties properties) {
+        this.objectMapper = bindingObjectMapper;
+        this.conversionService = bindingConversionService;
+        this.methodOptions = properties.getMethods();
         this.index = load(nameResolver, beanFactory.getBeansWithAnnotation(JsonRpcController.class));
     }
 
@@ -63,6 +129,16 @@ public class JsonRpcMethodLoaderImpl implements JsonRpcMethodLoader {
         return index.get(name);
     }
 
+    /**
+     * Get all loaded methods.
+     *
+     * @return Unmodifiable methods index
+     */
+    @Override
+    public Map<String, Triple<Method, Object, List<MethodParameter>>> methods() {
+        return Collections.unmodifiableMap(index);
+    }
+
     /**
      * Load methods.
      *
@@ -78,12 +154,13 @@ public class JsonRpcMethodLoaderImpl implements JsonRpcMethodLoader {
             controllers.forEach((controllerName, controller) ->
                     Arrays.stream(AopUtils.getTargetClass(controller).getMethods()).forEach(method -> {
                         if (isCandidate(method)) {
-                            if (isEmpty(map.put(methodNameResolver.resolve(
+                            final String name = methodNameResolver.resolve(
                                     new String[]{controllerName},
                                     method.getName(),
                                     AopUtils.getTargetClass(controller),
                                     controller,
-                                    method), box(method, controller)))) {
+                                    method);
+                            if (isEmpty(map.put(name, box(name, method, controller)))) {
                                 log.debug("Method {} from controller {} was added to JSON-RPC index",
                                         method.getName(), controller.getClass());
                             } else {
@@ -110,23 +187,117 @@ public class JsonRpcMethodLoaderImpl implements JsonRpcMethodLoader {
 
     /**
      * Box {@link Method}, controller object and {@link Method} parameters to index {@link Triple}.
+     * Every parameter is compiled to its binding plan here, see {@link JsonRpcMethodParameter},
+     * and the method bulkhead, timeout, cache and flights are created, see {@link #bulkhead(String, Method)},
+     * {@link #timeout(String, Method)}, {@link #cache(String, Method)} and {@link #flights(String, Method)}.
      *
+     * @param name       Method name. See {@link JsonRpcMethodNameResolver}
      * @param method     Target {@link Method}
      * @param controller Target {@link Method} controller object
-     * @return {@link Triple} with {@link Method}, controller object and {@link Method} parameters
+     * @return {@link JsonRpcMethodBox} with {@link Method}, controller object and {@link Method} parameters
      */
     @NonNull
-    protected Triple<Method, Object, List<MethodParameter>> box(
-            final @NonNull Method method, final @NonNull Object controller) {
-        return ImmutableTriple.of(method, controller,
+    protected JsonRpcMethodBox box(
+            final @NonNull String name,
+            final @NonNull Method method,
+            final @NonNull Object controller) {
+        return new JsonRpcMethodBox(new JsonRpcMethodBox(name, method, controller,
                 List.of(Optional.of(new MethodParameter[method.getParameterCount()])
                         .map(parameters -> {
                             for (int i = 0; i < parameters.length; i++) {
-                                parameters[i] = new OptimizedMethodParameter(method, i);
+                                parameters[i] = new JsonRpcMethodParameter(new OptimizedMethodParameter(method, i),
+                                        AopUtils.getTargetClass(controller), objectMapper, conversionService);
                             }
                             return parameters;
                         })
-                        .orElseThrow()));
+                        .orElseThrow()),
+                bulkhead(name, method),
+                timeout(name, method)),
+                cache(name, method),
+                flights(name, method));
+    }
+
+    /**
+     * Create the method flights by {@link JsonRpcMethod} attributes and {@link #methodOptions}.
+     * Flights of a method taking {@link Principal} are separate per principal.
+     *
+     * @param name   Method name. See {@link JsonRpcMethodNameResolver}
+     * @param method Target {@link Method}
+     * @return {@link JsonRpcMethodFlights}. Null if the method calls are not coalesced
+     */
+    protected JsonRpcMethodFlights flights(final @NonNull String name, final @NonNull Method method) {
+        final JsonRpcMethod annotation = AnnotationUtils.findAnnotation(method, JsonRpcMethod.class);
+        return Optional.ofNullable(methodOptions.get(name))
+                .map(JsonRpcConfigurationProperties.MethodOptions::getCoalesceCalls)
+                .or(() -> Optional.ofNullable(annotation).map(JsonRpcMethod::coalesceCalls))
+                .filter(Boolean::booleanValue)
+                .map(coalesced -> new JsonRpcMethodFlights(name, Arrays.stream(method.getParameterTypes())
+                        .anyMatch(Principal.class::isAssignableFrom)))
+                .orElse(null);
+    }
+
+    /**
+     * Create the method results cache by {@link JsonRpcCacheable} attributes and {@link #methodOptions}.
+     *
+     * @param name   Method name. See {@link JsonRpcMethodNameResolver}
+     * @param method Target {@link Method}
+     * @return {@link JsonRpcMethodCache}. Null if the method is not {@link JsonRpcCacheable}
+     */
+    protected JsonRpcMethodCache cache(final @NonNull String name, final @NonNull Method method) {
+        final JsonRpcCacheable annotation = AnnotationUtils.findAnnotation(method, JsonRpcCacheable.class);
+        if (annotation == null) {
+            return null;
+        }
+        final Optional<JsonRpcConfigurationProperties.MethodOptions> options =
+                Optional.ofNullable(methodOptions.get(name));
+        return new JsonRpcMethodCache(name,
+                options.map(JsonRpcConfigurationProperties.MethodOptions::getCacheTtl)
+                        .orElseGet(() -> Duration.ofMillis(annotation.ttlMillis())),
+                options.map(JsonRpcConfigurationProperties.MethodOptions::getCacheMaxSize)
+                        .orElseGet(annotation::maxSize),
+                options.map(JsonRpcConfigurationProperties.MethodOptions::getCacheRefreshAfter)
+                        .orElseGet(() -> Duration.ofMillis(annotation.refreshAfterMillis())),
+                annotation.perPrincipal());
+    }
+
+    /**
+     * Create the method timeout by {@link JsonRpcMethod} attributes and {@link #methodOptions}.
+     *
+     * @param name   Method name. See {@link JsonRpcMethodNameResolver}
+     * @param method Target {@link Method}
+     * @return {@link JsonRpcMethodTimeout}. Null if the method calls are not limited in time
+     */
+    protected JsonRpcMethodTimeout timeout(final @NonNull String name, final @NonNull Method method) {
+        final JsonRpcMethod annotation = AnnotationUtils.findAnnotation(method, JsonRpcMethod.class);
+        return Optional.ofNullable(methodOptions.get(name))
+                .map(JsonRpcConfigurationProperties.MethodOptions::getTimeout)
+                .or(() -> Optional.ofNullable(annotation).map(found -> Duration.ofMillis(found.timeoutMillis())))
+                .filter(timeout -> !timeout.isZero() && !timeout.isNegative())
+                .map(timeout -> new JsonRpcMethodTimeout(name, timeout))
+                .orElse(null);
+    }
+
+    /**
+     * Create the method bulkhead by {@link JsonRpcMethod} attributes and {@link #methodOptions}.
+     *
+     * @param name   Method name. See {@link JsonRpcMethodNameResolver}
+     * @param method Target {@link Method}
+     * @return {@link JsonRpcMethodBulkhead}. Null if the method calls are not limited
+     */
+    protected JsonRpcMethodBulkhead bulkhead(final @NonNull String name, final @NonNull Method method) {
+        final JsonRpcMethod annotation = AnnotationUtils.findAnnotation(method, JsonRpcMethod.class);
+        final Optional<JsonRpcConfigurationProperties.MethodOptions> options =
+                Optional.ofNullable(methodOptions.get(name));
+        final int maxConcurrentCalls = options.map(JsonRpcConfigurationProperties.MethodOptions::getMaxConcurrentCalls)
+                .orElseGet(() -> annotation == null ? 0 : annotation.maxConcurrentCalls());
+        if (maxConcurrentCalls <= 0) {
+            return null;
+        }
+        return new JsonRpcMethodBulkhead(name, maxConcurrentCalls,
+                options.map(JsonRpcConfigurationProperties.MethodOptions::getMaxWaitingCalls)
+                        .orElseGet(() -> annotation == null ? 0 : annotation.maxWaitingCalls()),
+                options.map(JsonRpcConfigurationProperties.MethodOptions::getMaxWait)
+                        .orElseGet(() -> Duration.ofMillis(annotation == null ? 0 : annotation.maxWaitMillis())));
     }
 
     /**
@@ -3,16 +3,17 @@ package com.kibberpunk.spring.boot.starter.jsonrpc.method.impl;
 import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcMethod;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodLoader;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodProvider;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodTable;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Triple;
 import org.springframework.core.MethodParameter;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Optional;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -24,7 +25,6 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  */
 @Slf4j
 @Getter(AccessLevel.PROTECTED)
-@RequiredArgsConstructor
 public class JsonRpcMethodProviderImpl implements JsonRpcMethodProvider {
 
     /**
@@ -32,6 +32,21 @@ public class JsonRpcMethodProviderImpl implements JsonRpcMethodProvider {
      */
     private final JsonRpcMethodLoader loader;
 
+    /**
+     * Dispatch table of the loaded methods. Null if the loader can not list its methods
+     */
+    private final JsonRpcMethodTable table;
+
+    /**
+     * Constructor. The dispatch table is built once from the loaded methods.
+     *
+     * @param methodLoader See {@link JsonRpcMethodLoader}
+     */
+    public JsonRpcMethodProviderImpl(final @NonNull JsonRpcMethodLoader methodLoader) {
+        this.loader = methodLoader;
+        this.table = Optional.ofNullable(methodLoader.methods()).map(JsonRpcMethodTable::new).orElse(null);
+    }
+
     /**
      * Get mapped by {@link JsonRpcMethod} by name.
      *
@@ -44,6 +59,16 @@ public class JsonRpcMethodProviderImpl implements JsonRpcMethodProvider {
             log.warn("Method name should be not blank");
             return null;
         }
-        return loader.get(name);
+        return table != null ? table.get(name) : loader.get(name);
+    }
+
+    /**
+     * Get immutable dispatch table of the loaded methods.
+     *
+     * @return See {@link JsonRpcMethodTable}. Null if the loader can not list its methods
+     */
+    @Override
+    public JsonRpcMethodTable table() {
+        return table;
     }
 }
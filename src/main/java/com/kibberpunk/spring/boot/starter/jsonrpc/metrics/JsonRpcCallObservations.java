@@ -0,0 +1,140 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.metrics;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcCallObserver;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcServiceListener;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * JSON-RPC calls Micrometer {@link Observation}s, f.e. traced as spans by Micrometer Tracing.
+ * Every call is observed as {@link #CALL_OBSERVATION} named after the called method, with the method name and
+ * the response error code low cardinality key values and the request id high cardinality key value.
+ * <p>
+ * Calls are the children of the observation current in the request thread, f.e. the HTTP server request
+ * observation, also when they are executed by other threads (batch elements, virtual threads).
+ *
+ * @author kibberpunk
+ */
+@RequiredArgsConstructor
+public class JsonRpcCallObservations implements JsonRpcCallObserver {
+
+    /**
+     * Call observation name.
+     */
+    public static final String CALL_OBSERVATION = "json.rpc.call";
+
+    /**
+     * Method name key. See {@link JsonRpcServiceListener#UNKNOWN_METHOD}
+     */
+    public static final String METHOD_KEY = "json.rpc.method";
+
+    /**
+     * Response error code key.
+     */
+    public static final String ERROR_CODE_KEY = "json.rpc.error.code";
+
+    /**
+     * Request id key.
+     */
+    public static final String REQUEST_ID_KEY = "json.rpc.request.id";
+
+    /**
+     * Error code value of the succeeded calls.
+     */
+    public static final String NO_ERROR_CODE = "none";
+
+    /**
+     * Request attribute of the parent {@link Observation}.
+     */
+    private static final String PARENT_ATTRIBUTE = JsonRpcCallObservations.class.getName() + ".parent";
+
+    /**
+     * See {@link ObservationRegistry}.
+     */
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * Capture the current observation of the request thread as the parent of the calls.
+     *
+     * @param request See {@link JsonRpcTransportRequest}
+     */
+    @Override
+    public void received(final @NonNull JsonRpcTransportRequest request) {
+        Optional.ofNullable(observationRegistry.getCurrentObservation())
+                .ifPresent(parent -> request.setAttribute(PARENT_ATTRIBUTE, parent));
+    }
+
+    /**
+     * Start call {@link Observation}.
+     *
+     * @param method  Method name
+     * @param id      Request id
+     * @param request See {@link JsonRpcTransportRequest}
+     * @return {@link JsonRpcCallObserver.Call} of the started {@link Observation}
+     */
+    @Override
+    @NonNull
+    public Call start(final @NonNull String method, final String id, final @NonNull JsonRpcTransportRequest request) {
+        if (observationRegistry.isNoop()) {
+            return Call.NONE;
+        }
+        final Observation observation = Observation.createNotStarted(CALL_OBSERVATION, observationRegistry)
+                .contextualName(method)
+                .lowCardinalityKeyValue(METHOD_KEY, method);
+        Optional.ofNullable(request.getAttribute(PARENT_ATTRIBUTE))
+                .map(Observation.class::cast)
+                .ifPresent(observation::parentObservation);
+        Optional.ofNullable(id).ifPresent(value -> observation.highCardinalityKeyValue(REQUEST_ID_KEY, value));
+        return new ObservationCall(observation.start());
+    }
+
+    /**
+     * {@link JsonRpcCallObserver.Call} of {@link Observation}.
+     */
+    @RequiredArgsConstructor
+    private static final class ObservationCall implements Call {
+
+        /**
+         * Started {@link Observation}.
+         */
+        private final Observation observation;
+
+        /**
+         * Open {@link Observation.Scope}.
+         *
+         * @return {@link JsonRpcCallObserver.Scope} closing the {@link Observation.Scope}
+         */
+        @Override
+        @NonNull
+        public Scope open() {
+            return observation.openScope()::close;
+        }
+
+        /**
+         * Set {@link Observation} error.
+         *
+         * @param throwable Call failure
+         */
+        @Override
+        public void error(final @NonNull Throwable throwable) {
+            observation.error(throwable);
+        }
+
+        /**
+         * Stop {@link Observation}.
+         *
+         * @param errorCode Error code of the response
+         */
+        @Override
+        public void stop(final Integer errorCode) {
+            observation.lowCardinalityKeyValue(ERROR_CODE_KEY,
+                    Optional.ofNullable(errorCode).map(String::valueOf).orElse(NO_ERROR_CODE));
+            observation.stop();
+        }
+    }
+}
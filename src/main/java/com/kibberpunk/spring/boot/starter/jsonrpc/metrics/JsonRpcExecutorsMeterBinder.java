@@ -0,0 +1,51 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.metrics;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpcExecutors;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link JsonRpcExecutors} metrics: pool size, active threads, queue depth and completed tasks
+ * (see {@link ExecutorServiceMetrics}) of every executor and the number of overflowed notifications.
+ *
+ * @author kibberpunk
+ */
+@RequiredArgsConstructor
+public class JsonRpcExecutorsMeterBinder implements MeterBinder {
+
+    /**
+     * Batch executor name tag value.
+     */
+    public static final String BATCH_EXECUTOR = "json-rpc-batch";
+
+    /**
+     * Notification executor name tag value.
+     */
+    public static final String NOTIFICATION_EXECUTOR = "json-rpc-notification";
+
+    /**
+     * See {@link JsonRpcExecutors}.
+     */
+    private final JsonRpcExecutors executors;
+
+    /**
+     * Bind executors metrics to registry.
+     *
+     * @param registry See {@link MeterRegistry}
+     */
+    @Override
+    public void bindTo(final @NonNull MeterRegistry registry) {
+        new ExecutorServiceMetrics(executors.getBatch(), BATCH_EXECUTOR, Tags.empty()).bindTo(registry);
+        new ExecutorServiceMetrics(executors.getNotification(), NOTIFICATION_EXECUTOR, Tags.empty()).bindTo(registry);
+        FunctionCounter.builder("json.rpc.notification.overflow", executors, JsonRpcExecutors::getNotificationOverflows)
+                .description("Notifications that did not fit into the notification executor queue. "
+                        + "See " + JsonRpcConfigurationProperties.OverflowPolicy.class.getSimpleName())
+                .register(registry);
+    }
+}
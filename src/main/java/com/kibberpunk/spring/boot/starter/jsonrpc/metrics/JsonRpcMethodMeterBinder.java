@@ -0,0 +1,281 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.metrics;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpcError;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodBox;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodCache;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodFlights;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodLoader;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcServiceListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON-RPC methods metrics, tagged by the method name:
+ * phases timers (see {@link JsonRpcServiceListener.Phase}), error counters by {@link JsonRpcError.Code},
+ * expired calls counters, results cache and coalesced calls counters and request and response body size
+ * distributions.
+ * Meters are registered on the first call of a method, until the binder is bound to the registry
+ * nothing is recorded.
+ *
+ * @author kibberpunk
+ */
+@RequiredArgsConstructor
+public class JsonRpcMethodMeterBinder implements MeterBinder, JsonRpcServiceListener {
+
+    /**
+     * Method phases timer name.
+     */
+    public static final String METHOD_TIMER = "json.rpc.method";
+
+    /**
+     * Method errors counter name.
+     */
+    public static final String METHOD_ERRORS = "json.rpc.method.errors";
+
+    /**
+     * Method expired calls counter name. See {@code JsonRpcMethodTimeout}
+     */
+    public static final String METHOD_TIMEOUTS = "json.rpc.method.timeouts";
+
+    /**
+     * Method cache lookups counter name, tagged by {@link #RESULT_TAG}. See {@code JsonRpcMethodCache}
+     */
+    public static final String METHOD_CACHE = "json.rpc.method.cache";
+
+    /**
+     * Method cached results gauge name.
+     */
+    public static final String METHOD_CACHE_SIZE = "json.rpc.method.cache.size";
+
+    /**
+     * Method calls joined the same calls in flight counter name. See {@code JsonRpcMethodFlights}
+     */
+    public static final String METHOD_COALESCED = "json.rpc.method.coalesced";
+
+    /**
+     * Request body size distribution name.
+     */
+    public static final String REQUEST_SIZE = "json.rpc.request.size";
+
+    /**
+     * Response body size distribution name.
+     */
+    public static final String RESPONSE_SIZE = "json.rpc.response.size";
+
+    /**
+     * Method name tag.
+     */
+    public static final String METHOD_TAG = "method";
+
+    /**
+     * Phase tag.
+     */
+    public static final String PHASE_TAG = "phase";
+
+    /**
+     * Error code tag, f.e. -32601.
+     */
+    public static final String CODE_TAG = "code";
+
+    /**
+     * Error name tag: {@link JsonRpcError.Code} name or 'OTHER' for the codes of the application.
+     */
+    public static final String ERROR_TAG = "error";
+
+    /**
+     * Cache lookup result tag: 'hit' or 'miss'.
+     */
+    public static final String RESULT_TAG = "result";
+
+    /**
+     * Error name tag value of the codes of the application.
+     */
+    private static final String OTHER_ERROR = "OTHER";
+
+    /**
+     * Phases by ordinal.
+     */
+    private static final Phase[] PHASES = Phase.values();
+
+    /**
+     * See {@link JsonRpcMethodLoader}.
+     */
+    private final JsonRpcMethodLoader methodLoader;
+
+    /**
+     * Phases timers of the methods by method name, by {@link Phase} ordinal.
+     */
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Error counters of the methods by method name and error code.
+     */
+    private final Map<String, Map<Integer, Counter>> errors = new ConcurrentHashMap<>();
+
+    /**
+     * Bound {@link MeterRegistry}.
+     */
+    private volatile MeterRegistry registry;
+
+    /**
+     * Request body size distribution.
+     */
+    private volatile DistributionSummary requestSize;
+
+    /**
+     * Response body size distribution.
+     */
+    private volatile DistributionSummary responseSize;
+
+    /**
+     * Bind body size distributions, expired calls, cache and coalesced calls counters to registry.
+     *
+     * @param meterRegistry See {@link MeterRegistry}
+     */
+    @Override
+    public void bindTo(final @NonNull MeterRegistry meterRegistry) {
+        this.requestSize = DistributionSummary.builder(REQUEST_SIZE)
+                .description("JSON-RPC request body size")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+        this.responseSize = DistributionSummary.builder(RESPONSE_SIZE)
+                .description("JSON-RPC response body size, recorded if the response is written by the starter")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+        Optional.ofNullable(methodLoader.methods()).ifPresent(methods -> methods.values().stream()
+                .filter(JsonRpcMethodBox.class::isInstance)
+                .map(JsonRpcMethodBox.class::cast)
+                .filter(box -> box.getTimeout() != null)
+                .forEach(box -> FunctionCounter.builder(METHOD_TIMEOUTS, box.getTimeout(),
+                                timeout -> timeout.getExpirations())
+                        .description("JSON-RPC method calls exceeded the method timeout")
+                        .tag(METHOD_TAG, box.getName())
+                        .register(meterRegistry)));
+        Optional.ofNullable(methodLoader.methods()).ifPresent(methods -> methods.values().stream()
+                .filter(JsonRpcMethodBox.class::isInstance)
+                .map(JsonRpcMethodBox.class::cast)
+                .filter(box -> box.getCache() != null)
+                .forEach(box -> {
+                    FunctionCounter.builder(METHOD_CACHE, box.getCache(), JsonRpcMethodCache::getHits)
+                            .description("JSON-RPC method calls answered by a cached result")
+                            .tag(METHOD_TAG, box.getName())
+                            .tag(RESULT_TAG, "hit")
+                            .register(meterRegistry);
+                    FunctionCounter.builder(METHOD_CACHE, box.getCache(), JsonRpcMethodCache::getMisses)
+                            .description("JSON-RPC method calls not answered by a cached result")
+                            .tag(METHOD_TAG, box.getName())
+                            .tag(RESULT_TAG, "miss")
+                            .register(meterRegistry);
+                    Gauge.builder(METHOD_CACHE_SIZE, box.getCache(), JsonRpcMethodCache::size)
+                            .description("JSON-RPC method cached results")
+                            .tag(METHOD_TAG, box.getName())
+                            .register(meterRegistry);
+                }));
+        Optional.ofNullable(methodLoader.methods()).ifPresent(methods -> methods.values().stream()
+                .filter(JsonRpcMethodBox.class::isInstance)
+                .map(JsonRpcMethodBox.class::cast)
+                .filter(box -> box.getFlights() != null)
+                .forEach(box -> FunctionCounter.builder(METHOD_COALESCED, box.getFlights(),
+                                JsonRpcMethodFlights::getCoalesced)
+                        .description("JSON-RPC method calls joined the same calls in flight")
+                        .tag(METHOD_TAG, box.getName())
+                        .register(meterRegistry)));
+        this.registry = meterRegistry;
+    }
+
+    /**
+     * Record call phase.
+     *
+     * @param method Method name
+     * @param phase  See {@link Phase}
+     * @param nanos  Phase time in nanoseconds
+     */
+    @Override
+    public void phase(final @NonNull String method, final @NonNull Phase phase, final long nanos) {
+        final MeterRegistry meterRegistry = registry;
+        if (meterRegistry != null) {
+            timers.computeIfAbsent(method, name -> timers(name, meterRegistry))[phase.ordinal()]
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Count call error.
+     *
+     * @param method Method name
+     * @param code   Error code. See {@link JsonRpcError.Code}
+     */
+    @Override
+    public void error(final @NonNull String method, final int code) {
+        final MeterRegistry meterRegistry = registry;
+        if (meterRegistry != null) {
+            errors.computeIfAbsent(method, name -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(code, key -> Counter.builder(METHOD_ERRORS)
+                            .description("JSON-RPC method calls responded with an error")
+                            .tag(METHOD_TAG, method)
+                            .tag(CODE_TAG, String.valueOf(code))
+                            .tag(ERROR_TAG, Arrays.stream(JsonRpcError.Code.values())
+                                    .filter(value -> value.getCode() == code)
+                                    .map(Enum::name)
+                                    .findFirst()
+                                    .orElse(OTHER_ERROR))
+                            .register(meterRegistry))
+                    .increment();
+        }
+    }
+
+    /**
+     * Record request body size.
+     *
+     * @param bytes Request body size
+     */
+    @Override
+    public void received(final long bytes) {
+        Optional.ofNullable(requestSize).ifPresent(summary -> summary.record(bytes));
+    }
+
+    /**
+     * Record response body size.
+     *
+     * @param bytes Response body size
+     */
+    @Override
+    public void written(final long bytes) {
+        Optional.ofNullable(responseSize).ifPresent(summary -> summary.record(bytes));
+    }
+
+    /**
+     * Register phases timers of the method.
+     *
+     * @param method        Method name
+     * @param meterRegistry See {@link MeterRegistry}
+     * @return Timers by {@link Phase} ordinal
+     */
+    @NonNull
+    protected Timer[] timers(final @NonNull String method, final @NonNull MeterRegistry meterRegistry) {
+        final Timer[] phases = new Timer[PHASES.length];
+        for (final Phase phase : PHASES) {
+            phases[phase.ordinal()] = Timer.builder(METHOD_TIMER)
+                    .description("JSON-RPC method call phase")
+                    .tag(METHOD_TAG, method)
+                    .tag(PHASE_TAG, phase.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+        return phases;
+    }
+}
@@ -0,0 +1,147 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.reactive;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcServiceListener;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.impl.JsonRpcTransportRequestImpl;
+import lombok.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * JSON-RPC WebFlux handler.
+ * The request body is joined from its {@link DataBuffer}s as they arrive, without blocking the event loop
+ * and without copying them where the buffer factory supports composite buffers (Netty), and parsed from
+ * the joined buffer stream by the {@link JsonRpcService} in the event loop thread. The methods with an asynchronous
+ * result ({@code Mono}, {@code Flux}, {@link CompletionStage}) are invoked in place and complete the response in
+ * their own thread, the blocking methods are executed by the blocking {@link Scheduler},
+ * see {@link JsonRpcService#BLOCKING_EXECUTOR_ATTRIBUTE}.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcWebFluxHandler implements HandlerFunction<ServerResponse> {
+
+    /**
+     * Body of a request without body.
+     */
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * See {@link JsonRpcService}.
+     */
+    private final JsonRpcService service;
+
+    /**
+     * See {@link JsonRpcConfigurationProperties.WebFlux}.
+     */
+    private final JsonRpcConfigurationProperties.WebFlux properties;
+
+    /**
+     * Executor of the blocking methods.
+     */
+    private final Executor blocking;
+
+    /**
+     * See {@link JsonRpcServiceListener}.
+     */
+    private final JsonRpcServiceListener listener;
+
+    /**
+     * Constructor.
+     *
+     * @param jsonRpcService    See {@link JsonRpcService}
+     * @param configuration     See {@link JsonRpcConfigurationProperties}
+     * @param blockingScheduler {@link Scheduler} of the blocking methods, f.e. the bounded elastic one
+     * @param serviceListener   See {@link JsonRpcServiceListener}
+     */
+    public JsonRpcWebFluxHandler(final @NonNull JsonRpcService jsonRpcService,
+                                 final @NonNull JsonRpcConfigurationProperties configuration,
+                                 final @NonNull Scheduler blockingScheduler,
+                                 final @NonNull JsonRpcServiceListener serviceListener) {
+        this.service = jsonRpcService;
+        this.properties = configuration.getConsumer().getWebflux();
+        this.blocking = blockingScheduler::schedule;
+        this.listener = serviceListener;
+    }
+
+    /**
+     * Handle JSON-RPC request.
+     *
+     * @param request See {@link ServerRequest}
+     * @return JSON-RPC response or 204 'No Content' if there is nothing to respond (notifications).
+     * 413 'Payload Too Large' if the body exceeds {@link JsonRpcConfigurationProperties.WebFlux#getMaxRequestSize()}
+     */
+    @Override
+    @NonNull
+    public Mono<ServerResponse> handle(final @NonNull ServerRequest request) {
+        return request.principal().<Optional<Principal>>map(Optional::of).defaultIfEmpty(Optional.empty())
+                .flatMap(principal -> DataBufferUtils.join(request.bodyToFlux(DataBuffer.class),
+                                properties.getMaxRequestSize())
+                        .<Optional<DataBuffer>>map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(body -> process(body.orElse(null), request, principal.orElse(null))))
+                .flatMap(response -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(response))
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.noContent().build()))
+                .onErrorResume(DataBufferLimitException.class,
+                        exception -> ServerResponse.status(HttpStatus.PAYLOAD_TOO_LARGE).build());
+    }
+
+    /**
+     * Process request body. The body is parsed from the joined buffer, which is released after parsing.
+     *
+     * @param body      Joined request body {@link DataBuffer}. Null if the request has no body
+     * @param request   See {@link ServerRequest}
+     * @param principal User principal. Null if the request is not authenticated
+     * @return JSON-RPC response. Empty if there is nothing to respond (notifications)
+     */
+    protected Mono<Object> process(final DataBuffer body, final @NonNull ServerRequest request,
+                                   final Principal principal) {
+        listener.received(body == null ? 0 : body.readableByteCount());
+        final JsonRpcTransportRequest transportRequest = new JsonRpcTransportRequestImpl(origin(request), principal);
+        transportRequest.setAttribute(JsonRpcService.BLOCKING_EXECUTOR_ATTRIBUTE, blocking);
+        final Object response;
+        if (body == null) {
+            response = service.process(EMPTY, transportRequest);
+        } else {
+            try (InputStream stream = body.asInputStream(true)) {
+                response = service.process(stream, transportRequest);
+            } catch (final IOException exception) {
+                return Mono.error(exception);
+            }
+        }
+        return response instanceof CompletableFuture<?> future
+                ? Mono.<Object>fromFuture(future)
+                : Mono.justOrEmpty(response);
+    }
+
+    /**
+     * Create {@link JsonRpcTransportRequestImpl.Origin} of the request.
+     *
+     * @param request See {@link ServerRequest}
+     * @return {@link JsonRpcTransportRequestImpl.Origin} with the request headers, query parameters,
+     * remote address and the {@link ServerRequest}
+     */
+    protected JsonRpcTransportRequestImpl.Origin origin(final @NonNull ServerRequest request) {
+        return new JsonRpcTransportRequestImpl.Origin(request.headers().asHttpHeaders(), request.queryParams(),
+                request.remoteAddress().map(InetSocketAddress::getHostString).orElse(null), List.of(request));
+    }
+}
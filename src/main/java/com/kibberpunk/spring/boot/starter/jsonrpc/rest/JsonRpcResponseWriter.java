@@ -0,0 +1,26 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.rest;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+
+import java.io.IOException;
+
+/**
+ * JSON-RPC response writer of the direct write mode.
+ * See {@link JsonRpcConfigurationProperties.Consumer#isDirectWrite()}
+ *
+ * @author kibberpunk
+ */
+public interface JsonRpcResponseWriter {
+
+    /**
+     * Write response straight to {@link HttpServletResponse#getOutputStream()}.
+     *
+     * @param response            Response after request processing. Null if there is nothing to respond
+     * @param httpServletResponse See {@link HttpServletResponse}
+     * @return Number of written body bytes
+     * @throws IOException If the response can not be written
+     */
+    long write(Object response, @NonNull HttpServletResponse httpServletResponse) throws IOException;
+}
@@ -1,23 +1,38 @@
 package com.kibberpunk.spring.boot.starter.jsonrpc.rest.controller;
 
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcRequestTimeoutException;
+import com.kibberpunk.spring.boot.starter.jsonrpc.rest.JsonRpcResponseWriter;
+import com.kibberpunk.spring.boot.starter.jsonrpc.rest.impl.JsonRpcServletTransportRequestImpl;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcServiceListener;
 import com.kibberpunk.spring.boot.starter.jsonrpc.utils.JsonRpcUtils;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * JSON-RPC consumer controller.
- * Receives the request in plain text and passes it on to the processor
+ * Receives the raw request body stream and passes it on to the processor,
+ * so the body is parsed while reading without decoding it to a string
  *
  * @author kibberpunk
  */
-@RequiredArgsConstructor
 @RestController
 public class JsonRpcRestController {
 
@@ -26,12 +41,50 @@ public class JsonRpcRestController {
      */
     private final JsonRpcService processor;
 
+    /**
+     * @see JsonRpcResponseWriter
+     */
+    private final JsonRpcResponseWriter responseWriter;
+
+    /**
+     * @see JsonRpcConfigurationProperties
+     */
+    private final JsonRpcConfigurationProperties properties;
+
+    /**
+     * @see JsonRpcServiceListener
+     */
+    private final JsonRpcServiceListener listener;
+
+    /**
+     * Constructor.
+     *
+     * @param jsonRpcService   See {@link JsonRpcService}
+     * @param writer           See {@link JsonRpcResponseWriter}
+     * @param configuration    See {@link JsonRpcConfigurationProperties}
+     * @param listenerProvider {@link JsonRpcServiceListener} if there is one
+     */
+    public JsonRpcRestController(
+            final @NonNull JsonRpcService jsonRpcService,
+            final @NonNull JsonRpcResponseWriter writer,
+            final @NonNull JsonRpcConfigurationProperties configuration,
+            final @NonNull ObjectProvider<JsonRpcServiceListener> listenerProvider) {
+        this.processor = jsonRpcService;
+        this.responseWriter = writer;
+        this.properties = configuration;
+        this.listener = listenerProvider.getIfUnique(() -> JsonRpcServiceListener.NONE);
+    }
+
     /**
      * Handle JSON-RPC REST request.
      *
-     * @param request            Request in plain text
-     * @param httpServletRequest See {@link HttpServletRequest}
-     * @return JSON-RPC response object
+     * @param request             Raw request body stream
+     * @param httpServletRequest  See {@link HttpServletRequest}
+     * @param httpServletResponse See {@link HttpServletResponse}
+     * @return JSON-RPC response object or 204 'No Content' if there is nothing to respond (notifications).
+     * Null if the response is already written in the direct write mode.
+     * {@link DeferredResult} if the response is completed asynchronously, the container thread is freed meanwhile
+     * @throws IOException If the response can not be written in the direct write mode
      */
     @PostMapping("${spring.json-rpc.consumer.path}") /* See {@link JsonRpcConfigurationProperties.Consumer#path} */
     @Operation(
@@ -44,11 +97,57 @@ public class JsonRpcRestController {
                      over http, or in many various message passing environments.
                     <b>https://www.jsonrpc.org/specification</b>
                     """,
-            tags = {JsonRpcUtils.API_TAG}
+            tags = {JsonRpcUtils.API_TAG},
+            requestBody = @RequestBody(
+                    required = true,
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
     )
     public @ResponseBody Object handle(
-            final @RequestBody String request,
-            final @NonNull HttpServletRequest httpServletRequest) {
-        return this.processor.process(request, httpServletRequest);
+            final InputStream request,
+            final @NonNull HttpServletRequest httpServletRequest,
+            final @NonNull HttpServletResponse httpServletResponse) throws IOException {
+        if (httpServletRequest.getContentLengthLong() >= 0) {
+            listener.received(httpServletRequest.getContentLengthLong());
+        }
+        final Object response = this.processor.process(request,
+                new JsonRpcServletTransportRequestImpl(httpServletRequest));
+        if (response instanceof CompletableFuture<?> future) {
+            return deferred(future);
+        } else if (properties.getConsumer().isDirectWrite()) {
+            final long start = System.nanoTime();
+            final long bytes = responseWriter.write(response, httpServletResponse);
+            Optional.ofNullable(httpServletRequest.getAttribute(JsonRpcServiceListener.METHOD_ATTRIBUTE))
+                    .ifPresent(method -> listener.phase(method.toString(), JsonRpcServiceListener.Phase.SERIALIZE,
+                            System.nanoTime() - start));
+            listener.written(bytes);
+            return null;
+        }
+        return Optional.ofNullable(response)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Complete the response asynchronously through servlet async processing.
+     * Asynchronous responses are written by the message converters, also in the direct write mode.
+     * The async request timeout ({@code spring.mvc.async.request-timeout}) answers with
+     * {@link JsonRpcRequestTimeoutException}, an async processing error with the internal error, both carrying
+     * the request id, and the pending method result is cancelled, see {@link JsonRpcService#expire}.
+     *
+     * @param future {@link CompletableFuture} of the JSON-RPC response
+     * @return {@link DeferredResult} of the JSON-RPC response or 204 'No Content' if there is nothing to respond
+     */
+    protected DeferredResult<Object> deferred(final @NonNull CompletableFuture<?> future) {
+        final DeferredResult<Object> result = new DeferredResult<>();
+        result.onTimeout(() -> processor.expire(future, new JsonRpcRequestTimeoutException()));
+        result.onError(throwable -> processor.expire(future, throwable));
+        future.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                result.setErrorResult(throwable);
+            } else {
+                result.setResult(Optional.<Object>ofNullable(response)
+                        .orElseGet(() -> ResponseEntity.noContent().build()));
+            }
+        });
+        return result;
     }
 }
@@ -0,0 +1,68 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.rest.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.io.CountingOutputStream;
+import com.kibberpunk.spring.boot.starter.jsonrpc.rest.JsonRpcResponseWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+
+/**
+ * {@link JsonRpcResponseWriter} implementation.
+ * The response is serialized by a single reused {@link ObjectWriter} straight into the servlet output stream,
+ * without message converter selection and intermediate buffers. The content length is left to the servlet
+ * container: a response that fits its output buffer gets the header, a larger one is sent chunked.
+ *
+ * @author kibberpunk
+ */
+@Getter(AccessLevel.PROTECTED)
+@RequiredArgsConstructor
+public class JsonRpcResponseWriterImpl implements JsonRpcResponseWriter {
+
+    /**
+     * Response content type.
+     */
+    protected static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE;
+
+    /**
+     * Reused {@link ObjectWriter}.
+     */
+    private final ObjectWriter objectWriter;
+
+    /**
+     * Constructor.
+     *
+     * @param objectMapper {@link ObjectMapper} to create the reused {@link ObjectWriter} from
+     */
+    public JsonRpcResponseWriterImpl(final @NonNull ObjectMapper objectMapper) {
+        this(objectMapper.writer());
+    }
+
+    /**
+     * Write response straight to {@link HttpServletResponse#getOutputStream()}.
+     *
+     * @param response            Response after request processing. Null if there is nothing to respond
+     * @param httpServletResponse See {@link HttpServletResponse}
+     * @return Number of written body bytes
+     * @throws IOException If the response can not be written
+     */
+    @Override
+    public long write(final Object response, final @NonNull HttpServletResponse httpServletResponse)
+            throws IOException {
+        if (response == null) {
+            httpServletResponse.setStatus(HttpServletResponse.SC_NO_CONTENT);
+            return 0;
+        }
+        httpServletResponse.setStatus(HttpServletResponse.SC_OK);
+        httpServletResponse.setContentType(CONTENT_TYPE);
+        final CountingOutputStream body = new CountingOutputStream(httpServletResponse.getOutputStream());
+        objectWriter.writeValue(body, response);
+        return body.getCount();
+    }
+}
@@ -0,0 +1,124 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.rest.impl;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.NonNull;
+
+import java.security.Principal;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link JsonRpcTransportRequest} of the servlet transport, a view of the {@link HttpServletRequest}.
+ * The {@link HttpServletRequest} and its existing {@link HttpSession} are available by {@link #unwrap(Class)}.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcServletTransportRequestImpl implements JsonRpcTransportRequest {
+
+    /**
+     * See {@link HttpServletRequest}.
+     */
+    private final HttpServletRequest request;
+
+    /**
+     * Constructor.
+     *
+     * @param httpServletRequest See {@link HttpServletRequest}
+     */
+    public JsonRpcServletTransportRequestImpl(final @NonNull HttpServletRequest httpServletRequest) {
+        this.request = httpServletRequest;
+    }
+
+    /**
+     * Get servlet request attribute.
+     *
+     * @param name Attribute name
+     * @return Attribute value. Null if there is no such attribute
+     */
+    @Override
+    public Object getAttribute(final @NonNull String name) {
+        return request.getAttribute(name);
+    }
+
+    /**
+     * Set servlet request attribute.
+     *
+     * @param name  Attribute name
+     * @param value Attribute value. Null removes the attribute
+     */
+    @Override
+    public void setAttribute(final @NonNull String name, final Object value) {
+        request.setAttribute(name, value);
+    }
+
+    /**
+     * Get user principal of the servlet request.
+     *
+     * @return User principal. Null if the request is not authenticated
+     */
+    @Override
+    public Principal getUserPrincipal() {
+        return request.getUserPrincipal();
+    }
+
+    /**
+     * Get servlet request header.
+     *
+     * @param name Case-insensitive header name
+     * @return First header value. Null if there is no such header
+     */
+    @Override
+    public String getHeader(final @NonNull String name) {
+        return request.getHeader(name);
+    }
+
+    /**
+     * Get servlet request header values.
+     *
+     * @param name Case-insensitive header name
+     * @return Header values. Empty if there is no such header
+     */
+    @Override
+    public List<String> getHeaders(final @NonNull String name) {
+        return Collections.list(request.getHeaders(name));
+    }
+
+    /**
+     * Get servlet request parameter.
+     *
+     * @param name Parameter name
+     * @return First parameter value. Null if there is no such parameter
+     */
+    @Override
+    public String getParameter(final @NonNull String name) {
+        return request.getParameter(name);
+    }
+
+    /**
+     * Get remote address of the servlet request.
+     *
+     * @return Remote IP address
+     */
+    @Override
+    public String getRemoteAddress() {
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * Get {@link HttpServletRequest} or its existing {@link HttpSession}.
+     *
+     * @param type Object type
+     * @param <T>  Object type
+     * @return {@link HttpServletRequest} or {@link HttpSession} if it is of the type. Null otherwise
+     */
+    @Override
+    public <T> T unwrap(final @NonNull Class<T> type) {
+        if (type.isInstance(request)) {
+            return type.cast(request);
+        }
+        final HttpSession session = request.getSession(false);
+        return type.isInstance(session) ? type.cast(session) : null;
+    }
+}
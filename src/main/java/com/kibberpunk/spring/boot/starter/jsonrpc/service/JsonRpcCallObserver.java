@@ -0,0 +1,95 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.service;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
+import lombok.NonNull;
+
+/**
+ * JSON-RPC calls observer. Every call of a single request or a batch element is started as a {@link Call},
+ * f.e. to trace it as a span. Unlike {@link JsonRpcServiceListener} the call is opened in the thread executing
+ * the method, so the method work is observed inside the call.
+ *
+ * @author kibberpunk
+ */
+public interface JsonRpcCallObserver {
+
+    /**
+     * Observer doing nothing.
+     */
+    JsonRpcCallObserver NONE = (method, id, request) -> Call.NONE;
+
+    /**
+     * Request is received. Called by the request thread before any call of the request is started,
+     * f.e. to capture the state of the request thread for the batch elements executed by other threads.
+     *
+     * @param request See {@link JsonRpcTransportRequest}
+     */
+    default void received(final @NonNull JsonRpcTransportRequest request) {
+    }
+
+    /**
+     * Start call.
+     *
+     * @param method  Method name. See {@link JsonRpcServiceListener#UNKNOWN_METHOD}
+     * @param id      Request id. Null for notifications or if the protocol has no ids
+     * @param request See {@link JsonRpcTransportRequest}
+     * @return Started {@link Call}
+     */
+    @NonNull
+    Call start(@NonNull String method, String id, @NonNull JsonRpcTransportRequest request);
+
+    /**
+     * Started call.
+     */
+    interface Call {
+
+        /**
+         * Call doing nothing.
+         */
+        Call NONE = new Call() {
+        };
+
+        /**
+         * Open the call in the current thread, while the method is executed.
+         *
+         * @return {@link Scope} to close in the same thread
+         */
+        @NonNull
+        default Scope open() {
+            return Scope.NONE;
+        }
+
+        /**
+         * Call failed.
+         *
+         * @param throwable Call failure
+         */
+        default void error(final @NonNull Throwable throwable) {
+        }
+
+        /**
+         * Stop call, when its response is completed.
+         *
+         * @param errorCode Error code of the response. Null if the call succeeded or is a notification
+         */
+        default void stop(final Integer errorCode) {
+        }
+    }
+
+    /**
+     * Opened call.
+     */
+    interface Scope extends AutoCloseable {
+
+        /**
+         * Scope doing nothing.
+         */
+        Scope NONE = () -> {
+        };
+
+        /**
+         * Close the call in the current thread.
+         */
+        @Override
+        void close();
+    }
+}
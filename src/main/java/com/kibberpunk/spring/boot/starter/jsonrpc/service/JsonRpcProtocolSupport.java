@@ -8,6 +8,7 @@ import lombok.NonNull;
 import org.springframework.core.MethodParameter;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 /**
  * JSON-RPC protocol support.
@@ -36,6 +37,34 @@ public interface JsonRpcProtocolSupport<Request, Response, C extends RequestCont
     @NonNull
     Request request(@NonNull C context);
 
+    /**
+     * Check that the request is a notification.
+     * A notification is executed, but never gets a response, even an error one.
+     *
+     * @param context See {@link RequestContext} with read request
+     * @return true if the request is a notification
+     */
+    boolean isNotification(@NonNull C context);
+
+    /**
+     * Check that the request is a batch of requests.
+     *
+     * @param context See {@link RequestContext}
+     * @return true if the request is a batch of requests
+     */
+    boolean isBatch(@NonNull C context);
+
+    /**
+     * Split a batch request into separate requests.
+     * Each request of the batch gets its own {@link RequestContext}, ready for {@link #request(RequestContext)}.
+     *
+     * @param context See {@link RequestContext}
+     * @param maxSize Maximum number of requests in the batch
+     * @return Batch elements contexts in the request order
+     */
+    @NonNull
+    List<C> batch(@NonNull C context, int maxSize);
+
     /**
      * Getting the name of the method to call from a request.
      *
@@ -73,4 +102,45 @@ public interface JsonRpcProtocolSupport<Request, Response, C extends RequestCont
      */
     @NonNull
     Response error(@NonNull Throwable throwable, @NonNull C context);
+
+    /**
+     * Get error code of the response. See {@link JsonRpcServiceListener#error(String, int)}
+     *
+     * @param response Response
+     * @return Error code. Null if the response is not an error or the protocol has no error codes
+     */
+    default Integer errorCode(final Response response) {
+        return null;
+    }
+
+    /**
+     * Get request id. See {@link JsonRpcCallObserver#start}
+     *
+     * @param context See {@link RequestContext}
+     * @return Request id text. Null for notifications or if the protocol has no ids
+     */
+    default String requestId(final @NonNull C context) {
+        return null;
+    }
+
+    /**
+     * Get canonical request params, equal for the equal params written in any form (f.e. members order).
+     * See {@code JsonRpcMethodCache}
+     *
+     * @param context See {@link RequestContext}
+     * @return Canonical params text. Null if the protocol can not canonicalize params, results are not cached then
+     */
+    default String canonicalParams(final @NonNull C context) {
+        return null;
+    }
+
+    /**
+     * Serialize method result to be cached and responded again, without serializing it per response.
+     *
+     * @param result Method result
+     * @return Serialized result, accepted by {@link #response(Object, RequestContext)}
+     */
+    default Object serialized(final Object result) {
+        return result;
+    }
 }
@@ -1,8 +1,15 @@
 package com.kibberpunk.spring.boot.starter.jsonrpc.service;
 
-import jakarta.servlet.http.HttpServletRequest;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
 import lombok.NonNull;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 /**
  * JSON-RPC consumer service.
  *
@@ -10,12 +17,64 @@ import lombok.NonNull;
  */
 public interface JsonRpcService {
 
+    /**
+     * Request attribute of the {@link Executor} of the blocking methods, set by a transport with a non-blocking
+     * request thread. The methods with an asynchronous result ({@link CompletionStage}, {@code Mono}, {@code Flux})
+     * are invoked in the request thread.
+     */
+    String BLOCKING_EXECUTOR_ATTRIBUTE = JsonRpcService.class.getName() + ".blockingExecutor";
+
     /**
      * Process request.
      *
-     * @param body               Raw request body string
-     * @param httpServletRequest {@link HttpServletRequest}
-     * @return Response after request processing
+     * @param body             Raw request body string
+     * @param transportRequest {@link JsonRpcTransportRequest}
+     * @return Response after request processing or its {@link CompletableFuture} if the response is completed
+     * asynchronously. Null if there is nothing to respond (notifications)
+     */
+    Object process(String body, @NonNull JsonRpcTransportRequest transportRequest);
+
+    /**
+     * Process request. The UTF-8 body is parsed as is, without decoding to a string.
+     *
+     * @param body             Raw request body bytes
+     * @param transportRequest {@link JsonRpcTransportRequest}
+     * @return Response after request processing or its {@link CompletableFuture} if the response is completed
+     * asynchronously. Null if there is nothing to respond (notifications)
+     */
+    Object process(byte[] body, @NonNull JsonRpcTransportRequest transportRequest);
+
+    /**
+     * Process request. The body is parsed while reading, without buffering it as a whole.
+     *
+     * @param body             Raw request body stream
+     * @param transportRequest {@link JsonRpcTransportRequest}
+     * @return Response after request processing or its {@link CompletableFuture} if the response is completed
+     * asynchronously. Null if there is nothing to respond (notifications)
+     */
+    Object process(InputStream body, @NonNull JsonRpcTransportRequest transportRequest);
+
+    /**
+     * Process request. The buffer remaining bytes are parsed without copying.
+     *
+     * @param body             Raw request body buffer
+     * @param transportRequest {@link JsonRpcTransportRequest}
+     * @return Response after request processing or its {@link CompletableFuture} if the response is completed
+     * asynchronously. Null if there is nothing to respond (notifications)
+     */
+    default Object process(ByteBuffer body, @NonNull JsonRpcTransportRequest transportRequest) {
+        return process(body == null ? null : new ByteBufferBackedInputStream(body), transportRequest);
+    }
+
+    /**
+     * Expire the pending response returned by {@code process}, f.e. when the transport has given up waiting for it.
+     * The response is completed with the error of the failure, the pending method result is cancelled.
+     *
+     * @param response Pending response, the {@link CompletableFuture} returned by {@code process}
+     * @param failure  Expiration cause
+     * @return true if the response is expired by this call, false if it is already completed
      */
-    Object process(String body, @NonNull HttpServletRequest httpServletRequest);
+    default boolean expire(@NonNull CompletableFuture<?> response, @NonNull Throwable failure) {
+        return response.completeExceptionally(failure);
+    }
 }
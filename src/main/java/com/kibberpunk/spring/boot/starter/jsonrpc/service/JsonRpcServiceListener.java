@@ -0,0 +1,97 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.service;
+
+import lombok.NonNull;
+
+/**
+ * JSON-RPC calls listener. Receives the phases timings, errors and body sizes of every call,
+ * f.e. to publish them as metrics. Methods are called by the request processing threads and must be cheap.
+ * <p>
+ * Method names are the names of the loaded methods only, see {@link #UNKNOWN_METHOD} and {@link #BATCH}.
+ *
+ * @author kibberpunk
+ */
+public interface JsonRpcServiceListener {
+
+    /**
+     * Method name of the calls of not loaded methods and of the invalid requests.
+     */
+    String UNKNOWN_METHOD = "unknown";
+
+    /**
+     * Method name of the whole batch request phases.
+     */
+    String BATCH = "batch";
+
+    /**
+     * Request attribute of the method name, set for the response writing. See {@link Phase#SERIALIZE}
+     */
+    String METHOD_ATTRIBUTE = JsonRpcServiceListener.class.getName() + ".method";
+
+    /**
+     * Listener doing nothing.
+     */
+    JsonRpcServiceListener NONE = new JsonRpcServiceListener() {
+    };
+
+    /**
+     * JSON-RPC call phase.
+     */
+    enum Phase {
+
+        /**
+         * Reading the request. A batch is read at once, see {@link #BATCH}.
+         */
+        PARSE,
+
+        /**
+         * Binding the method parameters.
+         */
+        BIND,
+
+        /**
+         * Executing the method, up to the completion of an asynchronous result.
+         */
+        INVOKE,
+
+        /**
+         * Writing the response. Recorded if the response is written by the starter,
+         * see {@code JsonRpcConfigurationProperties.Consumer#isDirectWrite()}.
+         */
+        SERIALIZE
+    }
+
+    /**
+     * Call phase is completed.
+     *
+     * @param method Method name
+     * @param phase  See {@link Phase}
+     * @param nanos  Phase time in nanoseconds
+     */
+    default void phase(final @NonNull String method, final @NonNull Phase phase, final long nanos) {
+    }
+
+    /**
+     * Call is responded with an error.
+     *
+     * @param method Method name
+     * @param code   Error code. See {@code JsonRpcError.Code}
+     */
+    default void error(final @NonNull String method, final int code) {
+    }
+
+    /**
+     * Request body is received.
+     *
+     * @param bytes Request body size
+     */
+    default void received(final long bytes) {
+    }
+
+    /**
+     * Response body is written.
+     *
+     * @param bytes Response body size
+     */
+    default void written(final long bytes) {
+    }
+}
@@ -1,14 +1,25 @@
 package com.kibberpunk.spring.boot.starter.jsonrpc.service.impl;
 
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Request;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Response;
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcMethodNotFoundException;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcMethodTimeoutException;
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcParseMethodParameterException;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodBox;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodBulkhead;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodCache;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodFlights;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodParameter;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodProvider;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodTimeout;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcCallObserver;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcProtocolSupport;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcServiceListener;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
+import com.kibberpunk.spring.boot.starter.jsonrpc.utils.AsyncResultUtils;
 import com.kibberpunk.spring.boot.starter.jsonrpc.utils.FormatUtils;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -18,11 +29,24 @@ import org.apache.commons.lang3.tuple.Triple;
 import org.springframework.core.MethodParameter;
 import org.springframework.util.ReflectionUtils;
 
+import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.security.Principal;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Abstract {@link JsonRpcService} implementation.
@@ -49,31 +73,475 @@ public class AbstractJsonRpcService<Request, Response, C
      */
     private final JsonRpcMethodProvider methodProvider;
 
+    /**
+     * See {@link JsonRpcExecutors}.
+     */
+    private final JsonRpcExecutors executors;
+
+    /**
+     * See {@link JsonRpcConfigurationProperties}.
+     */
+    private final JsonRpcConfigurationProperties properties;
+
+    /**
+     * See {@link JsonRpcServiceListener}.
+     */
+    private final JsonRpcServiceListener listener;
+
+    /**
+     * See {@link JsonRpcCallObserver}.
+     */
+    private final JsonRpcCallObserver observer;
+
+    /**
+     * See {@link JsonRpcErrorLog}. Created by {@link JsonRpcConfigurationProperties#getErrorLog()} on first failure.
+     */
+    @Getter(value = AccessLevel.PROTECTED, lazy = true)
+    private final JsonRpcErrorLog errorLog = new JsonRpcErrorLog(properties.getErrorLog());
+
     /**
      * Process request.
      *
-     * @param body               Raw request body string
-     * @param httpServletRequest See {@link HttpServletRequest}
-     * @return Response after request processing
+     * @param body             Raw request body string
+     * @param transportRequest See {@link JsonRpcTransportRequest}
+     * @return Response after request processing. Null if there is nothing to respond (notifications)
      */
     @Override
-    public Object process(final String body, final @NonNull HttpServletRequest httpServletRequest) {
+    public Object process(final String body, final @NonNull JsonRpcTransportRequest transportRequest) {
+        return process(context -> context.setBody(body), transportRequest);
+    }
+
+    /**
+     * Process request.
+     *
+     * @param body             Raw request body bytes
+     * @param transportRequest See {@link JsonRpcTransportRequest}
+     * @return Response after request processing. Null if there is nothing to respond (notifications)
+     */
+    @Override
+    public Object process(final byte[] body, final @NonNull JsonRpcTransportRequest transportRequest) {
+        return process(context -> context.setBodyBytes(body), transportRequest);
+    }
+
+    /**
+     * Process request.
+     * The stream keeps the prefix of the body logged by {@link JsonRpcErrorLog} while it is read,
+     * see {@link JsonRpcBodyPrefixInputStream}.
+     *
+     * @param body             Raw request body stream
+     * @param transportRequest See {@link JsonRpcTransportRequest}
+     * @return Response after request processing. Null if there is nothing to respond (notifications)
+     */
+    @Override
+    public Object process(final InputStream body, final @NonNull JsonRpcTransportRequest transportRequest) {
+        final int maxBodyLength = properties.getErrorLog().getMaxBodyLength();
+        if (body == null || maxBodyLength <= 0) {
+            return process(context -> context.setBodyStream(body), transportRequest);
+        }
+        final JsonRpcBodyPrefixInputStream prefix = new JsonRpcBodyPrefixInputStream(body, maxBodyLength);
+        return process(context -> {
+            context.setBodyStream(prefix);
+            context.setBodyPrefix(prefix);
+        }, transportRequest);
+    }
+
+    /**
+     * Process request.
+     * A response completed in place is returned as is, otherwise the {@link CompletableFuture} of the response
+     * is returned, see {@link AsyncResultUtils}. The pending response may be expired by the transport, see
+     * {@link #expire(CompletableFuture, Throwable)}.
+     *
+     * @param body             Sets the raw request body to {@link RequestContext}
+     * @param transportRequest See {@link JsonRpcTransportRequest}
+     * @return Response after request processing or its {@link CompletableFuture}.
+     * Null if there is nothing to respond (notifications)
+     */
+    protected Object process(
+            final @NonNull Consumer<C> body,
+            final @NonNull JsonRpcTransportRequest transportRequest) {
         return Optional.of(support.context())
                 .map(context -> {
-                    context.setBody(body);
-                    context.setHttpServletRequest(httpServletRequest);
+                    body.accept(context);
+                    context.setTransportRequest(transportRequest);
                     return context;
                 })
                 .map((Function<C, Object>) context -> {
                     try {
-                        context.setRequest(support.request(context));
-                        return support.response(call(context), context);
+                        if (observer != JsonRpcCallObserver.NONE) {
+                            observer.received(transportRequest);
+                        }
+                        final boolean batch = support.isBatch(context);
+                        final CompletableFuture<?> response = batch ? batch(context) : handle(context);
+                        if (listener != JsonRpcServiceListener.NONE) {
+                            transportRequest.setAttribute(JsonRpcServiceListener.METHOD_ATTRIBUTE,
+                                    batch ? JsonRpcServiceListener.BATCH : name(context));
+                        }
+                        if (response.isDone()) {
+                            return response.join();
+                        }
+                        final PendingResponse pending = new PendingResponse(response, context);
+                        response.whenComplete((value, throwable) -> {
+                            if (!pending.isDone()) {
+                                pending.complete(throwable == null ? value : failure(throwable, context));
+                            }
+                        });
+                        return pending;
                     } catch (final Throwable throwable) {
-                        log.error(FormatUtils.format(
-                                "An exception occurred while processing the request: {}", body), throwable);
-                        return support.error(throwable, context);
+                        return failure(throwable, context);
                     }
-                }).orElseThrow();
+                }).orElse(null);
+    }
+
+    /**
+     * Expire the pending response, f.e. when the transport has given up waiting for it.
+     * The response is completed with the error response of the failure carrying the request id,
+     * the pending method result is cancelled. A batch is answered with a single error response.
+     *
+     * @param response Pending response returned by {@link #process(Consumer, JsonRpcTransportRequest)}
+     * @param failure  Expiration cause
+     * @return true if the response is expired by this call, false if it is already completed
+     */
+    @Override
+    public boolean expire(final @NonNull CompletableFuture<?> response, final @NonNull Throwable failure) {
+        return response instanceof AbstractJsonRpcService<?, ?, ?>.PendingResponse pending
+                ? pending.expire(failure)
+                : JsonRpcService.super.expire(response, failure);
+    }
+
+    /**
+     * Handle request processing failure.
+     *
+     * @param throwable Request processing failure
+     * @param context   See {@link RequestContext}
+     * @return Error response
+     */
+    protected Response failure(final @NonNull Throwable throwable, final @NonNull C context) {
+        final Throwable failure = AsyncResultUtils.unwrap(throwable);
+        final Response response = support.error(failure, context);
+        getErrorLog().log(name(context), support.errorCode(response), failure, () -> body(context));
+        return listened(response, context);
+    }
+
+    /**
+     * Handle single request.
+     * An asynchronous method result completes the response when it is completed, see {@link AsyncResultUtils}.
+     * With {@link JsonRpcExecutors#getVirtual()} the method is executed on a virtual thread, with
+     * {@link JsonRpcService#BLOCKING_EXECUTOR_ATTRIBUTE} a blocking method is executed by the executor,
+     * see {@link #offload(RequestContext)}.
+     * Elements of a batch are read with the batch, so their {@link JsonRpcServiceListener.Phase#PARSE} is only
+     * the request object of the already read element.
+     * A read request is started as a {@link JsonRpcCallObserver.Call}, stopped when the response is completed.
+     *
+     * @param context See {@link RequestContext}
+     * @return {@link CompletableFuture} of the response or error response. Completed with null for notifications
+     */
+    protected CompletableFuture<Response> handle(final @NonNull C context) {
+        final long start = System.nanoTime();
+        try {
+            context.setRequest(support.request(context));
+            listener.phase(name(context), JsonRpcServiceListener.Phase.PARSE, System.nanoTime() - start);
+        } catch (final Throwable throwable) {
+            return CompletableFuture.completedFuture(error(throwable, context));
+        }
+        if (observer == JsonRpcCallObserver.NONE) {
+            return execute(context);
+        }
+        final JsonRpcCallObserver.Call call = observer.start(
+                name(context), support.requestId(context), context.getTransportRequest());
+        context.setCall(call);
+        final CompletableFuture<Response> executed = execute(context);
+        return AsyncResultUtils.cancelling(
+                executed.whenComplete((response, throwable) -> call.stop(support.errorCode(response))), executed);
+    }
+
+    /**
+     * Execute read single request.
+     * A synchronous method is executed in the opened {@link JsonRpcCallObserver.Call}.
+     *
+     * @param context See {@link RequestContext}
+     * @return {@link CompletableFuture} of the response or error response. Completed with null for notifications
+     */
+    protected CompletableFuture<Response> execute(final @NonNull C context) {
+        try {
+            if (support.isNotification(context)) {
+                return notification(context).handle((ignored, throwable) ->
+                        throwable == null ? null : error(throwable, context));
+            }
+            final Executor offload = offload(context);
+            if (offload != null) {
+                return offloaded(context, offload);
+            }
+            final boolean wait = !(context.getTransportRequest()
+                    .getAttribute(JsonRpcService.BLOCKING_EXECUTOR_ATTRIBUTE) instanceof Executor);
+            final Object result;
+            try (JsonRpcCallObserver.Scope scope = context.getCall().open()) {
+                result = call(context, wait);
+            }
+            return Optional.ofNullable(AsyncResultUtils.future(result))
+                    .map(future -> cancelling(future
+                            .thenApply(value -> support.response(value, context))
+                            .exceptionally(throwable -> error(throwable, context)), future, context))
+                    .orElseGet(() -> CompletableFuture.completedFuture(support.response(result, context)));
+        } catch (final Throwable throwable) {
+            return CompletableFuture.completedFuture(error(throwable, context));
+        }
+    }
+
+    /**
+     * Get executor of the method out of the request thread.
+     * With {@link JsonRpcExecutors#getVirtual()} every method is executed on a virtual thread.
+     * A transport with a non-blocking request thread (f.e. WebFlux) sets
+     * {@link JsonRpcService#BLOCKING_EXECUTOR_ATTRIBUTE}: the methods with an asynchronous result are invoked
+     * in the request thread, the blocking ones by the attribute executor (or on a virtual thread).
+     * The request thread never waits for a {@link JsonRpcMethodBulkhead} permit: a call of a saturated method
+     * is executed by the attribute executor, where it may wait, see {@link #call(RequestContext, boolean)}.
+     *
+     * @param context See {@link RequestContext}
+     * @return Executor of the method. Null if the method is executed in the request thread
+     */
+    protected Executor offload(final @NonNull C context) {
+        if (!(context.getTransportRequest().getAttribute(JsonRpcService.BLOCKING_EXECUTOR_ATTRIBUTE)
+                instanceof Executor blocking)) {
+            return executors.getVirtual();
+        }
+        final Triple<Method, Object, List<MethodParameter>> box = method(context);
+        final Executor executor = Optional.<Executor>ofNullable(executors.getVirtual()).orElse(blocking);
+        if (!AsyncResultUtils.isAsynchronous(box.getLeft().getReturnType())) {
+            return executor;
+        }
+        return box instanceof JsonRpcMethodBox methodBox && methodBox.getBulkhead() != null
+                && methodBox.getBulkhead().isSaturated() ? executor : null;
+    }
+
+    /**
+     * Handle single request on the executor, f.e. on a virtual thread.
+     * The method and its parameters are resolved in the request thread, the executor thread gets them and
+     * the {@link RequestContext} explicitly: thread-bound state of the request thread (f.e.
+     * {@code SecurityContextHolder}, {@code RequestContextHolder}, MDC) is not seen by the method.
+     * A virtual thread blocked inside a {@code synchronized} block or a native call pins its carrier thread,
+     * the starter itself holds no monitors while the method is executed.
+     *
+     * @param context  See {@link RequestContext}
+     * @param executor Executor of the method, see {@link #offload(RequestContext)}
+     * @return {@link CompletableFuture} of the response or error response
+     */
+    protected CompletableFuture<Response> offloaded(final @NonNull C context, final @NonNull Executor executor) {
+        final Triple<Method, Object, List<MethodParameter>> box = method(context);
+        final Function<Object[], Object> invocation = parameters -> CompletableFuture.supplyAsync(() -> {
+                    try (JsonRpcCallObserver.Scope scope = context.getCall().open()) {
+                        return invoke(box, parameters);
+                    }
+                }, executor)
+                .thenCompose(result -> Optional.ofNullable(AsyncResultUtils.future(result))
+                        .orElseGet(() -> CompletableFuture.completedFuture(result)));
+        final Object result = isShared(box)
+                ? shared((JsonRpcMethodBox) box, context, invocation)
+                : invocation.apply(parameters(box.getRight(), context));
+        final CompletableFuture<Object> future = Optional.ofNullable(AsyncResultUtils.future(result))
+                .orElseGet(() -> CompletableFuture.completedFuture(result));
+        return cancelling(future
+                .thenApply(value -> support.response(value, context))
+                .exceptionally(throwable -> error(throwable, context)), future, context);
+    }
+
+    /**
+     * Handle single request failure.
+     *
+     * @param throwable Request failure
+     * @param context   See {@link RequestContext}
+     * @return Error response. Null for notifications
+     */
+    protected Response error(final @NonNull Throwable throwable, final @NonNull C context) {
+        final Throwable failure = AsyncResultUtils.unwrap(throwable);
+        context.getCall().error(failure);
+        final Response response = support.isNotification(context) ? null : support.error(failure, context);
+        getErrorLog().log(name(context), response == null ? null : support.errorCode(response), failure,
+                () -> body(context));
+        return response == null ? null : listened(response, context);
+    }
+
+    /**
+     * Pass the error code of the response to {@link JsonRpcServiceListener#error(String, int)}.
+     *
+     * @param response Error response
+     * @param context  See {@link RequestContext}
+     * @return The response
+     */
+    protected Response listened(final Response response, final @NonNull C context) {
+        Optional.ofNullable(support.errorCode(response)).ifPresent(code -> listener.error(name(context), code));
+        return response;
+    }
+
+    /**
+     * Get name of the requested method for {@link JsonRpcServiceListener}.
+     * Never fails, it names the failures too: a request without a method name is not a loaded method.
+     *
+     * @param context See {@link RequestContext}
+     * @return Loaded method name. {@link JsonRpcServiceListener#UNKNOWN_METHOD} if the method is not loaded,
+     * the request has no method name or the request is not read
+     */
+    @NonNull
+    protected String name(final @NonNull C context) {
+        Triple<Method, Object, List<MethodParameter>> box = context.getMethod();
+        if (box == null && context.getRequest() != null) {
+            try {
+                box = Optional.ofNullable(support.methodName(context)).map(methodProvider::get).orElse(null);
+            } catch (final RuntimeException exception) {
+                return JsonRpcServiceListener.UNKNOWN_METHOD;
+            }
+        }
+        return box instanceof JsonRpcMethodBox methodBox ? methodBox.getName() : JsonRpcServiceListener.UNKNOWN_METHOD;
+    }
+
+    /**
+     * Execute notification.
+     * The method and its parameters are resolved in the request thread, so the request data
+     * is still available. The method itself is executed by {@link JsonRpcExecutors#getNotification()}
+     * or on a virtual thread by {@link JsonRpcExecutors#getVirtual()} if
+     * {@link JsonRpcConfigurationProperties.Notification#isAsync()}.
+     * Otherwise the method is executed in the request thread or the response waits for its virtual thread.
+     * A transport with a non-blocking request thread ({@link JsonRpcService#BLOCKING_EXECUTOR_ATTRIBUTE}) never
+     * executes the method in the request thread: it is executed by the attribute executor instead of the request
+     * thread and of {@link JsonRpcExecutors#getNotification()}, whose overflow policy may run it in the caller.
+     * There the method does not wait for a {@link JsonRpcMethodBulkhead} permit, a notification of a saturated
+     * method is rejected and logged, as a notification rejected by the executor.
+     * A {@link JsonRpcTransportRequest} parameter must not be used by the method after the request is completed.
+     * Asynchronous method results are not awaited, their failures are logged.
+     * Only a method executed before the response is executed in the opened {@link JsonRpcCallObserver.Call}.
+     *
+     * @param context See {@link RequestContext}
+     * @return {@link CompletableFuture} of the notification execution awaited by the response
+     */
+    protected CompletableFuture<Void> notification(final @NonNull C context) {
+        final Triple<Method, Object, List<MethodParameter>> box = method(context);
+        final Object[] parameters = parameters(box.getRight(), context);
+        final Executor blocking = context.getTransportRequest()
+                .getAttribute(JsonRpcService.BLOCKING_EXECUTOR_ATTRIBUTE) instanceof Executor executor
+                ? executor
+                : null;
+        final Runnable execution = () -> notified(context, invoke(box, parameters, blocking == null));
+        if (!properties.getNotification().isAsync()) {
+            final Runnable observed = () -> {
+                try (JsonRpcCallObserver.Scope scope = context.getCall().open()) {
+                    execution.run();
+                }
+            };
+            final Executor executor = Optional.<Executor>ofNullable(executors.getVirtual()).orElse(blocking);
+            if (executor != null) {
+                return CompletableFuture.runAsync(observed, executor);
+            }
+            observed.run();
+            return CompletableFuture.completedFuture(null);
+        }
+        final Executor executor = Optional.<Executor>ofNullable(executors.getVirtual())
+                .or(() -> Optional.ofNullable(blocking))
+                .orElse(executors.getNotification());
+        executor.execute(() -> {
+            try {
+                execution.run();
+            } catch (final Throwable throwable) {
+                getErrorLog().log(name(context), null, AsyncResultUtils.unwrap(throwable), () -> body(context));
+            }
+        });
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Log failure of asynchronous notification method result.
+     *
+     * @param context See {@link RequestContext}
+     * @param result  Notification method result
+     */
+    protected void notified(final @NonNull C context, final Object result) {
+        Optional.ofNullable(AsyncResultUtils.future(result)).ifPresent(future -> future.whenComplete(
+                (value, throwable) -> {
+                    if (throwable != null) {
+                        getErrorLog().log(name(context), null, AsyncResultUtils.unwrap(throwable),
+                                () -> body(context));
+                    }
+                }));
+    }
+
+    /**
+     * Handle batch request.
+     * Up to {@link JsonRpcConfigurationProperties.Batch#getParallelism()} elements are executed at the same time:
+     * the request thread and the {@link JsonRpcExecutors#getBatch()} workers take the next element
+     * until the batch is over. A worker started after the batch is taken has nothing to do, so the request thread
+     * never waits for the workers: if the executor is saturated, the request thread completes the batch itself,
+     * otherwise the batch response is completed by the worker completing the last element.
+     * Elements with asynchronous method results do not hold the workers, the batch response is composed
+     * of the elements responses futures.
+     * With {@link JsonRpcExecutors#getVirtual()} the request thread reads all the elements and every element
+     * method is executed on its own virtual thread, see {@link #offloaded(RequestContext, Executor)}.
+     * The same calls of coalesced methods are executed once per batch, see
+     * {@link #coalesced(JsonRpcMethodBox, String, RequestContext, Supplier)}.
+     *
+     * @param context See {@link RequestContext}
+     * @return {@link CompletableFuture} of the responses in the request order without notifications.
+     * Completed with null if the batch consists of notifications
+     */
+    @SuppressWarnings("unchecked")
+    protected CompletableFuture<List<Response>> batch(final @NonNull C context) {
+        final long start = System.nanoTime();
+        final List<C> elements = support.batch(context, properties.getBatch().getMaxSize());
+        listener.phase(JsonRpcServiceListener.BATCH, JsonRpcServiceListener.Phase.PARSE, System.nanoTime() - start);
+        final Map<String, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+        elements.forEach(element -> element.setFlights(flights));
+        final CompletableFuture<Response>[] responses = new CompletableFuture[elements.size()];
+        Arrays.setAll(responses, i -> new CompletableFuture<>());
+        final AtomicInteger cursor = new AtomicInteger();
+        final Runnable worker = () -> {
+            for (int i = cursor.getAndIncrement(); i < responses.length; i = cursor.getAndIncrement()) {
+                final CompletableFuture<Response> response = responses[i];
+                try {
+                    final CompletableFuture<Response> handled = handle(elements.get(i));
+                    AsyncResultUtils.cancelling(response, handled);
+                    handled.whenComplete((value, throwable) -> {
+                        if (throwable != null) {
+                            response.completeExceptionally(throwable);
+                        } else {
+                            response.complete(value);
+                        }
+                    });
+                } catch (final Throwable throwable) {
+                    response.completeExceptionally(throwable);
+                }
+            }
+        };
+        final int parallelism = executors.getVirtual() != null ? 1 : properties.getBatch().getParallelism();
+        for (int i = 1; i < Math.min(parallelism, elements.size()); i++) {
+            try {
+                executors.getBatch().execute(worker);
+            } catch (final RejectedExecutionException exception) {
+                log.debug("Batch executor is saturated, batch continues with {} workers", i);
+                break;
+            }
+        }
+        worker.run();
+        return AsyncResultUtils.cancelling(CompletableFuture.allOf(responses).thenApply(ignored -> Optional
+                .of(Arrays.stream(responses).map(CompletableFuture::join).filter(Objects::nonNull).toList())
+                .filter(list -> !list.isEmpty())
+                .orElse(null)), responses);
+    }
+
+    /**
+     * Get raw request body for logging, truncated by {@link JsonRpcErrorLog}.
+     * Only the logged bytes of a binary body are decoded, a stream body is logged by its kept prefix.
+     *
+     * @param context See {@link RequestContext}
+     * @return Truncated raw request body string. Null if the body is absent or not logged
+     */
+    protected String body(final @NonNull C context) {
+        final JsonRpcErrorLog failures = getErrorLog();
+        final byte[] bytes = context.getBodyBytes();
+        if (context.getBody() != null) {
+            return failures.truncate(context.getBody());
+        } else if (bytes != null) {
+            return failures.truncate(bytes, bytes.length, bytes.length);
+        }
+        return Optional.ofNullable(context.getBodyPrefix())
+                .map(prefix -> failures.truncate(prefix.getPrefix(), prefix.getLength(), prefix.getTotal()))
+                .orElse(null);
     }
 
     /**
@@ -83,40 +551,426 @@ public class AbstractJsonRpcService<Request, Response, C
      * @return {@link Method} result
      */
     protected Object call(final @NonNull C context) {
+        return call(context, true);
+    }
+
+    /**
+     * Call {@link Method}.
+     *
+     * @param context See {@link RequestContext}
+     * @param wait    False if the thread must not wait for a {@link JsonRpcMethodBulkhead} permit,
+     *                f.e. a non-blocking request thread
+     * @return {@link Method} result
+     */
+    protected Object call(final @NonNull C context, final boolean wait) {
         return Optional.of(method(context))
-                .map(box ->
-                        ReflectionUtils.invokeMethod(
-                                box.getLeft(),
-                                box.getMiddle(),
-                                parameters(box.getRight(), context)))
+                .map(box -> isShared(box)
+                        ? shared((JsonRpcMethodBox) box, context, parameters -> invoke(box, parameters, wait))
+                        : invoke(box, parameters(box.getRight(), context), wait))
+                .orElse(null);
+    }
+
+    /**
+     * Check the method results are shared by the calls with the same params.
+     *
+     * @param box Target {@link Method}, controller object and {@link Method} parameters
+     * @return true if the method is a {@link JsonRpcMethodBox} with {@link JsonRpcMethodBox#getCache()}
+     * or {@link JsonRpcMethodBox#getFlights()}
+     */
+    protected boolean isShared(final @NonNull Triple<Method, Object, List<MethodParameter>> box) {
+        return box instanceof JsonRpcMethodBox methodBox
+                && (methodBox.getCache() != null || methodBox.getFlights() != null);
+    }
+
+    /**
+     * Call {@link Method} sharing its results by the canonical request params,
+     * see {@link JsonRpcProtocolSupport#canonicalParams(RequestContext)}.
+     * A result of {@link JsonRpcMethodCache} answers the call without binding the parameters and executing
+     * the method, a result older than {@link JsonRpcMethodCache#getRefreshAfter()} is also refreshed, see
+     * {@link #refresh(JsonRpcMethodBox, String, JsonRpcMethodCache.Entry, RequestContext)}.
+     * Otherwise the call joins the same call in flight, see {@link #coalesced(JsonRpcMethodBox, String,
+     * RequestContext, Supplier)}, or executes the method and caches the result, see
+     * {@link #cache(JsonRpcMethodCache, String, Object)}.
+     *
+     * @param box        Target {@link JsonRpcMethodBox} with {@link JsonRpcMethodBox#getCache()}
+     *                   or {@link JsonRpcMethodBox#getFlights()}
+     * @param context    See {@link RequestContext}
+     * @param invocation Invokes the {@link Method} with the parameters array
+     * @return {@link Method} result or its {@link CompletableFuture}, serialized if the result is cached
+     */
+    protected Object shared(
+            final @NonNull JsonRpcMethodBox box,
+            final @NonNull C context,
+            final @NonNull Function<Object[], Object> invocation) {
+        final String params = support.canonicalParams(context);
+        if (params == null) {
+            return invocation.apply(parameters(box.getRight(), context));
+        }
+        final String principal = Optional.ofNullable(context.getTransportRequest().getUserPrincipal())
+                .map(Principal::getName)
                 .orElse(null);
+        final JsonRpcMethodCache cache = box.getCache();
+        final String key = cache == null ? null : cache.key(params, principal);
+        if (cache != null) {
+            final JsonRpcMethodCache.Entry entry = cache.get(key);
+            if (entry != null) {
+                if (cache.refresh(entry)) {
+                    refresh(box, key, entry, context);
+                }
+                return entry.getResult();
+            }
+        }
+        final Supplier<Object> call = () -> cache == null
+                ? invocation.apply(parameters(box.getRight(), context))
+                : cache(cache, key, invocation.apply(parameters(box.getRight(), context)));
+        return box.getFlights() == null
+                ? call.get()
+                : coalesced(box, box.getFlights().key(params, principal), context, call);
+    }
+
+    /**
+     * Cache {@link Method} result serialized by {@link JsonRpcProtocolSupport#serialized(Object)}.
+     * An asynchronous result is cached when it is completed, failures are not cached.
+     *
+     * @param cache  See {@link JsonRpcMethodCache}
+     * @param key    Cache key
+     * @param result {@link Method} result
+     * @return Serialized {@link Method} result or its {@link CompletableFuture}
+     */
+    protected Object cache(final @NonNull JsonRpcMethodCache cache, final @NonNull String key, final Object result) {
+        final CompletableFuture<Object> future = AsyncResultUtils.future(result);
+        if (future == null) {
+            final Object serialized = support.serialized(result);
+            cache.put(key, serialized);
+            return serialized;
+        }
+        return future.thenApply(value -> {
+            final Object serialized = support.serialized(value);
+            cache.put(key, serialized);
+            return serialized;
+        });
+    }
+
+    /**
+     * Call {@link Method} once for the calls with the same params in flight, see {@link JsonRpcMethodFlights}.
+     * The first call executes the method, the calls joining its flight get the {@link CompletableFuture} of its
+     * result or failure. The same calls of a batch share the flight of the first of them also after it has landed,
+     * see {@link RequestContext#getFlights()}. Calls with other params only touch their own
+     * {@link java.util.concurrent.ConcurrentHashMap} bins.
+     *
+     * @param box     Target {@link JsonRpcMethodBox} with {@link JsonRpcMethodBox#getFlights()}
+     * @param key     Flight key
+     * @param context See {@link RequestContext}
+     * @param call    Executes the {@link Method}
+     * @return {@link Method} result or its {@link CompletableFuture}
+     */
+    protected Object coalesced(
+            final @NonNull JsonRpcMethodBox box,
+            final @NonNull String key,
+            final @NonNull C context,
+            final @NonNull Supplier<Object> call) {
+        final JsonRpcMethodFlights flights = box.getFlights();
+        final CompletableFuture<Object> flight = new CompletableFuture<>();
+        final Map<String, CompletableFuture<Object>> batch = context.getFlights();
+        if (batch != null) {
+            final CompletableFuture<Object> batched = batch.putIfAbsent(box.getName() + '\n' + key, flight);
+            if (batched != null) {
+                flights.join();
+                return batched;
+            }
+        }
+        final CompletableFuture<Object> inFlight = flights.takeOff(key, flight);
+        if (inFlight != null) {
+            inFlight.whenComplete((value, throwable) -> land(flight, value, throwable));
+            return inFlight;
+        }
+        final Object result;
+        try {
+            result = call.get();
+        } catch (final RuntimeException | Error exception) {
+            flights.land(key, flight);
+            flight.completeExceptionally(exception);
+            throw exception;
+        }
+        final CompletableFuture<Object> future = AsyncResultUtils.future(result);
+        if (future == null) {
+            flights.land(key, flight);
+            flight.complete(result);
+            return result;
+        }
+        future.whenComplete((value, throwable) -> {
+            flights.land(key, flight);
+            land(flight, value, throwable);
+        });
+        return future;
+    }
+
+    /**
+     * Complete flight with the {@link Method} result or failure.
+     *
+     * @param flight    Flight. See {@link JsonRpcMethodFlights}
+     * @param value     {@link Method} result
+     * @param throwable {@link Method} failure. Null if the method succeeded
+     */
+    protected void land(
+            final @NonNull CompletableFuture<Object> flight,
+            final Object value,
+            final Throwable throwable) {
+        if (throwable != null) {
+            flight.completeExceptionally(AsyncResultUtils.unwrap(throwable));
+        } else {
+            flight.complete(value);
+        }
+    }
+
+    /**
+     * Refresh cached result ahead of its expiration.
+     * The parameters are bound in the request thread, the method is executed by {@link JsonRpcExecutors#getBatch()}
+     * or on a virtual thread by {@link JsonRpcExecutors#getVirtual()}. If the executor is saturated or the call
+     * fails, the result is refreshed by a next call.
+     *
+     * @param box     Target {@link JsonRpcMethodBox} with {@link JsonRpcMethodBox#getCache()}
+     * @param key     Cache key
+     * @param entry   Cached {@link JsonRpcMethodCache.Entry} taken to refresh
+     * @param context See {@link RequestContext}
+     */
+    protected void refresh(
+            final @NonNull JsonRpcMethodBox box,
+            final @NonNull String key,
+            final @NonNull JsonRpcMethodCache.Entry entry,
+            final @NonNull C context) {
+        final JsonRpcMethodCache cache = box.getCache();
+        try {
+            final Object[] parameters = parameters(box.getRight(), context);
+            Optional.<Executor>ofNullable(executors.getVirtual()).orElse(executors.getBatch()).execute(() -> {
+                try {
+                    final Object result = invoke(box, parameters);
+                    Optional.ofNullable(AsyncResultUtils.future(result))
+                            .orElseGet(() -> CompletableFuture.completedFuture(result))
+                            .thenAccept(value -> cache.put(key, support.serialized(value)))
+                            .exceptionally(throwable -> {
+                                refreshFailed(box, entry, throwable);
+                                return null;
+                            });
+                } catch (final Throwable throwable) {
+                    refreshFailed(box, entry, throwable);
+                }
+            });
+        } catch (final RuntimeException exception) {
+            refreshFailed(box, entry, exception);
+        }
+    }
+
+    /**
+     * Handle failed refresh of cached result. The result is still cached until it expires.
+     *
+     * @param box       Target {@link JsonRpcMethodBox} with {@link JsonRpcMethodBox#getCache()}
+     * @param entry     Cached {@link JsonRpcMethodCache.Entry} taken to refresh
+     * @param throwable Refresh failure
+     */
+    protected void refreshFailed(
+            final @NonNull JsonRpcMethodBox box,
+            final @NonNull JsonRpcMethodCache.Entry entry,
+            final @NonNull Throwable throwable) {
+        log.warn(FormatUtils.format("Could not refresh cached result of method {}", box.getName()),
+                AsyncResultUtils.unwrap(throwable));
+        box.getCache().release(entry);
+    }
+
+    /**
+     * Invoke {@link Method} by reflection.
+     * {@link JsonRpcMethodBox}es loaded by {@link JsonRpcMethodProvider} are called through their bulkhead and
+     * timeout, other boxes are invoked as is.
+     * The call holds a permit of the method {@link JsonRpcMethodBulkhead} while the method is executed,
+     * an asynchronous method result does not hold it. The method {@link JsonRpcMethodTimeout} is counted
+     * from the permit, see {@link #timed(JsonRpcMethodBox, Object[])}.
+     * Asynchronous results are adapted to {@link CompletableFuture} here, so the
+     * {@link JsonRpcServiceListener.Phase#INVOKE} lasts up to their completion.
+     *
+     * @param box        Target {@link Method}, controller object and {@link Method} parameters
+     * @param parameters Parameters array to controller {@link Method}
+     * @return {@link Method} result
+     */
+    protected Object invoke(
+            final @NonNull Triple<Method, Object, List<MethodParameter>> box,
+            final @NonNull Object[] parameters) {
+        return invoke(box, parameters, true);
+    }
+
+    /**
+     * Invoke {@link Method}, see {@link #invoke(Triple, Object[])}.
+     *
+     * @param box        Target {@link Method}, controller object and {@link Method} parameters
+     * @param parameters Parameters array to controller {@link Method}
+     * @param wait       False if the thread must not wait for a {@link JsonRpcMethodBulkhead} permit
+     * @return {@link Method} result
+     */
+    protected Object invoke(
+            final @NonNull Triple<Method, Object, List<MethodParameter>> box,
+            final @NonNull Object[] parameters,
+            final boolean wait) {
+        if (!(box instanceof JsonRpcMethodBox methodBox)) {
+            return ReflectionUtils.invokeMethod(box.getLeft(), box.getMiddle(), parameters);
+        }
+        final long start = System.nanoTime();
+        final Object result;
+        try {
+            result = guarded(methodBox, parameters, wait);
+        } catch (final RuntimeException | Error exception) {
+            listener.phase(methodBox.getName(), JsonRpcServiceListener.Phase.INVOKE, System.nanoTime() - start);
+            throw exception;
+        }
+        final CompletableFuture<Object> future = AsyncResultUtils.future(result);
+        if (future == null) {
+            listener.phase(methodBox.getName(), JsonRpcServiceListener.Phase.INVOKE, System.nanoTime() - start);
+            return result;
+        }
+        return AsyncResultUtils.cancelling(future.whenComplete((value, throwable) -> listener.phase(
+                methodBox.getName(), JsonRpcServiceListener.Phase.INVOKE, System.nanoTime() - start)), future);
+    }
+
+    /**
+     * Invoke {@link Method} holding a permit of its {@link JsonRpcMethodBulkhead}.
+     *
+     * @param box        Target {@link JsonRpcMethodBox}
+     * @param parameters Parameters array to controller {@link Method}
+     * @param wait       False to reject the call at once if there is no free permit,
+     *                   see {@link JsonRpcMethodBulkhead#acquire(boolean)}
+     * @return {@link Method} result
+     */
+    protected Object guarded(
+            final @NonNull JsonRpcMethodBox box,
+            final @NonNull Object[] parameters,
+            final boolean wait) {
+        final JsonRpcMethodBulkhead bulkhead = box.getBulkhead();
+        if (bulkhead == null) {
+            return timed(box, parameters);
+        }
+        bulkhead.acquire(wait);
+        try {
+            return timed(box, parameters);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Invoke {@link Method} in its {@link JsonRpcMethodTimeout}.
+     * The thread executing an expired method is interrupted by {@link JsonRpcExecutors#getScheduler()} and the call
+     * fails with {@link JsonRpcMethodTimeoutException} when the method returns, so a method ignoring interrupts
+     * (f.e. blocked in the classic socket I/O of a platform thread) still holds its thread.
+     * An asynchronous result is completed with the exception at the deadline and cancelled.
+     *
+     * @param box        Target {@link JsonRpcMethodBox}
+     * @param parameters Parameters array to controller {@link Method}
+     * @return {@link Method} result. A {@link CompletableFuture} limited by the deadline for asynchronous results
+     */
+    protected Object timed(final @NonNull JsonRpcMethodBox box, final @NonNull Object[] parameters) {
+        final JsonRpcMethodTimeout timeout = box.getTimeout();
+        if (timeout == null) {
+            return ReflectionUtils.invokeMethod(box.getLeft(), box.getMiddle(), parameters);
+        }
+        final long deadline = System.nanoTime() + timeout.getTimeout().toNanos();
+        final JsonRpcMethodTimeout.Watch watch = new JsonRpcMethodTimeout.Watch(Thread.currentThread());
+        final ScheduledFuture<?> alarm = executors.getScheduler()
+                .schedule(watch, timeout.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        try {
+            final Object result = ReflectionUtils.invokeMethod(box.getLeft(), box.getMiddle(), parameters);
+            if (watch.complete()) {
+                return deadline(result, timeout, deadline);
+            }
+        } catch (final RuntimeException | Error exception) {
+            if (watch.complete()) {
+                throw exception;
+            }
+        } finally {
+            alarm.cancel(false);
+        }
+        timeout.expire();
+        throw timeout.exception();
+    }
+
+    /**
+     * Limit asynchronous method result by the deadline.
+     *
+     * @param result   {@link Method} result
+     * @param timeout  See {@link JsonRpcMethodTimeout}
+     * @param deadline Deadline by {@link System#nanoTime()}
+     * @return {@link CompletableFuture} of the result completed with {@link JsonRpcMethodTimeoutException}
+     * at the deadline. Synchronous results are returned as is
+     */
+    protected Object deadline(final Object result, final @NonNull JsonRpcMethodTimeout timeout, final long deadline) {
+        final CompletableFuture<Object> future = AsyncResultUtils.future(result);
+        if (future == null || future.isDone()) {
+            return future == null ? result : future;
+        }
+        final CompletableFuture<Object> limited = AsyncResultUtils.cancelling(new CompletableFuture<>(), future);
+        final ScheduledFuture<?> alarm = executors.getScheduler().schedule(() -> {
+            if (limited.completeExceptionally(timeout.exception())) {
+                timeout.expire();
+                future.cancel(true);
+            }
+        }, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        future.whenComplete((value, throwable) -> {
+            alarm.cancel(false);
+            if (throwable != null) {
+                limited.completeExceptionally(throwable);
+            } else {
+                limited.complete(value);
+            }
+        });
+        return limited;
+    }
+
+    /**
+     * Cancel the pending method result when the response is cancelled, see
+     * {@link AsyncResultUtils#cancelling(CompletableFuture, java.util.concurrent.Future[])}.
+     * A shared result is not cancelled, the other calls sharing it still wait for it.
+     *
+     * @param response {@link CompletableFuture} of the response
+     * @param result   {@link CompletableFuture} of the method result
+     * @param context  See {@link RequestContext}
+     * @return {@link CompletableFuture} of the response
+     */
+    protected CompletableFuture<Response> cancelling(
+            final @NonNull CompletableFuture<Response> response,
+            final @NonNull CompletableFuture<Object> result,
+            final @NonNull C context) {
+        return isShared(method(context)) ? response : AsyncResultUtils.cancelling(response, result);
     }
 
     /**
      * Build parameters to controller {@link Method}.
+     * Parameters loaded by {@link JsonRpcMethodProvider} are {@link JsonRpcMethodParameter}s
+     * with compiled binding plans, so this is a flat pass over them.
      *
      * @param methodParameterList {@link MethodParameter} list
      * @param context             See {@link RequestContext}
      * @return Parameters array to controller {@link Method}
      */
     protected Object[] parameters(final @NonNull List<MethodParameter> methodParameterList, final @NonNull C context) {
-        return Optional.of(new Object[methodParameterList.size()])
-                .map(parameters -> {
-                    methodParameterList.forEach(parameter ->
-                            parameters[parameter.getParameterIndex()] = isSystemParameter(parameter)
-                                    ? systemParameter(parameter, context)
-                                    : support.parameter(parameter, context));
-                    return parameters;
-                }).orElseThrow();
+        final long start = System.nanoTime();
+        final Object[] parameters = new Object[methodParameterList.size()];
+        for (final MethodParameter parameter : methodParameterList) {
+            parameters[parameter.getParameterIndex()] = isSystemParameter(parameter)
+                    ? systemParameter(parameter, context)
+                    : support.parameter(parameter, context);
+        }
+        listener.phase(name(context), JsonRpcServiceListener.Phase.BIND, System.nanoTime() - start);
+        return parameters;
     }
 
     /**
      * Get target {@link Method} and controller object.
+     * The method resolved while reading the request is used as is, see {@link RequestContext#getMethod()}.
      *
      * @param context See {@link RequestContext}
      * @return Target {@link Method} and controller object
      */
     protected Triple<Method, Object, List<MethodParameter>> method(final @NonNull C context) {
+        if (context.getMethod() != null) {
+            return context.getMethod();
+        }
         return Optional.of(support.methodName(context))
                 .map(methodProvider::get)
                 .orElseThrow(() -> new JsonRpcMethodNotFoundException(support.methodName(context)));
@@ -130,17 +984,17 @@ public class AbstractJsonRpcService<Request, Response, C
      *
      * @param parameter See {@link MethodParameter}
      * @return True if parameter:
-     * instanceof {@link Principal} or {@link HttpServletRequest}
+     * instanceof {@link Principal}, {@link JsonRpcTransportRequest} or {@code HttpServletRequest}
      */
     protected boolean isSystemParameter(final @NonNull MethodParameter parameter) {
-        return parameter.getParameterType() == Principal.class
-                || parameter.getParameterType() == HttpServletRequest.class;
+        return source(parameter).isSystem();
     }
 
     /**
      * Process system parameter.
      * {@link java.security.Principal}
-     * {@link HttpServletRequest}
+     * {@link JsonRpcTransportRequest}
+     * {@code HttpServletRequest}, null if the request is not received by the servlet transport
      * And others ...
      *
      * @param parameter See {@link MethodParameter}
@@ -150,12 +1004,59 @@ public class AbstractJsonRpcService<Request, Response, C
     protected Object systemParameter(
             final @NonNull MethodParameter parameter,
             final @NonNull C context) {
-        if (parameter.getParameterType() == Principal.class) {
-            return context.getHttpServletRequest().getUserPrincipal();
-        } else if (parameter.getParameterType() == HttpServletRequest.class) {
-            return context.getHttpServletRequest();
+        return switch (source(parameter)) {
+            case PRINCIPAL -> context.getTransportRequest().getUserPrincipal();
+            case TRANSPORT_REQUEST -> context.getTransportRequest();
+            case HTTP_SERVLET_REQUEST -> context.getTransportRequest().unwrap(parameter.getParameterType());
+            default -> throw new JsonRpcParseMethodParameterException(
+                    FormatUtils.format("Could not identify the type of system parameter {}", parameter));
+        };
+    }
+
+    /**
+     * Get source of the parameter value.
+     *
+     * @param parameter See {@link MethodParameter}
+     * @return Compiled {@link JsonRpcMethodParameter.Source} or the source resolved in place for other parameters
+     */
+    @NonNull
+    protected JsonRpcMethodParameter.Source source(final @NonNull MethodParameter parameter) {
+        return parameter instanceof JsonRpcMethodParameter plan
+                ? plan.getSource()
+                : JsonRpcMethodParameter.Source.of(parameter);
+    }
+
+    /**
+     * Pending response of {@link #process(Consumer, JsonRpcTransportRequest)},
+     * see {@link #expire(CompletableFuture, Throwable)}.
+     *
+     * @author kibberpunk
+     */
+    @RequiredArgsConstructor
+    protected class PendingResponse extends CompletableFuture<Object> {
+
+        /**
+         * {@link CompletableFuture} of the response or responses of a batch.
+         */
+        private final CompletableFuture<?> response;
+
+        /**
+         * See {@link RequestContext}.
+         */
+        private final C context;
+
+        /**
+         * Complete the response with the error response of the failure and cancel the pending method result.
+         *
+         * @param failure Expiration cause
+         * @return true if the response is expired by this call, false if it is already completed
+         */
+        protected boolean expire(final @NonNull Throwable failure) {
+            if (isDone() || !complete(failure(failure, context))) {
+                return false;
+            }
+            response.cancel(true);
+            return true;
         }
-        throw new JsonRpcParseMethodParameterException(
-                FormatUtils.format("Could not identify the type of system parameter {}", parameter));
     }
 }
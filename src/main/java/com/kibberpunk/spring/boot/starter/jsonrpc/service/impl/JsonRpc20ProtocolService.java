@@ -1,9 +1,12 @@
 package com.kibberpunk.spring.boot.starter.jsonrpc.service.impl;
 
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Request;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Response;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodProvider;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcCallObserver;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcProtocolSupport;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcServiceListener;
 import lombok.NonNull;
 
 /**
@@ -19,11 +22,55 @@ public class JsonRpc20ProtocolService
      *
      * @param support        See {@link JsonRpc20ProtocolSupportImpl}
      * @param methodProvider See {@link JsonRpcMethodProvider}
+     * @param executors      See {@link JsonRpcExecutors}
+     * @param properties     See {@link JsonRpcConfigurationProperties}
      */
     public JsonRpc20ProtocolService(
             final @NonNull JsonRpcProtocolSupport
                     <JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> support,
-            final @NonNull JsonRpcMethodProvider methodProvider) {
-        super(support, methodProvider);
+            final @NonNull JsonRpcMethodProvider methodProvider,
+            final @NonNull JsonRpcExecutors executors,
+            final @NonNull JsonRpcConfigurationProperties properties) {
+        this(support, methodProvider, executors, properties, JsonRpcServiceListener.NONE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param support        See {@link JsonRpc20ProtocolSupportImpl}
+     * @param methodProvider See {@link JsonRpcMethodProvider}
+     * @param executors      See {@link JsonRpcExecutors}
+     * @param properties     See {@link JsonRpcConfigurationProperties}
+     * @param listener       See {@link JsonRpcServiceListener}
+     */
+    public JsonRpc20ProtocolService(
+            final @NonNull JsonRpcProtocolSupport
+                    <JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> support,
+            final @NonNull JsonRpcMethodProvider methodProvider,
+            final @NonNull JsonRpcExecutors executors,
+            final @NonNull JsonRpcConfigurationProperties properties,
+            final @NonNull JsonRpcServiceListener listener) {
+        this(support, methodProvider, executors, properties, listener, JsonRpcCallObserver.NONE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param support        See {@link JsonRpc20ProtocolSupportImpl}
+     * @param methodProvider See {@link JsonRpcMethodProvider}
+     * @param executors      See {@link JsonRpcExecutors}
+     * @param properties     See {@link JsonRpcConfigurationProperties}
+     * @param listener       See {@link JsonRpcServiceListener}
+     * @param observer       See {@link JsonRpcCallObserver}
+     */
+    public JsonRpc20ProtocolService(
+            final @NonNull JsonRpcProtocolSupport
+                    <JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> support,
+            final @NonNull JsonRpcMethodProvider methodProvider,
+            final @NonNull JsonRpcExecutors executors,
+            final @NonNull JsonRpcConfigurationProperties properties,
+            final @NonNull JsonRpcServiceListener listener,
+            final @NonNull JsonRpcCallObserver observer) {
+        super(support, methodProvider, executors, properties, listener, observer);
     }
 }
@@ -1,14 +1,24 @@
 package com.kibberpunk.spring.boot.starter.jsonrpc.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.node.NullNode;
-import com.google.common.base.Defaults;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcRequestId;
 import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcRequestObject;
 import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcRequestObjectParameter;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Request;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Response;
+import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpcError;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcBatchSizeExceededException;
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcEmptyRequestBodyException;
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcException;
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcExceptionHandler;
@@ -17,24 +27,29 @@ import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcParseMethodPa
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcRequestIdNotFoundException;
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcRequestReceivingException;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodNameResolver;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodParameter;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodProvider;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodTable;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcProtocolSupport;
 import com.kibberpunk.spring.boot.starter.jsonrpc.utils.CatchExceptionUtils;
 import com.kibberpunk.spring.boot.starter.jsonrpc.utils.FormatUtils;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
-import org.springframework.util.ClassUtils;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Method;
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
 
@@ -43,9 +58,7 @@ import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
  *
  * @author kibberpunk
  */
-@Slf4j
 @Getter(AccessLevel.PROTECTED)
-@RequiredArgsConstructor
 public class JsonRpc20ProtocolSupportImpl implements
         JsonRpcProtocolSupport<JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> {
 
@@ -65,6 +78,47 @@ public class JsonRpc20ProtocolSupportImpl implements
     private final JsonRpcExceptionHandler
             <JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> exceptionHandler;
 
+    /**
+     * Dispatch table resolving the method while reading the request. See {@link JsonRpcMethodProvider#table()}
+     */
+    private final JsonRpcMethodTable methodTable;
+
+    /**
+     * Constructor. The method is resolved by name after the request is read.
+     *
+     * @param mapper     See {@link ObjectMapper}
+     * @param conversion See {@link ConversionService}
+     * @param handler    Exception handler
+     */
+    public JsonRpc20ProtocolSupportImpl(
+            final @NonNull ObjectMapper mapper,
+            final @NonNull ConversionService conversion,
+            final @NonNull JsonRpcExceptionHandler
+                    <JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> handler) {
+        this(mapper, conversion, handler, null);
+    }
+
+    /**
+     * Constructor. The method is resolved from the raw "method" member while reading the request, and "params"
+     * of an unknown method are skipped without reading.
+     *
+     * @param mapper         See {@link ObjectMapper}
+     * @param conversion     See {@link ConversionService}
+     * @param handler        Exception handler
+     * @param methodProvider See {@link JsonRpcMethodProvider}. Null to resolve the method by name
+     */
+    public JsonRpc20ProtocolSupportImpl(
+            final @NonNull ObjectMapper mapper,
+            final @NonNull ConversionService conversion,
+            final @NonNull JsonRpcExceptionHandler
+                    <JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> handler,
+            final JsonRpcMethodProvider methodProvider) {
+        this.objectMapper = mapper;
+        this.conversionService = conversion;
+        this.exceptionHandler = handler;
+        this.methodTable = Optional.ofNullable(methodProvider).map(JsonRpcMethodProvider::table).orElse(null);
+    }
+
     /**
      * Create specific protocol {@link JsonRpc20RequestContext}.
      *
@@ -78,6 +132,7 @@ public class JsonRpc20ProtocolSupportImpl implements
 
     /**
      * Converting a request object into {@link JsonRpc20Request}.
+     * The envelope is read in a single streaming pass, see {@link #read(JsonParser, JsonRpc20RequestContext)}.
      *
      * @param context See {@link JsonRpc20RequestContext}
      * @return See {@link JsonRpc20Request}
@@ -85,15 +140,89 @@ public class JsonRpc20ProtocolSupportImpl implements
     @Override
     @NonNull
     public JsonRpc20Request request(final @NonNull JsonRpc20RequestContext context) {
-        return Optional.ofNullable(context.getBody())
-                .map(body -> CatchExceptionUtils.catchException(() ->
-                                objectMapper.readTree(body),
-                        JsonRpcRequestReceivingException::new))
-                .filter(this::isNotEmptyJsonNode)
-                .map(jsonNode -> CatchExceptionUtils.catchException(() ->
-                                objectMapper.treeToValue(jsonNode, JsonRpc20Request.class),
-                        JsonRpcRequestReceivingException::new))
-                .orElseThrow(JsonRpcEmptyRequestBodyException::new);
+        if (context.getFailure() != null) {
+            throw context.getFailure();
+        } else if (context.getSource() != null) {
+            return context.getSource();
+        }
+        final JsonParser parser = parser(context);
+        if (parser == null || parser.currentToken() == null) {
+            throw new JsonRpcEmptyRequestBodyException();
+        }
+        try (parser) {
+            return read(parser, context);
+        } catch (final IOException exception) {
+            throw new JsonRpcRequestReceivingException(exception);
+        }
+    }
+
+    /**
+     * Check that the request is a notification: a request object without the "id" member.
+     * A request with the "id": null member is not a notification.
+     *
+     * @param context See {@link JsonRpc20RequestContext}
+     * @return true if the read request does not contain the "id" member
+     */
+    @Override
+    public boolean isNotification(final @NonNull JsonRpc20RequestContext context) {
+        return context.getRequest() != null && context.getRequest().getId() == null;
+    }
+
+    /**
+     * Check that the request body is a JSON array.
+     *
+     * @param context See {@link JsonRpc20RequestContext}
+     * @return true if the first body token is '['
+     */
+    @Override
+    public boolean isBatch(final @NonNull JsonRpc20RequestContext context) {
+        return Optional.ofNullable(parser(context))
+                .map(JsonParser::currentToken)
+                .filter(JsonToken.START_ARRAY::equals)
+                .isPresent();
+    }
+
+    /**
+     * Split a batch request into separate {@link JsonRpc20RequestContext}s.
+     * The body is streamed once: every element is read by {@link #read(JsonParser, JsonRpc20RequestContext)}
+     * right away and given to its context as {@link JsonRpc20RequestContext#getSource()}, an invalid element as
+     * {@link JsonRpc20RequestContext#getFailure()}. Reading stops as soon as the batch exceeds the maximum size.
+     *
+     * @param context See {@link JsonRpc20RequestContext}
+     * @param maxSize Maximum number of requests in the batch
+     * @return Batch elements contexts in the request order
+     */
+    @Override
+    @NonNull
+    public List<JsonRpc20RequestContext> batch(final @NonNull JsonRpc20RequestContext context, final int maxSize) {
+        final JsonParser parser = parser(context);
+        if (parser == null || parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonRpcEmptyRequestBodyException();
+        }
+        try (parser) {
+            final List<JsonRpc20RequestContext> elements = new ArrayList<>();
+            for (JsonToken token = parser.nextToken();
+                 token != null && token != JsonToken.END_ARRAY;
+                 token = parser.nextToken()) {
+                if (elements.size() == maxSize) {
+                    throw new JsonRpcBatchSizeExceededException(maxSize + 1, maxSize);
+                }
+                final JsonRpc20RequestContext element = context();
+                element.setTransportRequest(context.getTransportRequest());
+                try {
+                    element.setSource(read(parser, element));
+                } catch (final JsonRpcException exception) {
+                    element.setFailure(exception);
+                }
+                elements.add(element);
+            }
+            if (elements.isEmpty()) {
+                throw new JsonRpcEmptyRequestBodyException();
+            }
+            return elements;
+        } catch (final IOException exception) {
+            throw new JsonRpcRequestReceivingException(exception);
+        }
     }
 
     /**
@@ -123,16 +252,13 @@ public class JsonRpc20ProtocolSupportImpl implements
             final @NonNull MethodParameter parameter,
             final @NonNull JsonRpc20RequestContext context) {
         try {
-            if (parameter.hasParameterAnnotation(JsonRpcRequestId.class)) {
-                return jsonRpcRequestId(Objects.requireNonNull(
-                        parameter.getParameterAnnotation(JsonRpcRequestId.class)), parameter, context);
-            } else if (parameter.hasParameterAnnotation(JsonRpcRequestObject.class)) {
-                return jsonRpcRequestObject(parameter, context);
-            } else if (parameter.hasParameterAnnotation(JsonRpcRequestObjectParameter.class)) {
-                return jsonRpcRequestObjectParameter(Objects.requireNonNull(
-                        parameter.getParameterAnnotation(JsonRpcRequestObjectParameter.class)), parameter, context);
-            }
-            return convert(NullNode.getInstance(), parameter);
+            final JsonRpcMethodParameter plan = plan(parameter);
+            return switch (plan.getSource()) {
+                case ID -> jsonRpcRequestId(plan, context);
+                case REQUEST_OBJECT -> jsonRpcRequestObject(plan, context);
+                case REQUEST_OBJECT_PARAMETER -> jsonRpcRequestObjectParameter(plan, context);
+                default -> convert(null, plan);
+            };
         } catch (final Throwable throwable) {
             if (throwable instanceof JsonRpcException) {
                 throw ExceptionUtils.asRuntimeException(throwable);
@@ -168,10 +294,67 @@ public class JsonRpc20ProtocolSupportImpl implements
     public JsonRpc20Response error(
             final @NonNull Throwable throwable,
             final @NonNull JsonRpc20RequestContext context) {
-        log.error(FormatUtils.format("Request processing exception to request id {}", id(context)), throwable);
         return exceptionHandler.handle(throwable, id(context), context, objectMapper, conversionService);
     }
 
+    /**
+     * Get error code of {@link JsonRpc20Response}.
+     *
+     * @param response See {@link JsonRpc20Response}
+     * @return {@link JsonRpcError#getCode()}. Null if the response is not an error
+     */
+    @Override
+    public Integer errorCode(final JsonRpc20Response response) {
+        return response == null || response.getError() == null ? null : response.getError().getCode();
+    }
+
+    /**
+     * Get canonical 'params' of {@link JsonRpc20RequestContext}: compact JSON with object members sorted by name.
+     *
+     * @param context See {@link JsonRpc20RequestContext}
+     * @return Canonical 'params' JSON. Empty string if the member is absent
+     */
+    @Override
+    public String canonicalParams(final @NonNull JsonRpc20RequestContext context) {
+        final TokenBuffer params = params(context);
+        if (params == null) {
+            return "";
+        }
+        try (JsonParser parser = params.asParser(objectMapper)) {
+            final StringBuilder builder = new StringBuilder();
+            canonical(objectMapper.readTree(parser), builder);
+            return builder.toString();
+        } catch (final IOException exception) {
+            throw new JsonRpcParseMethodParameterException(exception);
+        }
+    }
+
+    /**
+     * Serialize method result to JSON written as is to the responses.
+     *
+     * @param result Method result
+     * @return {@link RawValue} of the result JSON
+     */
+    @Override
+    public Object serialized(final Object result) {
+        try {
+            return new RawValue(objectMapper.writeValueAsString(result));
+        } catch (final JsonProcessingException exception) {
+            throw new IllegalStateException("Could not serialize method result", exception);
+        }
+    }
+
+    /**
+     * Get request id of {@link JsonRpc20RequestContext}.
+     *
+     * @param context See {@link JsonRpc20RequestContext}
+     * @return Request id text. Null if the id is absent or null value
+     */
+    @Override
+    public String requestId(final @NonNull JsonRpc20RequestContext context) {
+        return Optional.of(id(context)).filter(this::isNotNullJsonNode).map(JsonNode::asText).orElse(null);
+    }
+
     /**
      * Get id from request.
      *
@@ -184,122 +367,438 @@ public class JsonRpc20ProtocolSupportImpl implements
     }
 
     /**
-     * Get params {@link JsonNode} from request.
+     * Write canonical JSON of the node: compact, object members sorted by name.
+     *
+     * @param node    See {@link JsonNode}
+     * @param builder Canonical JSON builder
+     */
+    protected void canonical(final @NonNull JsonNode node, final @NonNull StringBuilder builder) {
+        if (node.isObject()) {
+            builder.append('{');
+            final List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            Collections.sort(names);
+            for (int i = 0; i < names.size(); i++) {
+                builder.append(i == 0 ? "" : ",").append(TextNode.valueOf(names.get(i))).append(':');
+                canonical(node.get(names.get(i)), builder);
+            }
+            builder.append('}');
+        } else if (node.isArray()) {
+            builder.append('[');
+            for (int i = 0; i < node.size(); i++) {
+                builder.append(i == 0 ? "" : ",");
+                canonical(node.get(i), builder);
+            }
+            builder.append(']');
+        } else {
+            builder.append(node);
+        }
+    }
+
+    /**
+     * Get params {@link TokenBuffer} from request.
      *
      * @param context See {@link JsonRpc20RequestContext}
-     * @return 'params' {@link JsonNode} from request.
+     * @return 'params' {@link TokenBuffer} from request. Null if the member is absent
      */
-    @NonNull
-    protected JsonNode params(final @NonNull JsonRpc20RequestContext context) {
-        return Optional.ofNullable(context.getRequest().getParams())
-                .orElse(NullNode.getInstance());
+    protected TokenBuffer params(final @NonNull JsonRpc20RequestContext context) {
+        return context.getRequest().getParams();
     }
 
     /**
      * Get request id by {@link JsonRpcRequestId} annotation.
      *
-     * @param jsonRpcRequestId See {@link JsonRpcRequestId}
-     * @param parameter        See {@link MethodParameter}
-     * @param context          See {@link JsonRpc20RequestContext}
+     * @param parameter See {@link JsonRpcMethodParameter}
+     * @param context   See {@link JsonRpc20RequestContext}
      * @return Request id by {@link JsonRpcRequestId} annotation
+     * @throws IOException If the id can not be read
      */
     protected Object jsonRpcRequestId(
-            final @NonNull JsonRpcRequestId jsonRpcRequestId,
-            final @NonNull MethodParameter parameter,
-            final @NonNull JsonRpc20RequestContext context) {
-        return Optional.of(id(context))
-                .filter(this::isNotNullJsonNode)
-                .map(id -> convert(id, parameter))
-                .orElseGet(() -> {
-                    if (jsonRpcRequestId.required()) {
-                        throw new JsonRpcRequestIdNotFoundException();
-                    }
-                    return convert(NullNode.getInstance(), parameter);
-                });
+            final @NonNull JsonRpcMethodParameter parameter,
+            final @NonNull JsonRpc20RequestContext context) throws IOException {
+        final JsonNode id = id(context);
+        if (isNotNullJsonNode(id)) {
+            final Object scalar = convertScalar(id, parameter);
+            if (scalar != null) {
+                return scalar;
+            }
+            try (JsonParser value = objectMapper.treeAsTokens(id)) {
+                value.nextToken();
+                return convert(value, parameter);
+            }
+        } else if (parameter.isRequired()) {
+            throw new JsonRpcRequestIdNotFoundException();
+        }
+        return convert(null, parameter);
     }
 
     /**
      * Get request params object by {@link JsonRpcRequestObject} annotation.
      *
-     * @param parameter See {@link MethodParameter}
+     * @param parameter See {@link JsonRpcMethodParameter}
      * @param context   See {@link JsonRpc20RequestContext}
      * @return Request params object by {@link JsonRpcRequestObject} annotation
+     * @throws IOException If the params can not be read
      */
     protected Object jsonRpcRequestObject(
-            final @NonNull MethodParameter parameter,
-            final @NonNull JsonRpc20RequestContext context) {
-        return convert(params(context), parameter);
+            final @NonNull JsonRpcMethodParameter parameter,
+            final @NonNull JsonRpc20RequestContext context) throws IOException {
+        final TokenBuffer params = params(context);
+        if (params == null) {
+            return convert(null, parameter);
+        }
+        try (JsonParser value = params.asParser(objectMapper)) {
+            value.nextToken();
+            return convert(value, parameter);
+        }
     }
 
     /**
      * Get parameter by name from {@link JsonRpcRequestObjectParameter} annotation.
+     * The member is looked up in the params members indexed once per request, see {@link #members}.
      *
-     * @param jsonRpcRequestObjectParameter See {@link JsonRpcRequestObjectParameter}
-     * @param parameter                     See {@link MethodParameter}
-     * @param context                       See {@link JsonRpc20RequestContext}
+     * @param parameter See {@link JsonRpcMethodParameter}
+     * @param context   See {@link JsonRpc20RequestContext}
      * @return Parameter by name from {@link JsonRpcRequestObjectParameter} annotation
+     * @throws IOException If the params can not be read
      */
     protected Object jsonRpcRequestObjectParameter(
-            final @NonNull JsonRpcRequestObjectParameter jsonRpcRequestObjectParameter,
-            final @NonNull MethodParameter parameter,
-            final @NonNull JsonRpc20RequestContext context) {
-        return convert(Optional.ofNullable(params(context).get(jsonRpcRequestObjectParameter.value()))
-                .orElse(NullNode.getInstance()), parameter);
+            final @NonNull JsonRpcMethodParameter parameter,
+            final @NonNull JsonRpc20RequestContext context) throws IOException {
+        final TokenBuffer member = members(context).get(parameter.getName());
+        if (member == null) {
+            return convert(null, parameter);
+        }
+        try (JsonParser value = member.asParser(objectMapper)) {
+            value.nextToken();
+            return convert(value, parameter);
+        }
     }
 
     /**
-     * Convert {@link JsonNode} to object.
+     * Get params object members of {@link JsonRpc20RequestContext}.
+     * The params tokens are scanned once per request, every member value is kept as its own {@link TokenBuffer},
+     * so a named parameter is found without scanning the params again. A repeated member name keeps its last value.
      *
-     * @param jsonNode  See {@link JsonNode}
-     * @param parameter See {@link MethodParameter}
-     * @return Convert from {@link JsonNode} object
+     * @param context See {@link JsonRpc20RequestContext}
+     * @return Member values by name. Empty if the params are absent or not an object
+     * @throws IOException If the params can not be read
      */
-    protected Object convert(final @NonNull JsonNode jsonNode, final @NonNull MethodParameter parameter) {
-        if (ClassUtils.isSimpleValueType(parameter.getParameterType())) {
-            return convertSimpleType(jsonNode, parameter);
+    protected Map<String, TokenBuffer> members(final @NonNull JsonRpc20RequestContext context) throws IOException {
+        if (context.getMembers() != null) {
+            return context.getMembers();
+        }
+        final Map<String, TokenBuffer> members = new HashMap<>();
+        final TokenBuffer params = params(context);
+        if (params != null) {
+            try (JsonParser parser = params.asParser(objectMapper)) {
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    for (String name = parser.nextFieldName(); name != null; name = parser.nextFieldName()) {
+                        parser.nextToken();
+                        final TokenBuffer member = new TokenBuffer(parser);
+                        member.copyCurrentStructure(parser);
+                        members.put(name, member);
+                    }
+                }
+            }
         }
-        return convertComplexType(jsonNode, parameter);
+        context.setMembers(members);
+        return members;
     }
 
     /**
-     * Get simple type object from {@link JsonNode}.
+     * Convert JSON value to object.
      *
-     * @param jsonNode  See {@link JsonNode}
-     * @param parameter See {@link MethodParameter}
-     * @return Simple type object from {@link JsonNode}
+     * @param value     {@link JsonParser} positioned at the first token of the value. Null if the value is absent
+     * @param parameter See {@link JsonRpcMethodParameter}
+     * @return Converted from the value tokens object
+     * @throws IOException If the value can not be read
+     */
+    protected Object convert(
+            final JsonParser value,
+            final @NonNull JsonRpcMethodParameter parameter) throws IOException {
+        if (parameter.isSimple()) {
+            return convertSimpleType(value, parameter);
+        }
+        return convertComplexType(value, parameter);
+    }
+
+    /**
+     * Get simple type object from JSON value.
+     * Scalars of the parameter {@link JsonRpcMethodParameter.Scalar} are read straight from the token,
+     * other containers are converted from their compact JSON string, scalars from their text,
+     * see {@link #scalarText(JsonParser)}.
+     *
+     * @param value     {@link JsonParser} positioned at the first token of the value. Null if the value is absent
+     * @param parameter See {@link JsonRpcMethodParameter}
+     * @return Simple type object from the value
+     * @throws IOException If the value can not be read
+     */
+    protected Object convertSimpleType(
+            final JsonParser value,
+            final @NonNull JsonRpcMethodParameter parameter) throws IOException {
+        if (value == null || value.currentToken() == JsonToken.VALUE_NULL || !parameter.isConvertible()) {
+            return parameter.getDefaultValue();
+        }
+        final Object scalar = convertScalar(value, parameter);
+        if (scalar != null) {
+            return scalar;
+        }
+        final String text = value.currentToken().isStructStart() ? compact(value) : scalarText(value);
+        return conversionService.convert(text, JsonRpcMethodParameter.STRING_TYPE, parameter.getTypeDescriptor());
+    }
+
+    /**
+     * Get text of JSON scalar as {@link JsonNode#asText()} does: numbers are normalized by their node
+     * (f.e. 1.50 and 1.5e0 are both "1.5"), other scalars are taken as is.
+     *
+     * @param value {@link JsonParser} positioned at the scalar token
+     * @return Text of the scalar
+     * @throws IOException If the value can not be read
+     */
+    protected String scalarText(final @NonNull JsonParser value) throws IOException {
+        if (value.currentToken().isNumeric()) {
+            return objectMapper.<JsonNode>readTree(value).asText();
+        }
+        return value.getText();
+    }
+
+    /**
+     * Read simple type object straight from JSON scalar token, without text conversion.
+     *
+     * @param value     {@link JsonParser} positioned at the value token
+     * @param parameter See {@link JsonRpcMethodParameter}
+     * @return Simple type object. Null if the token is not of the parameter {@link JsonRpcMethodParameter.Scalar}
+     * @throws IOException If the value can not be read
      */
-    protected Object convertSimpleType(final @NonNull JsonNode jsonNode, final @NonNull MethodParameter parameter) {
-        return Optional.of(jsonNode)
-                .filter(this::isNotNullJsonNode)
-                .map((Function<JsonNode, Object>) jsonValue ->
-                        jsonValue.isContainerNode() ? jsonValue.toString() : jsonValue.asText())
-                .filter(value ->
-                        conversionService.canConvert(value.getClass(), parameter.getParameterType()))
-                .map((Function<Object, Object>) value ->
-                        conversionService.convert(value, parameter.getParameterType()))
-                .orElse(Defaults.defaultValue(parameter.getParameterType()));
+    protected Object convertScalar(
+            final @NonNull JsonParser value,
+            final @NonNull JsonRpcMethodParameter parameter) throws IOException {
+        final JsonToken token = value.currentToken();
+        final boolean integral = token == JsonToken.VALUE_NUMBER_INT;
+        return switch (parameter.getScalar()) {
+            case INT -> integral && value.getNumberType() == NumberType.INT ? (Object) value.getIntValue() : null;
+            case LONG -> integral && value.getNumberType() != NumberType.BIG_INTEGER
+                    ? (Object) value.getLongValue() : null;
+            case DOUBLE -> token.isNumeric() ? (Object) value.getDoubleValue() : null;
+            case BOOLEAN -> token.isBoolean() ? (Object) value.getBooleanValue() : null;
+            case STRING -> token == JsonToken.VALUE_STRING ? value.getText() : null;
+            default -> null;
+        };
     }
 
     /**
-     * Get complex type object {@link JsonNode}.
+     * Read simple type object straight from JSON scalar node, without text conversion.
+     *
+     * @param value     JSON value
+     * @param parameter See {@link JsonRpcMethodParameter}
+     * @return Simple type object. Null if the node is not of the parameter {@link JsonRpcMethodParameter.Scalar}
+     */
+    protected Object convertScalar(
+            final @NonNull JsonNode value,
+            final @NonNull JsonRpcMethodParameter parameter) {
+        return switch (parameter.getScalar()) {
+            case INT -> value.isInt() ? (Object) value.intValue() : null;
+            case LONG -> value.isInt() || value.isLong() ? (Object) value.longValue() : null;
+            case DOUBLE -> value.isNumber() ? (Object) value.doubleValue() : null;
+            case BOOLEAN -> value.isBoolean() ? (Object) value.booleanValue() : null;
+            case STRING -> value.isTextual() ? value.textValue() : null;
+            default -> null;
+        };
+    }
+
+    /**
+     * Get complex type object from JSON value by the parameter {@link JsonRpcMethodParameter#getReader()}.
+     *
+     * @param value     {@link JsonParser} positioned at the first token of the value. Null if the value is absent
+     * @param parameter See {@link JsonRpcMethodParameter}
+     * @return Complex object from the value
+     * @throws IOException If the value can not be read
+     */
+    protected Object convertComplexType(
+            final JsonParser value,
+            final @NonNull JsonRpcMethodParameter parameter) throws IOException {
+        if (value == null) {
+            return parameter.getReader().readValue(NullNode.getInstance());
+        }
+        return parameter.getReader().readValue(value);
+    }
+
+    /**
+     * Get binding plan of the parameter.
      *
-     * @param jsonNode  See {@link JsonNode}
      * @param parameter See {@link MethodParameter}
-     * @return Complex object from {@link JsonNode}
+     * @return Compiled at load time {@link JsonRpcMethodParameter} or the plan compiled in place for other parameters
      */
-    protected Object convertComplexType(final @NonNull JsonNode jsonNode, final @NonNull MethodParameter parameter) {
-        return CatchExceptionUtils.catchException((CatchExceptionUtils.Supplier<Object>) () ->
-                objectMapper.treeToValue(jsonNode, parameter.getParameterType()), RuntimeException::new);
+    @NonNull
+    protected JsonRpcMethodParameter plan(final @NonNull MethodParameter parameter) {
+        return parameter instanceof JsonRpcMethodParameter plan
+                ? plan
+                : new JsonRpcMethodParameter(parameter, objectMapper, conversionService);
     }
 
     /**
-     * Check {@link JsonNode} is empty. Call isNotNullJsonNode and jsonNode.isEmpty().
+     * Write JSON value to compact string.
      *
-     * @param jsonNode See {@link JsonNode}
-     * @return true is isNotNullJsonNode return true and !jsonNode.isEmpty().
+     * @param value {@link JsonParser} positioned at the first token of the value
+     * @return Compact JSON string of the value
+     * @throws IOException If the value can not be read
+     */
+    @NonNull
+    protected String compact(final @NonNull JsonParser value) throws IOException {
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.copyCurrentStructure(value);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Get body {@link JsonParser} positioned at the first body token.
+     * The parser is created once per context, so {@link #isBatch(JsonRpc20RequestContext)} does not read
+     * the body again.
+     *
+     * @param context See {@link JsonRpc20RequestContext}
+     * @return Body {@link JsonParser}. Null if there is no body
+     */
+    protected JsonParser parser(final @NonNull JsonRpc20RequestContext context) {
+        if (context.getParser() == null) {
+            context.setParser(CatchExceptionUtils.catchException(() -> {
+                final JsonParser parser = createParser(context);
+                if (parser != null) {
+                    parser.nextToken();
+                }
+                return parser;
+            }, JsonRpcRequestReceivingException::new));
+        }
+        return context.getParser();
+    }
+
+    /**
+     * Create {@link JsonParser} over the raw body representation available in the context.
+     * Bytes and streams are parsed as is, without decoding to a string.
+     *
+     * @param context See {@link JsonRpc20RequestContext}
+     * @return Body {@link JsonParser}. Null if there is no body
+     * @throws IOException If the parser can not be created
+     */
+    protected JsonParser createParser(final @NonNull JsonRpc20RequestContext context) throws IOException {
+        if (context.getBodyStream() != null) {
+            return objectMapper.createParser(context.getBodyStream());
+        } else if (context.getBodyBytes() != null) {
+            return objectMapper.createParser(context.getBodyBytes());
+        } else if (context.getBody() != null) {
+            return objectMapper.createParser(context.getBody());
+        }
+        return null;
+    }
+
+    /**
+     * Read {@link JsonRpc20Request} envelope in a single pass.
+     * "jsonrpc", "id" and "method" are read in place, "params" are kept as {@link TokenBuffer} and bound
+     * to method parameters later, unknown members are skipped. An invalid member does not stop reading,
+     * so the parser is always left at the end of the envelope.
+     * The method is resolved right from the "method" member, see {@link #method(JsonParser, JsonRpc20RequestContext)},
+     * and structured "params" following an unknown method are skipped, as the request fails anyway.
+     *
+     * @param parser  {@link JsonParser} positioned at the first token of the envelope
+     * @param context See {@link JsonRpc20RequestContext} getting the resolved method
+     * @return See {@link JsonRpc20Request}
+     * @throws IOException If the body is not a valid JSON
+     */
+    @NonNull
+    protected JsonRpc20Request read(
+            final @NonNull JsonParser parser,
+            final @NonNull JsonRpc20RequestContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            throw new JsonRpcEmptyRequestBodyException();
+        }
+        final JsonRpc20Request request = new JsonRpc20Request();
+        MismatchedInputException failure = null;
+        boolean empty = true;
+        for (String name = parser.nextFieldName(); name != null; name = parser.nextFieldName()) {
+            empty = false;
+            parser.nextToken();
+            try {
+                switch (name) {
+                    case "jsonrpc" -> request.setJsonRpc(text(parser));
+                    case "id" -> request.setId(objectMapper.readTree(parser));
+                    case "method" -> request.setMethod(method(parser, context));
+                    case "params" -> {
+                        if (parser.currentToken().isStructStart() && isUnknownMethod(request, context)) {
+                            parser.skipChildren();
+                        } else {
+                            final TokenBuffer params = new TokenBuffer(parser);
+                            params.copyCurrentStructure(parser);
+                            request.setParams(params);
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            } catch (final MismatchedInputException exception) {
+                failure = Optional.ofNullable(failure).orElse(exception);
+            }
+        }
+        if (empty) {
+            throw new JsonRpcEmptyRequestBodyException();
+        } else if (failure != null) {
+            throw new JsonRpcRequestReceivingException(failure);
+        }
+        return request;
+    }
+
+    /**
+     * Read "method" envelope member and resolve the method by {@link #methodTable} straight from the parser
+     * characters. A resolved method name is not allocated, the dispatch table name is used.
+     *
+     * @param parser  {@link JsonParser} positioned at the member value
+     * @param context See {@link JsonRpc20RequestContext} getting the resolved method, null if it is unknown
+     * @return Method name. Null for JSON null
+     * @throws IOException If the member is not a scalar
      */
-    protected boolean isNotEmptyJsonNode(final JsonNode jsonNode) {
-        return isNotNullJsonNode(jsonNode) && !jsonNode.isEmpty();
+    protected String method(
+            final @NonNull JsonParser parser,
+            final @NonNull JsonRpc20RequestContext context) throws IOException {
+        if (methodTable != null && parser.currentToken() == JsonToken.VALUE_STRING) {
+            final int slot = methodTable.index(
+                    parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            if (slot >= 0) {
+                context.setMethod(methodTable.method(slot));
+                return methodTable.name(slot);
+            }
+        }
+        context.setMethod(null);
+        return text(parser);
+    }
+
+    /**
+     * Check the "method" member is already read and is not in {@link #methodTable}.
+     *
+     * @param request See {@link JsonRpc20Request} being read
+     * @param context See {@link JsonRpc20RequestContext} getting the resolved method
+     * @return true if the method is known to be not found
+     */
+    protected boolean isUnknownMethod(
+            final @NonNull JsonRpc20Request request,
+            final @NonNull JsonRpc20RequestContext context) {
+        return methodTable != null && request.getMethod() != null && context.getMethod() == null;
+    }
+
+    /**
+     * Read string envelope member. Scalars are coerced to their text.
+     *
+     * @param parser {@link JsonParser} positioned at the member value
+     * @return Member text. Null for JSON null
+     * @throws IOException If the member is not a scalar
+     */
+    protected String text(final @NonNull JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            throw MismatchedInputException.from(parser, String.class,
+                    FormatUtils.format("Member '{}' must be a string", parser.currentName()));
+        }
+        return parser.getValueAsString();
     }
 
     /**
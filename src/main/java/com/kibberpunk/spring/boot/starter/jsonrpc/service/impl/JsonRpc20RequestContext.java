@@ -1,11 +1,15 @@
 package com.kibberpunk.spring.boot.starter.jsonrpc.service.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Request;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
+import java.util.Map;
+
 /**
  * {@link JsonRpc20ProtocolSupportImpl} context.
  *
@@ -15,4 +19,25 @@ import lombok.experimental.Accessors;
 @Setter(AccessLevel.PROTECTED)
 @Accessors(chain = true)
 public class JsonRpc20RequestContext extends RequestContext<JsonRpc20Request> {
+
+    /**
+     * Batch element request read in advance. If present, it is used instead of reading the raw body.
+     */
+    private JsonRpc20Request source;
+
+    /**
+     * Batch element read failure. If present, it is thrown instead of reading the raw body.
+     */
+    private RuntimeException failure;
+
+    /**
+     * Body {@link JsonParser} positioned at the first body token, shared by the body reading steps.
+     */
+    private JsonParser parser;
+
+    /**
+     * Params object members by name, indexed on the first named parameter.
+     * See {@link JsonRpc20ProtocolSupportImpl#members(JsonRpc20RequestContext)}
+     */
+    private Map<String, TokenBuffer> members;
 }
@@ -0,0 +1,107 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.service.impl;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Request body stream keeping a bounded prefix of the read bytes for {@link JsonRpcErrorLog}.
+ * The body is still parsed while reading, only the first {@code maxLength} bytes are copied.
+ *
+ * @author kibberpunk
+ */
+@Getter
+public class JsonRpcBodyPrefixInputStream extends FilterInputStream {
+
+    /**
+     * First read bytes.
+     */
+    private final byte[] prefix;
+
+    /**
+     * Number of the bytes in {@link #prefix}.
+     */
+    private int length;
+
+    /**
+     * Number of the read body bytes.
+     */
+    private long total;
+
+    /**
+     * Constructor.
+     *
+     * @param body      Raw request body stream
+     * @param maxLength Maximum number of the kept bytes
+     */
+    public JsonRpcBodyPrefixInputStream(final @NonNull InputStream body, final int maxLength) {
+        super(body);
+        this.prefix = new byte[maxLength];
+    }
+
+    /**
+     * Read byte.
+     *
+     * @return Read byte or -1 at the end of the stream
+     * @throws IOException If the body can not be read
+     */
+    @Override
+    public int read() throws IOException {
+        final int read = super.read();
+        if (read >= 0) {
+            if (length < prefix.length) {
+                prefix[length++] = (byte) read;
+            }
+            total++;
+        }
+        return read;
+    }
+
+    /**
+     * Read bytes.
+     *
+     * @param bytes  Destination
+     * @param offset Destination offset
+     * @param count  Maximum number of the read bytes
+     * @return Number of the read bytes or -1 at the end of the stream
+     * @throws IOException If the body can not be read
+     */
+    @Override
+    public int read(final byte[] bytes, final int offset, final int count) throws IOException {
+        final int read = super.read(bytes, offset, count);
+        if (read > 0) {
+            final int kept = Math.min(read, prefix.length - length);
+            System.arraycopy(bytes, offset, prefix, length, kept);
+            length += kept;
+            total += read;
+        }
+        return read;
+    }
+
+    /**
+     * Skip bytes. The skipped bytes are counted, but not kept.
+     *
+     * @param count Number of the bytes to skip
+     * @return Number of the skipped bytes
+     * @throws IOException If the body can not be read
+     */
+    @Override
+    public long skip(final long count) throws IOException {
+        final long skipped = super.skip(count);
+        total += Math.max(skipped, 0);
+        return skipped;
+    }
+
+    /**
+     * Marks are not supported, the read bytes are not read again.
+     *
+     * @return false
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
@@ -0,0 +1,173 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.service.impl;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcException;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Failures log of the {@link AbstractJsonRpcService}.
+ * Protocol failures ({@link JsonRpcException}, f.e. malformed requests) are logged at WARN by their message,
+ * other failures at ERROR with the stack trace. Nothing is built if the level is disabled.
+ * Failures are rate limited and sampled per method and error code, see
+ * {@link JsonRpcConfigurationProperties.ErrorLog}. The suppressed failures are counted and reported
+ * with the next logged failure of the method and error code, the logged request body is truncated.
+ *
+ * @author kibberpunk
+ */
+@Slf4j
+public class JsonRpcErrorLog {
+
+    /**
+     * Maximum number of the logged failures of a method and error code per {@link #periodNanos}.
+     */
+    private final int permits;
+
+    /**
+     * Period of the {@link #permits} in nanoseconds.
+     */
+    private final long periodNanos;
+
+    /**
+     * Share of the failures to log.
+     */
+    private final double sampleRate;
+
+    /**
+     * Maximum number of the logged request body characters.
+     */
+    private final int maxBodyLength;
+
+    /**
+     * Rate limit windows by method and error code. Bounded by the loaded methods and the error codes.
+     */
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param properties See {@link JsonRpcConfigurationProperties.ErrorLog}
+     */
+    public JsonRpcErrorLog(final @NonNull JsonRpcConfigurationProperties.ErrorLog properties) {
+        this.permits = properties.getPermits();
+        this.periodNanos = properties.getPeriod().toNanos();
+        this.sampleRate = properties.getSampleRate();
+        this.maxBodyLength = properties.getMaxBodyLength();
+    }
+
+    /**
+     * Log failure.
+     *
+     * @param method  Method name
+     * @param code    Error code. Null if there is no error response, f.e. for notifications
+     * @param failure Failure
+     * @param body    Request body truncated by {@link #truncate(String)} or {@link #truncate(byte[], int, long)},
+     *                read only if the failure is logged
+     * @return true if the failure is logged, false if it is suppressed or the level is disabled
+     */
+    public boolean log(final @NonNull String method, final Integer code, final @NonNull Throwable failure,
+                       final @NonNull Supplier<String> body) {
+        final boolean protocol = failure instanceof JsonRpcException;
+        if (protocol ? !log.isWarnEnabled() : !log.isErrorEnabled()) {
+            return false;
+        }
+        final Window window = windows.computeIfAbsent(method + ' ' + code, key -> new Window());
+        final long suppressed = window.acquire();
+        if (suppressed < 0) {
+            return false;
+        }
+        final String request = body.get();
+        if (protocol) {
+            log.warn("JSON-RPC method {} failed with error {}: {}, {} similar failures suppressed, request: {}",
+                    method, code, failure.getMessage(), suppressed, request);
+        } else {
+            log.error("JSON-RPC method {} failed with error {}, {} similar failures suppressed, request: {}",
+                    method, code, suppressed, request, failure);
+        }
+        return true;
+    }
+
+    /**
+     * Truncate request body to the maximum logged length.
+     *
+     * @param body Request body
+     * @return Truncated request body with the original length. Null if the body is null or not logged
+     */
+    public String truncate(final String body) {
+        if (body == null || maxBodyLength <= 0) {
+            return null;
+        }
+        return body.length() <= maxBodyLength
+                ? body
+                : body.substring(0, maxBodyLength) + "...(" + body.length() + " chars)";
+    }
+
+    /**
+     * Truncate request body bytes to the maximum logged length. Only the logged bytes are decoded.
+     *
+     * @param bytes  Request body bytes or their prefix
+     * @param length Number of the bytes in {@code bytes}
+     * @param total  Number of the request body bytes
+     * @return Truncated UTF-8 request body with the original length. Null if the body is null or not logged
+     */
+    public String truncate(final byte[] bytes, final int length, final long total) {
+        if (bytes == null || maxBodyLength <= 0) {
+            return null;
+        }
+        final int logged = Math.min(length, maxBodyLength);
+        final String body = new String(bytes, 0, logged, StandardCharsets.UTF_8);
+        return total <= logged ? body : body + "...(" + total + " bytes)";
+    }
+
+    /**
+     * Rate limit window of a method and error code.
+     */
+    private final class Window {
+
+        /**
+         * Start of the window by {@link System#nanoTime()}.
+         */
+        private final AtomicLong start = new AtomicLong(System.nanoTime());
+
+        /**
+         * Number of the failures logged in the window.
+         */
+        private final AtomicInteger logged = new AtomicInteger();
+
+        /**
+         * Number of the failures suppressed since the last logged failure.
+         */
+        private final LongAdder suppressed = new LongAdder();
+
+        /**
+         * Acquire logging of a failure.
+         *
+         * @return Number of the failures suppressed since the last logged failure. -1 if the failure is suppressed
+         */
+        long acquire() {
+            if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                suppressed.increment();
+                return -1;
+            }
+            final long now = System.nanoTime();
+            final long windowStart = start.get();
+            if (now - windowStart >= periodNanos && start.compareAndSet(windowStart, now)) {
+                logged.set(0);
+            }
+            if (logged.incrementAndGet() > permits) {
+                suppressed.increment();
+                return -1;
+            }
+            return suppressed.sumThenReset();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.service.impl;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.utils.FormatUtils;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executors of the {@link AbstractJsonRpcService}.
+ * The holder itself is not an {@link java.util.concurrent.Executor}, so registering it as a bean
+ * does not switch off the Spring Boot application task executor auto configuration
+ *
+ * @author kibberpunk
+ */
+@Getter
+public class JsonRpcExecutors implements DisposableBean {
+
+    /**
+     * Idle pool thread keep alive time in seconds.
+     */
+    protected static final long KEEP_ALIVE_SECONDS = 60L;
+
+    /**
+     * Batch elements executor.
+     */
+    private final ExecutorService batch;
+
+    /**
+     * Notifications executor.
+     */
+    private final ExecutorService notification;
+
+    /**
+     * Virtual thread per task executor of {@link JsonRpcConfigurationProperties.Execution#VIRTUAL_THREADS}.
+     * Null if methods are executed on platform threads
+     */
+    private final ExecutorService virtual;
+
+    /**
+     * Scheduler of the method timeouts. See {@code JsonRpcMethodTimeout}
+     * A single daemon thread: the timeout tasks only interrupt or complete the calls
+     */
+    private final ScheduledThreadPoolExecutor scheduler = scheduler("json-rpc-timeout-");
+
+    /**
+     * Number of notifications that did not fit into the {@link #notification} executor queue.
+     * See {@link JsonRpcConfigurationProperties.OverflowPolicy}
+     */
+    @Getter(AccessLevel.NONE)
+    private final LongAdder notificationOverflows = new LongAdder();
+
+    /**
+     * Shutdown executors on {@link #destroy()}.
+     */
+    @Getter(AccessLevel.NONE)
+    private final boolean owner;
+
+    /**
+     * Constructor. Creates executors by {@link JsonRpcConfigurationProperties}.
+     *
+     * @param properties See {@link JsonRpcConfigurationProperties}
+     * @throws IllegalStateException If {@link JsonRpcConfigurationProperties.Execution#VIRTUAL_THREADS} is set
+     *                               on a runtime without virtual threads
+     */
+    public JsonRpcExecutors(final @NonNull JsonRpcConfigurationProperties properties) {
+        this.virtual = properties.getExecution() == JsonRpcConfigurationProperties.Execution.VIRTUAL_THREADS
+                ? virtualThreads("json-rpc-virtual-")
+                : null;
+        this.batch = pool("json-rpc-batch-", properties.getBatch().getExecutor(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.notification = pool("json-rpc-notification-", properties.getNotification().getExecutor(),
+                new OverflowCountingPolicy(policy(properties.getNotification().getOverflowPolicy()),
+                        notificationOverflows));
+        this.owner = true;
+    }
+
+    /**
+     * Constructor. Uses external executors, their lifecycle is managed outside.
+     *
+     * @param batchExecutor        Batch elements executor
+     * @param notificationExecutor Notifications executor
+     */
+    public JsonRpcExecutors(
+            final @NonNull ExecutorService batchExecutor,
+            final @NonNull ExecutorService notificationExecutor) {
+        this(batchExecutor, notificationExecutor, null);
+    }
+
+    /**
+     * Constructor. Uses external executors, their lifecycle is managed outside.
+     *
+     * @param batchExecutor        Batch elements executor
+     * @param notificationExecutor Notifications executor
+     * @param virtualExecutor      Thread per task executor of the methods, see {@link #getVirtual()}.
+     *                             Null to execute methods on platform threads
+     */
+    public JsonRpcExecutors(
+            final @NonNull ExecutorService batchExecutor,
+            final @NonNull ExecutorService notificationExecutor,
+            final ExecutorService virtualExecutor) {
+        this.batch = batchExecutor;
+        this.notification = notificationExecutor;
+        this.virtual = virtualExecutor;
+        this.owner = false;
+    }
+
+    /**
+     * Get number of notifications that did not fit into the notification executor queue.
+     *
+     * @return Number of overflowed notifications. Always 0 for external executors
+     */
+    public long getNotificationOverflows() {
+        return notificationOverflows.sum();
+    }
+
+    /**
+     * Shutdown owned executors.
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        if (owner) {
+            batch.shutdown();
+            notification.shutdown();
+            Optional.ofNullable(virtual).ifPresent(ExecutorService::shutdown);
+        }
+    }
+
+    /**
+     * Create scheduler of the method timeouts. Cancelled tasks are removed at once,
+     * as most of the calls are completed in time.
+     *
+     * @param prefix Thread name prefix
+     * @return Single thread {@link ScheduledThreadPoolExecutor}
+     */
+    @NonNull
+    protected static ScheduledThreadPoolExecutor scheduler(final @NonNull String prefix) {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Create virtual thread per task executor.
+     * The starter is built for Java 17, so the Java 21 API is looked up by reflection.
+     *
+     * @param prefix Threads name prefix
+     * @return Virtual thread per task executor
+     * @throws IllegalStateException If the runtime has no virtual threads
+     */
+    protected static ExecutorService virtualThreads(final @NonNull String prefix) {
+        try {
+            final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            final ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (final ReflectiveOperationException | LinkageError exception) {
+            throw new IllegalStateException(FormatUtils.format(
+                    "JSON-RPC execution virtual-threads requires Java 21 or later, the runtime is Java {}",
+                    Runtime.version().feature()), exception);
+        }
+    }
+
+    /**
+     * Create bounded thread pool.
+     *
+     * @param prefix         Threads name prefix
+     * @param pool           See {@link JsonRpcConfigurationProperties.Pool}
+     * @param overflowPolicy Policy of a task that does not fit into the full queue
+     * @return Bounded {@link ThreadPoolExecutor}
+     */
+    @NonNull
+    public static ThreadPoolExecutor pool(
+            final @NonNull String prefix,
+            final @NonNull JsonRpcConfigurationProperties.Pool pool,
+            final @NonNull RejectedExecutionHandler overflowPolicy) {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                pool.getThreads(),
+                pool.getThreads(),
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(pool.getQueueCapacity()),
+                threadFactory,
+                overflowPolicy);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Get {@link RejectedExecutionHandler} by {@link JsonRpcConfigurationProperties.OverflowPolicy}.
+     *
+     * @param overflowPolicy See {@link JsonRpcConfigurationProperties.OverflowPolicy}
+     * @return {@link RejectedExecutionHandler} implementing the policy
+     */
+    @NonNull
+    protected static RejectedExecutionHandler policy(
+            final @NonNull JsonRpcConfigurationProperties.OverflowPolicy overflowPolicy) {
+        return switch (overflowPolicy) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+    }
+
+    /**
+     * {@link RejectedExecutionHandler} counting overflowed tasks.
+     */
+    @RequiredArgsConstructor
+    protected static class OverflowCountingPolicy implements RejectedExecutionHandler {
+
+        /**
+         * Overflow policy.
+         */
+        private final RejectedExecutionHandler policy;
+
+        /**
+         * Overflowed tasks counter.
+         */
+        private final LongAdder overflows;
+
+        /**
+         * Count the overflowed task and apply the policy.
+         *
+         * @param task     Overflowed task
+         * @param executor Executor attempting to execute the task
+         */
+        @Override
+        public void rejectedExecution(final Runnable task, final ThreadPoolExecutor executor) {
+            overflows.increment();
+            policy.rejectedExecution(task, executor);
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.kibberpunk.spring.boot.starter.jsonrpc.service.impl;
 
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Request;
-import jakarta.servlet.http.HttpServletRequest;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcCallObserver;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.commons.lang3.tuple.Triple;
+import org.springframework.core.MethodParameter;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * JSON-RPC request context. This context is filled with class {@link AbstractJsonRpcService}.
@@ -22,13 +31,46 @@ public class RequestContext<Request> {
      */
     private String body;
 
+    /**
+     * Raw request body bytes. An alternative to {@link #body}, parsed without decoding to a string.
+     */
+    private byte[] bodyBytes;
+
+    /**
+     * Raw request body stream. An alternative to {@link #body}, parsed while reading.
+     */
+    private InputStream bodyStream;
+
+    /**
+     * Raw request body stream keeping the prefix logged by {@link JsonRpcErrorLog}, the same as {@link #bodyStream}.
+     * Null if the body is not a stream or is not logged
+     */
+    private JsonRpcBodyPrefixInputStream bodyPrefix;
+
     /**
      * Request object received from body string.
      */
     private Request request;
 
     /**
-     * See {@link HttpServletRequest}.
+     * Target {@link Method}, controller object and {@link Method} parameters resolved while reading the request.
+     * Null if the method is not resolved yet.
+     */
+    private Triple<Method, Object, List<MethodParameter>> method;
+
+    /**
+     * See {@link JsonRpcTransportRequest}.
+     */
+    private JsonRpcTransportRequest transportRequest;
+
+    /**
+     * Started call. See {@link JsonRpcCallObserver}
+     */
+    private JsonRpcCallObserver.Call call = JsonRpcCallObserver.Call.NONE;
+
+    /**
+     * Flights of the coalesced calls of the batch by method name and flight key, shared by the batch elements.
+     * Null if the request is not a batch element. See {@code JsonRpcMethodFlights}
      */
-    private HttpServletRequest httpServletRequest;
+    private Map<String, CompletableFuture<Object>> flights;
 }
@@ -0,0 +1,62 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.socket;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Pool of the direct buffers of the same size.
+ * A direct buffer is read from a socket without the intermediate copy, but is expensive to allocate,
+ * so the released buffers are reused. Over the pool capacity a released buffer is dropped.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcBufferPool {
+
+    /**
+     * Size of the buffers in bytes.
+     */
+    @Getter
+    private final int bufferSize;
+
+    /**
+     * Released buffers.
+     */
+    private final Queue<ByteBuffer> buffers;
+
+    /**
+     * Constructor.
+     *
+     * @param size     Size of the buffers in bytes
+     * @param capacity Maximum number of the kept buffers
+     */
+    public JsonRpcBufferPool(final int size, final int capacity) {
+        this.bufferSize = size;
+        this.buffers = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    }
+
+    /**
+     * Acquire buffer.
+     *
+     * @return Cleared direct buffer, released or allocated
+     */
+    @NonNull
+    public ByteBuffer acquire() {
+        final ByteBuffer buffer = buffers.poll();
+        return buffer == null ? ByteBuffer.allocateDirect(bufferSize) : buffer;
+    }
+
+    /**
+     * Release buffer. A buffer not of the pool is ignored.
+     *
+     * @param buffer Buffer, is not used by the caller after release
+     */
+    public void release(final @NonNull ByteBuffer buffer) {
+        if (buffer.isDirect() && buffer.capacity() == bufferSize) {
+            buffers.offer(buffer.clear());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.socket;
+
+import lombok.NonNull;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+/**
+ * JSON-RPC socket frames codec.
+ * A frame carries one request (or batch) or one response.
+ *
+ * @author kibberpunk
+ */
+public interface JsonRpcFrameCodec {
+
+    /**
+     * Decode next frame. The input position is moved past the frame if the frame is complete.
+     *
+     * @param input Read bytes, in the read mode
+     * @return Frame payload, shares the input content. Null if the input has no complete frame
+     * @throws ProtocolException If the frame is malformed or exceeds the maximum frame size
+     */
+    ByteBuffer decode(@NonNull ByteBuffer input) throws ProtocolException;
+
+    /**
+     * Encode frame.
+     *
+     * @param payload Frame payload
+     * @return Frame buffers to be written in order
+     */
+    @NonNull
+    ByteBuffer[] encode(@NonNull byte[] payload);
+}
@@ -0,0 +1,726 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.socket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpcExecutors;
+import com.kibberpunk.spring.boot.starter.jsonrpc.socket.impl.JsonRpcLengthPrefixFrameCodec;
+import com.kibberpunk.spring.boot.starter.jsonrpc.socket.impl.JsonRpcNewlineFrameCodec;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.impl.JsonRpcTransportRequestImpl;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.security.Principal;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * JSON-RPC socket server on NIO channels.
+ * A connection carries framed requests (see {@link JsonRpcFrameCodec}) one after another without waiting for
+ * the responses (pipelining), every response is sent as soon as it is completed, so the client matches
+ * the responses by {@code id}. Notifications are not responded.
+ * The connections are spread over the selector threads. The selector thread of a connection reads it into a pooled
+ * direct buffer (see {@link JsonRpcBufferPool}), parses the requests and invokes the methods with an asynchronous
+ * result, the blocking methods are executed by the server pool or on virtual threads,
+ * see {@link JsonRpcService#BLOCKING_EXECUTOR_ATTRIBUTE}.
+ * A connection has at most {@link JsonRpcConfigurationProperties.Socket#getMaxInFlightCalls()} calls
+ * being executed or having their responses sent, over the limit the connection is not read.
+ *
+ * @author kibberpunk
+ */
+@Slf4j
+public class JsonRpcSocketServer implements SmartLifecycle, DisposableBean {
+
+    /**
+     * Maximum number of the buffers written by one gathering write.
+     */
+    private static final int GATHER = 16;
+
+    /**
+     * See {@link JsonRpcService}.
+     */
+    private final JsonRpcService service;
+
+    /**
+     * Reused {@link ObjectWriter} of the responses, without pretty printing: a newline-delimited frame is one line.
+     */
+    private final ObjectWriter objectWriter;
+
+    /**
+     * See {@link JsonRpcConfigurationProperties.Socket}.
+     */
+    private final JsonRpcConfigurationProperties.Socket properties;
+
+    /**
+     * Bind address.
+     */
+    private final SocketAddress address;
+
+    /**
+     * Server name in the threads names and logs, f.e. {@code tcp}.
+     */
+    private final String name;
+
+    /**
+     * See {@link JsonRpcFrameCodec}.
+     */
+    private final JsonRpcFrameCodec codec;
+
+    /**
+     * See {@link JsonRpcBufferPool}.
+     */
+    private final JsonRpcBufferPool bufferPool;
+
+    /**
+     * Executor of the blocking methods.
+     */
+    private final Executor blocking;
+
+    /**
+     * Owned pool of the blocking methods, kept over the stops and starts, shut down on {@link #destroy()}.
+     * Null if the methods are executed on virtual threads
+     */
+    private final ExecutorService pool;
+
+    /**
+     * Server channel. Null if the server is not started
+     */
+    private volatile ServerSocketChannel serverChannel;
+
+    /**
+     * Selector threads loops.
+     */
+    private Loop[] loops;
+
+    /**
+     * The server is started.
+     */
+    private volatile boolean running;
+
+    /**
+     * Constructor.
+     *
+     * @param jsonRpcService See {@link JsonRpcService}
+     * @param objectMapper   {@link ObjectMapper} to create the reused {@link ObjectWriter} from
+     * @param configuration  See {@link JsonRpcConfigurationProperties.Socket}
+     * @param bindAddress    Bind address
+     * @param serverName     Server name in the threads names and logs, f.e. {@code tcp}
+     * @param executors      See {@link JsonRpcExecutors}, the blocking methods are executed on its virtual threads
+     *                       if any
+     */
+    public JsonRpcSocketServer(final @NonNull JsonRpcService jsonRpcService,
+                               final @NonNull ObjectMapper objectMapper,
+                               final @NonNull JsonRpcConfigurationProperties.Socket configuration,
+                               final @NonNull SocketAddress bindAddress,
+                               final @NonNull String serverName,
+                               final @NonNull JsonRpcExecutors executors) {
+        this.service = jsonRpcService;
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.properties = configuration;
+        this.address = bindAddress;
+        this.name = serverName;
+        this.codec = switch (configuration.getFraming()) {
+            case NEWLINE -> new JsonRpcNewlineFrameCodec(configuration.getMaxFrameSize());
+            case LENGTH_PREFIX -> new JsonRpcLengthPrefixFrameCodec(configuration.getMaxFrameSize());
+        };
+        this.bufferPool = new JsonRpcBufferPool(configuration.getBufferSize(), configuration.getMaxPooledBuffers());
+        this.pool = executors.getVirtual() != null
+                ? null
+                : JsonRpcExecutors.pool("json-rpc-" + serverName + "-", configuration.getExecutor(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.blocking = Optional.<Executor>ofNullable(executors.getVirtual()).orElse(pool);
+    }
+
+    /**
+     * Bind the server channel and start the acceptor and selector threads.
+     */
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            serverChannel = open();
+            bind(serverChannel);
+            loops = new Loop[Math.max(1, properties.getSelectorThreads())];
+            for (int i = 0; i < loops.length; i++) {
+                loops[i] = new Loop("json-rpc-" + name + "-selector-" + i);
+                loops[i].thread.start();
+            }
+        } catch (final IOException exception) {
+            stop();
+            throw new IllegalStateException("JSON-RPC " + name + " server can not be started on " + address,
+                    exception);
+        }
+        final Thread acceptor = new Thread(this::accept, "json-rpc-" + name + "-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        running = true;
+        log.info("JSON-RPC {} server is started on {}", name, getLocalAddress());
+    }
+
+    /**
+     * Close the server channel and the connections, stop the selector threads.
+     * The server may be started again, the pool of the blocking methods is kept until {@link #destroy()}.
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+        Optional.ofNullable(serverChannel).ifPresent(channel -> {
+            try {
+                channel.close();
+            } catch (final IOException exception) {
+                log.debug("JSON-RPC {} server channel is not closed", name, exception);
+            }
+        });
+        Optional.ofNullable(loops).ifPresent(selectors -> {
+            for (final Loop loop : selectors) {
+                if (loop != null) {
+                    loop.stop();
+                }
+            }
+        });
+    }
+
+    /**
+     * Stop the server and shut the pool of the blocking methods down.
+     */
+    @Override
+    public void destroy() {
+        stop();
+        Optional.ofNullable(pool).ifPresent(ExecutorService::shutdown);
+    }
+
+    /**
+     * Check the server is started.
+     *
+     * @return True if the server is started
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Get bound address, f.e. the port chosen for the port 0.
+     *
+     * @return Bound address. Null if the server is not started
+     */
+    public SocketAddress getLocalAddress() {
+        try {
+            return serverChannel == null ? null : serverChannel.getLocalAddress();
+        } catch (final IOException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Get bind address.
+     *
+     * @return Bind address
+     */
+    @NonNull
+    protected SocketAddress getAddress() {
+        return address;
+    }
+
+    /**
+     * Open server channel of the bind address family.
+     *
+     * @return Unbound {@link ServerSocketChannel}
+     * @throws IOException If the channel can not be opened
+     */
+    protected ServerSocketChannel open() throws IOException {
+        return address instanceof UnixDomainSocketAddress
+                ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+                : ServerSocketChannel.open();
+    }
+
+    /**
+     * Bind server channel to the bind address. Connections are accepted after the channel is bound.
+     *
+     * @param channel Unbound {@link ServerSocketChannel}
+     * @throws IOException If the channel can not be bound
+     */
+    protected void bind(final @NonNull ServerSocketChannel channel) throws IOException {
+        channel.bind(address);
+    }
+
+    /**
+     * Get user principal of the connection.
+     *
+     * @param channel Connection channel
+     * @return User principal. Null if the connection is not authenticated
+     */
+    protected Principal principal(final @NonNull SocketChannel channel) {
+        return null;
+    }
+
+    /**
+     * Create {@link JsonRpcTransportRequestImpl.Origin} of the connection.
+     *
+     * @param channel Connection channel
+     * @return {@link JsonRpcTransportRequestImpl.Origin} with the remote address and the channel
+     */
+    protected JsonRpcTransportRequestImpl.Origin origin(final @NonNull SocketChannel channel) {
+        try {
+            final SocketAddress remote = channel.getRemoteAddress();
+            return new JsonRpcTransportRequestImpl.Origin(Map.of(), Map.of(),
+                    remote instanceof InetSocketAddress inet ? inet.getHostString() : String.valueOf(remote),
+                    List.of(channel));
+        } catch (final IOException exception) {
+            return JsonRpcTransportRequestImpl.Origin.NONE;
+        }
+    }
+
+    /**
+     * Accept connections and spread them over the selector threads, until the server channel is closed.
+     */
+    private void accept() {
+        int next = 0;
+        while (serverChannel.isOpen()) {
+            final SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (final IOException exception) {
+                if (serverChannel.isOpen()) {
+                    log.warn("JSON-RPC {} connection is not accepted", name, exception);
+                }
+                continue;
+            }
+            try {
+                channel.configureBlocking(false);
+                if (channel.supportedOptions().contains(StandardSocketOptions.TCP_NODELAY)) {
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                }
+                final Loop loop = loops[next];
+                next = (next + 1) % loops.length;
+                loop.execute(() -> loop.register(channel));
+            } catch (final IOException exception) {
+                log.debug("JSON-RPC {} connection is not configured", name, exception);
+                close(channel);
+            }
+        }
+    }
+
+    /**
+     * Close channel quietly.
+     *
+     * @param channel Channel
+     */
+    private void close(final SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (final IOException exception) {
+            log.debug("JSON-RPC {} connection is not closed", name, exception);
+        }
+    }
+
+    /**
+     * Selector thread loop. Reads and writes its connections, runs the tasks of its connections.
+     */
+    private final class Loop implements Runnable {
+
+        /**
+         * Selector of the connections.
+         */
+        private final Selector selector;
+
+        /**
+         * Selector thread.
+         */
+        private final Thread thread;
+
+        /**
+         * Tasks of the other threads.
+         */
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Reused buffers array of the gathering writes.
+         */
+        private final ByteBuffer[] gather = new ByteBuffer[GATHER];
+
+        /**
+         * The loop is running.
+         */
+        private volatile boolean active = true;
+
+        /**
+         * Constructor.
+         *
+         * @param threadName Selector thread name
+         * @throws IOException If the selector can not be opened
+         */
+        Loop(final String threadName) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, threadName);
+            this.thread.setDaemon(true);
+        }
+
+        /**
+         * Run task in the selector thread: in place if called by the selector thread, otherwise by the loop.
+         *
+         * @param task Task
+         */
+        void execute(final Runnable task) {
+            if (Thread.currentThread() == thread) {
+                task.run();
+            } else {
+                tasks.add(task);
+                selector.wakeup();
+            }
+        }
+
+        /**
+         * Stop the loop, the connections are closed by the selector thread.
+         */
+        void stop() {
+            active = false;
+            selector.wakeup();
+        }
+
+        /**
+         * Register accepted connection.
+         *
+         * @param channel Non-blocking connection channel
+         */
+        void register(final SocketChannel channel) {
+            final Connection connection = new Connection(channel, this, origin(channel), principal(channel));
+            try {
+                connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            } catch (final ClosedChannelException exception) {
+                connection.close();
+            }
+        }
+
+        /**
+         * Select ready connections and run the tasks until the loop is stopped.
+         */
+        @Override
+        public void run() {
+            while (active) {
+                try {
+                    selector.select(this::ready);
+                } catch (final IOException | ClosedSelectorException exception) {
+                    log.error("JSON-RPC {} selector failed", name, exception);
+                    break;
+                }
+                for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+                    task.run();
+                }
+            }
+            selector.keys().forEach(key -> ((Connection) key.attachment()).close());
+            try {
+                selector.close();
+            } catch (final IOException exception) {
+                log.debug("JSON-RPC {} selector is not closed", name, exception);
+            }
+        }
+
+        /**
+         * Handle ready connection.
+         *
+         * @param key {@link SelectionKey} of the connection
+         */
+        private void ready(final SelectionKey key) {
+            final Connection connection = (Connection) key.attachment();
+            if (key.isValid() && key.isWritable()) {
+                connection.flush();
+            }
+            if (key.isValid() && key.isReadable()) {
+                connection.read();
+            }
+        }
+    }
+
+    /**
+     * JSON-RPC socket connection. The state is confined to the selector thread, except the completed frames.
+     */
+    private final class Connection {
+
+        /**
+         * Connection channel.
+         */
+        private final SocketChannel channel;
+
+        /**
+         * Selector thread loop of the connection.
+         */
+        private final Loop loop;
+
+        /**
+         * See {@link JsonRpcTransportRequestImpl.Origin}.
+         */
+        private final JsonRpcTransportRequestImpl.Origin origin;
+
+        /**
+         * User principal of the connection.
+         */
+        private final Principal principal;
+
+        /**
+         * Completed response frames, added by any thread.
+         */
+        private final Queue<ByteBuffer[]> outbound = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Response buffers being written.
+         */
+        private final Deque<ByteBuffer> pending = new ArrayDeque<>();
+
+        /**
+         * {@link SelectionKey} of the connection.
+         */
+        private SelectionKey key;
+
+        /**
+         * Read buffer in the write mode. Null if there is no partially read frame
+         */
+        private ByteBuffer input;
+
+        /**
+         * Calls being executed or having their responses sent.
+         */
+        private int inFlight;
+
+        /**
+         * The connection is not read, the calls in flight are over the limit.
+         */
+        private boolean paused;
+
+        /**
+         * The read frames are being dispatched, the responses are written after them.
+         */
+        private boolean decoding;
+
+        /**
+         * Constructor.
+         *
+         * @param connectionChannel Connection channel
+         * @param connectionLoop    Selector thread loop of the connection
+         * @param connectionOrigin  See {@link JsonRpcTransportRequestImpl.Origin}
+         * @param userPrincipal     User principal of the connection
+         */
+        Connection(final SocketChannel connectionChannel, final Loop connectionLoop,
+                   final JsonRpcTransportRequestImpl.Origin connectionOrigin, final Principal userPrincipal) {
+            this.channel = connectionChannel;
+            this.loop = connectionLoop;
+            this.origin = connectionOrigin;
+            this.principal = userPrincipal;
+        }
+
+        /**
+         * Read the connection and dispatch the complete frames.
+         */
+        void read() {
+            if (input == null) {
+                input = bufferPool.acquire();
+            }
+            final int read;
+            try {
+                read = channel.read(input);
+            } catch (final IOException exception) {
+                log.debug("JSON-RPC {} connection {} is not read", name, origin.getRemoteAddress(), exception);
+                close();
+                return;
+            }
+            if (read < 0) {
+                close();
+                return;
+            }
+            decode();
+        }
+
+        /**
+         * Dispatch the complete frames of the read buffer while the calls in flight are under the limit.
+         * The buffer without a partially read frame is released, the buffer filled by a partially read frame
+         * is grown up to {@link JsonRpcConfigurationProperties.Socket#getMaxFrameSize()}.
+         */
+        void decode() {
+            input.flip();
+            decoding = true;
+            try {
+                for (ByteBuffer frame = next(); frame != null; frame = next()) {
+                    dispatch(frame);
+                }
+            } catch (final ProtocolException exception) {
+                log.debug("JSON-RPC {} connection {} is closed: {}", name, origin.getRemoteAddress(),
+                        exception.getMessage());
+                close();
+                return;
+            } finally {
+                decoding = false;
+            }
+            input.compact();
+            if (input.position() == 0) {
+                bufferPool.release(input);
+                input = null;
+            } else if (!input.hasRemaining() && inFlight < properties.getMaxInFlightCalls()) {
+                grow();
+            }
+            flush();
+            if (channel.isOpen() && inFlight >= properties.getMaxInFlightCalls()) {
+                paused = true;
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            }
+        }
+
+        /**
+         * Decode next frame if the calls in flight are under the limit.
+         *
+         * @return Frame payload. Null if there is no complete frame or the calls in flight are over the limit
+         * @throws ProtocolException If the frame is malformed
+         */
+        ByteBuffer next() throws ProtocolException {
+            return inFlight < properties.getMaxInFlightCalls() ? codec.decode(input) : null;
+        }
+
+        /**
+         * Replace the read buffer filled by a partially read frame with a larger heap buffer.
+         */
+        void grow() {
+            final int capacity = Math.min(input.capacity() * 2, properties.getMaxFrameSize() + Integer.BYTES);
+            if (capacity > input.capacity()) {
+                final ByteBuffer grown = ByteBuffer.allocate(capacity).put(input.flip());
+                bufferPool.release(input);
+                input = grown;
+            }
+        }
+
+        /**
+         * Process request frame. The frame is parsed in place, before the read buffer is reused.
+         *
+         * @param frame Request frame payload
+         */
+        void dispatch(final ByteBuffer frame) {
+            inFlight++;
+            final JsonRpcTransportRequest request = new JsonRpcTransportRequestImpl(origin, principal);
+            request.setAttribute(JsonRpcService.BLOCKING_EXECUTOR_ATTRIBUTE, blocking);
+            final Object response;
+            try {
+                response = service.process(frame, request);
+            } catch (final Throwable throwable) {
+                log.error("JSON-RPC {} call of connection {} failed", name, origin.getRemoteAddress(), throwable);
+                completed();
+                return;
+            }
+            if (response instanceof CompletableFuture<?> future) {
+                future.whenComplete((value, throwable) -> respond(value));
+            } else {
+                respond(response);
+            }
+        }
+
+        /**
+         * Encode response frame and complete the call in the selector thread.
+         *
+         * @param response Response. Null if there is nothing to respond (notifications)
+         */
+        void respond(final Object response) {
+            if (response != null && channel.isOpen()) {
+                try {
+                    outbound.add(codec.encode(objectWriter.writeValueAsBytes(response)));
+                } catch (final JsonProcessingException exception) {
+                    log.error("JSON-RPC {} response of connection {} is not written", name,
+                            origin.getRemoteAddress(), exception);
+                }
+            }
+            loop.execute(this::completed);
+        }
+
+        /**
+         * Complete call: write the responses and resume reading under the calls in flight limit.
+         */
+        void completed() {
+            inFlight--;
+            if (decoding || !channel.isOpen()) {
+                return;
+            }
+            flush();
+            if (paused && channel.isOpen() && inFlight < properties.getMaxInFlightCalls()) {
+                paused = false;
+                key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+                if (input != null) {
+                    decode();
+                }
+            }
+        }
+
+        /**
+         * Write the completed responses by gathering writes until the socket buffer is full.
+         * A partially written response is written when the connection is writable again.
+         */
+        void flush() {
+            for (ByteBuffer[] frame = outbound.poll(); frame != null; frame = outbound.poll()) {
+                Collections.addAll(pending, frame);
+            }
+            try {
+                while (!pending.isEmpty()) {
+                    int count = 0;
+                    for (final ByteBuffer buffer : pending) {
+                        if (count == GATHER) {
+                            break;
+                        }
+                        loop.gather[count++] = buffer;
+                    }
+                    channel.write(loop.gather, 0, count);
+                    final boolean full = loop.gather[count - 1].hasRemaining();
+                    while (!pending.isEmpty() && !pending.peekFirst().hasRemaining()) {
+                        pending.pollFirst();
+                    }
+                    if (full) {
+                        key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                        return;
+                    }
+                }
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+            } catch (final IOException exception) {
+                log.debug("JSON-RPC {} connection {} is not written", name, origin.getRemoteAddress(), exception);
+                close();
+            }
+        }
+
+        /**
+         * Close connection. Responses of the calls in flight are dropped.
+         */
+        void close() {
+            Optional.ofNullable(key).ifPresent(SelectionKey::cancel);
+            JsonRpcSocketServer.this.close(channel);
+            Optional.ofNullable(input).ifPresent(bufferPool::release);
+            input = null;
+            outbound.clear();
+            pending.clear();
+        }
+   }
+}
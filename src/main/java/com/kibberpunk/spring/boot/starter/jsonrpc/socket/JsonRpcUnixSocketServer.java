@@ -0,0 +1,164 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.socket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpcExecutors;
+import jdk.net.ExtendedSocketOptions;
+import jdk.net.UnixDomainPrincipal;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.BindException;
+import java.net.ConnectException;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.Principal;
+import java.util.Set;
+
+/**
+ * JSON-RPC Unix domain socket server, see {@link JsonRpcSocketServer}.
+ * The socket file permissions control the access: the socket is bound inside a new directory only the owner can enter,
+ * the permissions are set and the file is renamed to the socket path, so no other user can connect before the
+ * permissions are set.
+ * The user principal of a connection is the peer user ({@link ExtendedSocketOptions#SO_PEERCRED}) where supported.
+ *
+ * @author kibberpunk
+ */
+@Slf4j
+public class JsonRpcUnixSocketServer extends JsonRpcSocketServer {
+
+    /**
+     * Socket file path.
+     */
+    private final Path path;
+
+    /**
+     * POSIX permissions of the socket file.
+     */
+    private final Set<PosixFilePermission> permissions;
+
+    /**
+     * Constructor.
+     *
+     * @param jsonRpcService See {@link JsonRpcService}
+     * @param objectMapper   {@link ObjectMapper} to create the reused writer from
+     * @param configuration  See {@link JsonRpcConfigurationProperties.Unix}
+     * @param executors      See {@link JsonRpcExecutors}, the blocking methods are executed on its virtual threads
+     *                       if any
+     */
+    public JsonRpcUnixSocketServer(final @NonNull JsonRpcService jsonRpcService,
+                                   final @NonNull ObjectMapper objectMapper,
+                                   final @NonNull JsonRpcConfigurationProperties.Unix configuration,
+                                   final @NonNull JsonRpcExecutors executors) {
+        super(jsonRpcService, objectMapper, configuration,
+                UnixDomainSocketAddress.of(configuration.getPath()), "unix", executors);
+        this.path = Path.of(configuration.getPath()).toAbsolutePath();
+        this.permissions = PosixFilePermissions.fromString(configuration.getPermissions());
+    }
+
+    /**
+     * Stop the server and delete the socket file.
+     */
+    @Override
+    public synchronized void stop() {
+        final boolean bound = isRunning();
+        super.stop();
+        if (bound) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (final IOException exception) {
+                log.debug("JSON-RPC socket file {} is not deleted", path, exception);
+            }
+        }
+    }
+
+    /**
+     * Get socket address.
+     *
+     * @return Socket file address. Null if the server is not started
+     */
+    @Override
+    public SocketAddress getLocalAddress() {
+        return isRunning() ? getAddress() : null;
+    }
+
+    /**
+     * Bind server channel inside a new owner-only ({@code rwx------}) directory next to the socket path, set the
+     * permissions and rename the socket file to the socket path, then delete the directory.
+     *
+     * @param channel Unbound Unix domain {@link ServerSocketChannel}
+     * @throws IOException If the socket path is not a socket or is used by a running server
+     */
+    @Override
+    protected void bind(final @NonNull ServerSocketChannel channel) throws IOException {
+        stale();
+        final boolean posix = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+        if (!posix) {
+            log.warn("JSON-RPC socket file {} permissions are not supported by the file system", path);
+        }
+        final String prefix = "." + path.getFileName() + ".";
+        final Path directory = posix
+                ? Files.createTempDirectory(path.getParent(), prefix,
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")))
+                : Files.createTempDirectory(path.getParent(), prefix);
+        final Path temporary = directory.resolve("socket");
+        try {
+            channel.bind(UnixDomainSocketAddress.of(temporary));
+            if (posix) {
+                Files.setPosixFilePermissions(temporary, permissions);
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Get peer user of the connection.
+     *
+     * @param channel Connection channel
+     * @return Peer user. Null if the peer credentials are not supported
+     */
+    @Override
+    protected Principal principal(final @NonNull SocketChannel channel) {
+        if (!channel.supportedOptions().contains(ExtendedSocketOptions.SO_PEERCRED)) {
+            return null;
+        }
+        try {
+            final UnixDomainPrincipal peer = channel.getOption(ExtendedSocketOptions.SO_PEERCRED);
+            return peer == null ? null : peer.user();
+        } catch (final IOException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Check the socket path is free or left by a stopped server.
+     *
+     * @throws IOException If the socket path is not a socket or is used by a running server
+     */
+    private void stale() throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        if (Files.isRegularFile(path) || Files.isDirectory(path)) {
+            throw new BindException(path + " is not a socket");
+        }
+        try (SocketChannel probe = SocketChannel.open(UnixDomainSocketAddress.of(path))) {
+            throw new BindException(path + " is used by a running server");
+        } catch (final ConnectException exception) {
+            log.debug("JSON-RPC socket file {} left by a stopped server is replaced", path);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.socket.impl;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.socket.JsonRpcFrameCodec;
+import lombok.NonNull;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+/**
+ * Length-prefixed frames: every frame is prefixed by its payload length in bytes, 4 bytes big-endian.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcLengthPrefixFrameCodec implements JsonRpcFrameCodec {
+
+    /**
+     * Length prefix size in bytes.
+     */
+    private static final int PREFIX = Integer.BYTES;
+
+    /**
+     * Maximum size of a frame payload in bytes.
+     */
+    private final int maxFrameSize;
+
+    /**
+     * Constructor.
+     *
+     * @param frameSize Maximum size of a frame payload in bytes
+     */
+    public JsonRpcLengthPrefixFrameCodec(final int frameSize) {
+        this.maxFrameSize = frameSize;
+    }
+
+    /**
+     * Decode next frame.
+     *
+     * @param input Read bytes, in the read mode
+     * @return Frame payload. Null if the input has no complete frame
+     * @throws ProtocolException If the length is negative or exceeds the maximum frame size
+     */
+    @Override
+    public ByteBuffer decode(final @NonNull ByteBuffer input) throws ProtocolException {
+        if (input.remaining() < PREFIX) {
+            return null;
+        }
+        final int start = input.position();
+        final int length = input.getInt(start);
+        if (length < 0 || length > maxFrameSize) {
+            throw new ProtocolException("JSON-RPC frame length " + length + " is out of 0.." + maxFrameSize);
+        }
+        if (input.remaining() < PREFIX + length) {
+            return null;
+        }
+        input.position(start + PREFIX + length);
+        return input.slice(start + PREFIX, length);
+    }
+
+    /**
+     * Encode frame.
+     *
+     * @param payload Frame payload
+     * @return Length prefix and payload buffers
+     */
+    @Override
+    @NonNull
+    public ByteBuffer[] encode(final @NonNull byte[] payload) {
+        return new ByteBuffer[]{ByteBuffer.allocate(PREFIX).putInt(0, payload.length), ByteBuffer.wrap(payload)};
+    }
+}
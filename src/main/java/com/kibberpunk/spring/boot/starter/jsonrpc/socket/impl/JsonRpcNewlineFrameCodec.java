@@ -0,0 +1,70 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.socket.impl;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.socket.JsonRpcFrameCodec;
+import lombok.NonNull;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+/**
+ * Newline-delimited JSON frames: every frame is a single line JSON ended by {@code \n}.
+ * A JSON written without pretty printing has no line breaks, the line breaks of the strings are escaped.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcNewlineFrameCodec implements JsonRpcFrameCodec {
+
+    /**
+     * Frames delimiter.
+     */
+    private static final byte NEWLINE = '\n';
+
+    /**
+     * Maximum size of a frame in bytes, without the delimiter.
+     */
+    private final int maxFrameSize;
+
+    /**
+     * Constructor.
+     *
+     * @param frameSize Maximum size of a frame in bytes, without the delimiter
+     */
+    public JsonRpcNewlineFrameCodec(final int frameSize) {
+        this.maxFrameSize = frameSize;
+    }
+
+    /**
+     * Decode next line.
+     *
+     * @param input Read bytes, in the read mode
+     * @return Line without the delimiter. Null if the input has no complete line
+     * @throws ProtocolException If the line exceeds the maximum frame size
+     */
+    @Override
+    public ByteBuffer decode(final @NonNull ByteBuffer input) throws ProtocolException {
+        final int start = input.position();
+        final int limit = Math.min(input.limit(), start + maxFrameSize + 1);
+        for (int i = start; i < limit; i++) {
+            if (input.get(i) == NEWLINE) {
+                input.position(i + 1);
+                return input.slice(start, i - start);
+            }
+        }
+        if (input.remaining() > maxFrameSize) {
+            throw new ProtocolException("JSON-RPC frame exceeds " + maxFrameSize + " bytes");
+        }
+        return null;
+    }
+
+    /**
+     * Encode line.
+     *
+     * @param payload Single line JSON
+     * @return Payload and delimiter buffers
+     */
+    @Override
+    @NonNull
+    public ByteBuffer[] encode(final @NonNull byte[] payload) {
+        return new ByteBuffer[]{ByteBuffer.wrap(payload), ByteBuffer.wrap(new byte[]{NEWLINE})};
+    }
+}
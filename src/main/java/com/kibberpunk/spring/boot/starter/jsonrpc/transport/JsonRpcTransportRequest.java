@@ -0,0 +1,80 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.transport;
+
+import lombok.NonNull;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Request of the transport which received a JSON-RPC request: the servlet request, the WebFlux exchange,
+ * the WebSocket message or the socket frame. The request exposes the data common to the transports and its own
+ * attributes, the transport specific objects are available by {@link #unwrap(Class)}.
+ *
+ * @author kibberpunk
+ */
+public interface JsonRpcTransportRequest {
+
+    /**
+     * Get request attribute.
+     *
+     * @param name Attribute name
+     * @return Attribute value. Null if there is no such attribute
+     */
+    Object getAttribute(@NonNull String name);
+
+    /**
+     * Set request attribute.
+     *
+     * @param name  Attribute name
+     * @param value Attribute value. Null removes the attribute
+     */
+    void setAttribute(@NonNull String name, Object value);
+
+    /**
+     * Get user principal.
+     *
+     * @return User principal. Null if the request is not authenticated
+     */
+    Principal getUserPrincipal();
+
+    /**
+     * Get header of the request, or of the HTTP request which opened the connection.
+     *
+     * @param name Case-insensitive header name
+     * @return First header value. Null if there is no such header
+     */
+    String getHeader(@NonNull String name);
+
+    /**
+     * Get header values of the request, or of the HTTP request which opened the connection.
+     *
+     * @param name Case-insensitive header name
+     * @return Header values. Empty if there is no such header
+     */
+    List<String> getHeaders(@NonNull String name);
+
+    /**
+     * Get query parameter of the request, or of the HTTP request which opened the connection.
+     *
+     * @param name Parameter name
+     * @return First parameter value. Null if there is no such parameter
+     */
+    String getParameter(@NonNull String name);
+
+    /**
+     * Get remote address.
+     *
+     * @return Remote IP address or socket path. Null if it is not known
+     */
+    String getRemoteAddress();
+
+    /**
+     * Get transport specific object of the request, f.e. {@code HttpServletRequest}, {@code ServerRequest},
+     * WebSocket {@code Session} or the {@code HttpSession} of the WebSocket handshake.
+     *
+     * @param type Object type
+     * @param <T>  Object type
+     * @return Object of the type. Null if the transport has no such object
+     */
+    <T> T unwrap(@NonNull Class<T> type);
+}
@@ -0,0 +1,207 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.transport.impl;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link JsonRpcTransportRequest} of the transports without a request object of their own (WebSocket messages,
+ * WebFlux, sockets). The request is a view of the data known about its origin ({@link Origin}),
+ * f.e. the WebSocket handshake or the WebFlux exchange, with its own attributes.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcTransportRequestImpl implements JsonRpcTransportRequest {
+
+    /**
+     * See {@link Origin}.
+     */
+    private final Origin origin;
+
+    /**
+     * User principal.
+     */
+    private final Principal principal;
+
+    /**
+     * Request attributes.
+     */
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param requestOrigin See {@link Origin}
+     * @param userPrincipal User principal. Null if the request is not authenticated
+     */
+    public JsonRpcTransportRequestImpl(final @NonNull Origin requestOrigin, final Principal userPrincipal) {
+        this.origin = requestOrigin;
+        this.principal = userPrincipal;
+    }
+
+    /**
+     * Get request attribute.
+     *
+     * @param name Attribute name
+     * @return Attribute value. Null if there is no such attribute
+     */
+    @Override
+    public Object getAttribute(final @NonNull String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * Set request attribute.
+     *
+     * @param name  Attribute name
+     * @param value Attribute value. Null removes the attribute
+     */
+    @Override
+    public void setAttribute(final @NonNull String name, final Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    /**
+     * Get user principal.
+     *
+     * @return User principal. Null if the request is not authenticated
+     */
+    @Override
+    public Principal getUserPrincipal() {
+        return principal;
+    }
+
+    /**
+     * Get origin header.
+     *
+     * @param name Case-insensitive header name
+     * @return First header value. Null if there is no such header
+     */
+    @Override
+    public String getHeader(final @NonNull String name) {
+        return first(origin.getHeaders().get(name));
+    }
+
+    /**
+     * Get origin header values.
+     *
+     * @param name Case-insensitive header name
+     * @return Header values. Empty if there is no such header
+     */
+    @Override
+    public List<String> getHeaders(final @NonNull String name) {
+        return origin.getHeaders().getOrDefault(name, List.of());
+    }
+
+    /**
+     * Get origin query parameter.
+     *
+     * @param name Parameter name
+     * @return First parameter value. Null if there is no such parameter
+     */
+    @Override
+    public String getParameter(final @NonNull String name) {
+        return first(origin.getParameters().get(name));
+    }
+
+    /**
+     * Get remote address of the origin.
+     *
+     * @return Remote IP address or socket path. Null if it is not known
+     */
+    @Override
+    public String getRemoteAddress() {
+        return origin.getRemoteAddress();
+    }
+
+    /**
+     * Get transport specific object of the origin.
+     *
+     * @param type Object type
+     * @param <T>  Object type
+     * @return First object of the origin of the type. Null if the origin has no such object
+     */
+    @Override
+    public <T> T unwrap(final @NonNull Class<T> type) {
+        return origin.getObjects().stream()
+                .filter(type::isInstance)
+                .map(type::cast)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Get first value.
+     *
+     * @param values Values. Null if there are none
+     * @return First value. Null if there are no values
+     */
+    private static String first(final List<String> values) {
+        return Optional.ofNullable(values)
+                .filter(list -> !list.isEmpty())
+                .map(list -> list.get(0))
+                .orElse(null);
+    }
+
+    /**
+     * Data of the request origin: the HTTP request of the WebSocket handshake or of the WebFlux exchange,
+     * the socket connection.
+     */
+    @Getter
+    public static final class Origin {
+
+        /**
+         * Origin without data.
+         */
+        public static final Origin NONE = new Origin(Map.of(), Map.of(), null, List.of());
+
+        /**
+         * Headers by case-insensitive name.
+         */
+        private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        /**
+         * Query parameters.
+         */
+        private final Map<String, List<String>> parameters;
+
+        /**
+         * Remote IP address or socket path.
+         */
+        private final String remoteAddress;
+
+        /**
+         * Transport specific objects, see {@link JsonRpcTransportRequest#unwrap(Class)}.
+         */
+        private final List<Object> objects;
+
+        /**
+         * Constructor.
+         *
+         * @param originHeaders    Headers
+         * @param originParameters Query parameters
+         * @param originAddress    Remote IP address or socket path
+         * @param originObjects    Transport specific objects
+         */
+        public Origin(final @NonNull Map<String, List<String>> originHeaders,
+                      final @NonNull Map<String, List<String>> originParameters,
+                      final String originAddress,
+                      final @NonNull List<Object> originObjects) {
+            this.headers.putAll(originHeaders);
+            this.parameters = Map.copyOf(originParameters);
+            this.remoteAddress = originAddress;
+            this.objects = List.copyOf(originObjects);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.utils;
+
+import lombok.NonNull;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Asynchronous method results utils.
+ * A method result is asynchronous if it is a {@link CompletionStage} or a reactive type known to
+ * {@link ReactiveAdapterRegistry} (f.e. Reactor Mono and Flux, when they are on the classpath).
+ * The values of a multi value reactive type are collected to a {@link List}.
+ *
+ * @author kibberpunk
+ */
+public final class AsyncResultUtils {
+
+    /**
+     * Asynchronous method return types.
+     */
+    private static final ClassValue<Boolean> ASYNCHRONOUS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            if (CompletionStage.class.isAssignableFrom(type)) {
+                return true;
+            }
+            final ReactiveAdapter adapter = ReactiveAdapterRegistry.getSharedInstance().getAdapter(type);
+            return adapter != null && !adapter.isNoValue();
+        }
+    };
+
+    /**
+     * Private constructor to utils class.
+     */
+    private AsyncResultUtils() {
+    }
+
+    /**
+     * Check the method return type is asynchronous.
+     *
+     * @param type Method return type
+     * @return True if the result of the type is adapted to {@link CompletableFuture}, see {@link #future(Object)}
+     */
+    public static boolean isAsynchronous(final @NonNull Class<?> type) {
+        return ASYNCHRONOUS.get(type);
+    }
+
+    /**
+     * Adapt asynchronous method result to {@link CompletableFuture}.
+     *
+     * @param result Method result
+     * @return {@link CompletableFuture} of the result value. Null if the result is not asynchronous.
+     * Cancelling the {@link CompletableFuture} cancels the result, see {@link #cancelling(CompletableFuture, Future[])}
+     */
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<Object> future(final Object result) {
+        if (result == null) {
+            return null;
+        } else if (result instanceof CompletableFuture<?> future) {
+            return (CompletableFuture<Object>) future;
+        } else if (result instanceof CompletionStage<?> stage) {
+            final CompletableFuture<Object> future = new CompletableFuture<>();
+            stage.whenComplete((value, throwable) -> {
+                if (throwable != null) {
+                    future.completeExceptionally(throwable);
+                } else {
+                    future.complete(value);
+                }
+            });
+            return stage instanceof Future<?> source ? cancelling(future, source) : future;
+        }
+        final ReactiveAdapter adapter = ReactiveAdapterRegistry.getSharedInstance().getAdapter(result.getClass());
+        if (adapter == null || adapter.isNoValue()) {
+            return null;
+        }
+        return Publishers.future(adapter.toPublisher(result), adapter.isMultiValue());
+    }
+
+    /**
+     * Cancel the sources when the derived {@link CompletableFuture} is cancelled, f.e. the pending method result
+     * of an expired response. A {@link CompletableFuture} derived by {@code thenApply}, {@code whenComplete} etc.
+     * does not cancel its source itself.
+     *
+     * @param derived {@link CompletableFuture} derived from the sources
+     * @param sources Sources of the derived {@link CompletableFuture}
+     * @param <T>     Value type
+     * @return Derived {@link CompletableFuture}
+     */
+    public static <T> CompletableFuture<T> cancelling(
+            final @NonNull CompletableFuture<T> derived,
+            final @NonNull Future<?>... sources) {
+        derived.whenComplete((value, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                Arrays.stream(sources).forEach(source -> source.cancel(true));
+            }
+        });
+        return derived;
+    }
+
+    /**
+     * Unwrap the failure of a {@link CompletableFuture}.
+     *
+     * @param throwable Failure, possibly wrapped to {@link CompletionException} or {@link ExecutionException}
+     * @return Original failure
+     */
+    @NonNull
+    public static Throwable unwrap(final @NonNull Throwable throwable) {
+        Throwable failure = throwable;
+        while ((failure instanceof CompletionException || failure instanceof ExecutionException)
+                && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        return failure;
+    }
+
+    /**
+     * Reactive Streams support, loaded only if a reactive result is met.
+     */
+    private static final class Publishers {
+
+        /**
+         * Private constructor to utils class.
+         */
+        private Publishers() {
+        }
+
+        /**
+         * Subscribe to {@link Publisher}.
+         *
+         * @param publisher  {@link Publisher}
+         * @param multiValue The values are collected to a {@link List}
+         * @return {@link CompletableFuture} of the first value, null value if the publisher completes empty.
+         * {@link CompletableFuture} of the values list if the publisher is multi value.
+         * Cancelling the {@link CompletableFuture} cancels the subscription
+         */
+        static CompletableFuture<Object> future(final @NonNull Publisher<Object> publisher, final boolean multiValue) {
+            final CompletableFuture<Object> future = new CompletableFuture<>();
+            final List<Object> values = multiValue ? new ArrayList<>() : null;
+            publisher.subscribe(new Subscriber<>() {
+
+                @Override
+                public void onSubscribe(final Subscription subscription) {
+                    future.whenComplete((value, throwable) -> {
+                        if (throwable instanceof CancellationException) {
+                            subscription.cancel();
+                        }
+                    });
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(final Object value) {
+                    if (values == null) {
+                        future.complete(value);
+                    } else {
+                        values.add(value);
+                    }
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    future.complete(values);
+                }
+            });
+            return future;
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpcExecutors;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.impl.JsonRpcTransportRequestImpl;
+import jakarta.servlet.http.HttpSession;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.HandshakeResponse;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.HandshakeRequest;
+import jakarta.websocket.server.ServerEndpointConfig;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.websocket.WsSession;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * JSON-RPC WebSocket endpoint. Every text message is a JSON-RPC request (or batch) processed by
+ * the {@link JsonRpcService}, as the body of a request to the REST endpoint.
+ * Messages of a connection are executed at the same time, each response is sent as soon as it is completed,
+ * so the responses come in any order and the client matches them by {@code id}.
+ * A connection has at most {@link JsonRpcConfigurationProperties.WebSocket#getMaxInFlightCalls()} calls
+ * being executed or having their responses sent. At the limit the reading of the connection is suspended on Tomcat
+ * ({@link WsSession#suspend()}) without holding a container thread, on other containers a message over the limit
+ * closes the connection with {@link CloseReason.CloseCodes#TRY_AGAIN_LATER}. The calls are never executed by
+ * the container threads, a call rejected by the full pool also closes the connection.
+ *
+ * @author kibberpunk
+ */
+@Slf4j
+public class JsonRpcWebSocketEndpoint extends Endpoint implements DisposableBean {
+
+    /**
+     * {@link EndpointConfig#getUserProperties()} key of the handshake {@link JsonRpcTransportRequestImpl.Origin}.
+     */
+    protected static final String HANDSHAKE = JsonRpcWebSocketEndpoint.class.getName() + ".handshake";
+
+    /**
+     * Tomcat WebSocket sessions can suspend reading.
+     */
+    private static final boolean TOMCAT = ClassUtils.isPresent("org.apache.tomcat.websocket.WsSession",
+            JsonRpcWebSocketEndpoint.class.getClassLoader());
+
+    /**
+     * See {@link JsonRpcService}.
+     */
+    private final JsonRpcService service;
+
+    /**
+     * Reused {@link ObjectWriter} of the responses.
+     */
+    private final ObjectWriter objectWriter;
+
+    /**
+     * See {@link JsonRpcConfigurationProperties.WebSocket}.
+     */
+    private final JsonRpcConfigurationProperties.WebSocket properties;
+
+    /**
+     * Executor of the calls.
+     */
+    private final Executor executor;
+
+    /**
+     * Owned calls pool. Null if the calls are executed on virtual threads
+     */
+    private final ExecutorService pool;
+
+    /**
+     * Constructor.
+     *
+     * @param jsonRpcService See {@link JsonRpcService}
+     * @param objectMapper   {@link ObjectMapper} to create the reused {@link ObjectWriter} from
+     * @param configuration  See {@link JsonRpcConfigurationProperties}
+     * @param executors      See {@link JsonRpcExecutors}, the calls are executed on its virtual threads if any
+     */
+    public JsonRpcWebSocketEndpoint(final @NonNull JsonRpcService jsonRpcService,
+                                    final @NonNull ObjectMapper objectMapper,
+                                    final @NonNull JsonRpcConfigurationProperties configuration,
+                                    final @NonNull JsonRpcExecutors executors) {
+        this.service = jsonRpcService;
+        this.objectWriter = objectMapper.writer();
+        this.properties = configuration.getConsumer().getWebsocket();
+        this.pool = executors.getVirtual() != null
+                ? null
+                : JsonRpcExecutors.pool("json-rpc-websocket-", properties.getExecutor(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = Optional.<Executor>ofNullable(executors.getVirtual()).orElse(pool);
+    }
+
+    /**
+     * Create {@link ServerEndpointConfig} of the endpoint.
+     *
+     * @return {@link ServerEndpointConfig} by {@link JsonRpcConfigurationProperties.WebSocket#getPath()}
+     */
+    @NonNull
+    public ServerEndpointConfig config() {
+        return ServerEndpointConfig.Builder.create(JsonRpcWebSocketEndpoint.class, properties.getPath())
+                .configurator(new Configurator(this))
+                .build();
+    }
+
+    /**
+     * Open connection.
+     *
+     * @param session See {@link Session}
+     * @param config  See {@link EndpointConfig} of the connection with the handshake data
+     */
+    @Override
+    public void onOpen(final Session session, final EndpointConfig config) {
+        session.setMaxTextMessageBufferSize(properties.getMaxMessageSize());
+        session.setMaxIdleTimeout(properties.getMaxIdleTime().toMillis());
+        final Connection connection = new Connection(session,
+                (JsonRpcTransportRequestImpl.Origin) config.getUserProperties().get(HANDSHAKE));
+        session.addMessageHandler(String.class, connection::receive);
+    }
+
+    /**
+     * Close connection. Responses of the calls in flight are dropped.
+     *
+     * @param session     See {@link Session}
+     * @param closeReason See {@link CloseReason}
+     */
+    @Override
+    public void onClose(final Session session, final CloseReason closeReason) {
+        log.debug("JSON-RPC WebSocket connection {} is closed: {}", session.getId(), closeReason);
+    }
+
+    /**
+     * Connection failure.
+     *
+     * @param session   See {@link Session}
+     * @param throwable Failure
+     */
+    @Override
+    public void onError(final Session session, final Throwable throwable) {
+        log.debug("JSON-RPC WebSocket connection {} failed", session.getId(), throwable);
+    }
+
+    /**
+     * Shutdown owned calls pool.
+     */
+    @Override
+    public void destroy() {
+        Optional.ofNullable(pool).ifPresent(ExecutorService::shutdown);
+    }
+
+    /**
+     * JSON-RPC WebSocket connection.
+     */
+    private final class Connection {
+
+        /**
+         * See {@link Session}.
+         */
+        private final Session session;
+
+        /**
+         * {@link JsonRpcTransportRequestImpl.Origin} of the calls: the handshake data and the {@link Session}.
+         */
+        private final JsonRpcTransportRequestImpl.Origin origin;
+
+        /**
+         * Permits of the calls in flight.
+         */
+        private final Semaphore inFlight = new Semaphore(properties.getMaxInFlightCalls());
+
+        /**
+         * Responses waiting to be sent. Only one message of a session is sent at a time
+         */
+        private final Queue<String> outbound = new ConcurrentLinkedQueue<>();
+
+        /**
+         * A response is being sent.
+         */
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        /**
+         * The session can suspend reading, see {@link WsSession#suspend()}.
+         */
+        private final boolean suspendable;
+
+        /**
+         * Reading is suspended until a call permit is released. Guarded by the connection
+         */
+        private boolean suspended;
+
+        /**
+         * Constructor.
+         *
+         * @param webSocketSession    See {@link Session}
+         * @param connectionHandshake Handshake {@link JsonRpcTransportRequestImpl.Origin}
+         */
+        Connection(final Session webSocketSession, final JsonRpcTransportRequestImpl.Origin connectionHandshake) {
+            this.session = webSocketSession;
+            this.origin = new JsonRpcTransportRequestImpl.Origin(connectionHandshake.getHeaders(),
+                    connectionHandshake.getParameters(), connectionHandshake.getRemoteAddress(),
+                    Stream.concat(connectionHandshake.getObjects().stream(), Stream.of(webSocketSession)).toList());
+            this.suspendable = TOMCAT && webSocketSession instanceof WsSession;
+        }
+
+        /**
+         * Receive message. Takes a permit of the call in flight and suspends reading when the last permit is taken.
+         * A message without a permit or rejected by the pool closes the connection.
+         *
+         * @param message JSON-RPC request
+         */
+        void receive(final String message) {
+            if (!inFlight.tryAcquire()) {
+                log.warn("JSON-RPC WebSocket connection {} is over {} calls in flight", session.getId(),
+                        properties.getMaxInFlightCalls());
+                close("Too many calls in flight");
+                return;
+            }
+            suspend();
+            final JsonRpcTransportRequest request = new JsonRpcTransportRequestImpl(origin,
+                    session.getUserPrincipal());
+            try {
+                executor.execute(() -> call(message, request));
+            } catch (final RejectedExecutionException exception) {
+                release();
+                log.warn("JSON-RPC WebSocket call of connection {} is rejected", session.getId());
+                close("Calls pool is full");
+            }
+        }
+
+        /**
+         * Suspend reading if there is no free call permit.
+         */
+        private synchronized void suspend() {
+            if (suspendable && !suspended && inFlight.availablePermits() == 0) {
+                suspended = true;
+                ((WsSession) session).suspend();
+            }
+        }
+
+        /**
+         * Release call permit and resume suspended reading.
+         */
+        private void release() {
+            inFlight.release();
+            synchronized (this) {
+                if (suspended) {
+                    suspended = false;
+                    ((WsSession) session).resume();
+                }
+            }
+        }
+
+        /**
+         * Close overloaded connection, the client may connect again later.
+         *
+         * @param reason Close reason phrase
+         */
+        private void close(final String reason) {
+            try {
+                session.close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, reason));
+            } catch (final IOException exception) {
+                log.debug("JSON-RPC WebSocket connection {} is not closed", session.getId(), exception);
+            }
+        }
+
+        /**
+         * Execute call and respond when the response is completed.
+         *
+         * @param message JSON-RPC request
+         * @param request See {@link JsonRpcTransportRequest}
+         */
+        void call(final String message, final JsonRpcTransportRequest request) {
+            final Object response;
+            try {
+                response = service.process(message, request);
+            } catch (final Throwable throwable) {
+                release();
+                log.error("JSON-RPC WebSocket call of connection {} failed", session.getId(), throwable);
+                return;
+            }
+            if (response instanceof CompletableFuture<?> future) {
+                future.whenComplete((value, throwable) -> respond(value));
+            } else {
+                respond(response);
+            }
+        }
+
+        /**
+         * Send response after the responses already completed.
+         *
+         * @param response Response. Null if there is nothing to respond (notifications)
+         */
+        void respond(final Object response) {
+            if (response == null || !session.isOpen()) {
+                release();
+                return;
+            }
+            try {
+                outbound.add(objectWriter.writeValueAsString(response));
+            } catch (final JsonProcessingException exception) {
+                release();
+                log.error("JSON-RPC WebSocket response of connection {} is not written", session.getId(), exception);
+                return;
+            }
+            flush();
+        }
+
+        /**
+         * Send next response unless a response is being sent. A sent response releases its call permit.
+         */
+        void flush() {
+            while (!outbound.isEmpty() && sending.compareAndSet(false, true)) {
+                final String text = outbound.poll();
+                if (text == null) {
+                    sending.set(false);
+                    continue;
+                }
+                try {
+                    session.getAsyncRemote().sendText(text, result -> {
+                        release();
+                        sending.set(false);
+                        if (!result.isOK()) {
+                            log.debug("JSON-RPC WebSocket response of connection {} is not sent", session.getId(),
+                                    result.getException());
+                        }
+                        flush();
+                    });
+                } catch (final IllegalStateException exception) {
+                    release();
+                    sending.set(false);
+                    log.debug("JSON-RPC WebSocket connection {} is closed", session.getId());
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Configurator of the endpoint: keeps the handshake data of a connection and provides the endpoint bean.
+     */
+    protected static class Configurator extends ServerEndpointConfig.Configurator {
+
+        /**
+         * See {@link JsonRpcWebSocketEndpoint}.
+         */
+        private final JsonRpcWebSocketEndpoint endpoint;
+
+        /**
+         * Constructor.
+         *
+         * @param webSocketEndpoint See {@link JsonRpcWebSocketEndpoint}
+         */
+        protected Configurator(final @NonNull JsonRpcWebSocketEndpoint webSocketEndpoint) {
+            this.endpoint = webSocketEndpoint;
+        }
+
+        /**
+         * Keep the handshake data of the connection. The user properties of the config are per connection.
+         *
+         * @param config   See {@link ServerEndpointConfig}
+         * @param request  See {@link HandshakeRequest}
+         * @param response See {@link HandshakeResponse}
+         */
+        @Override
+        public void modifyHandshake(final ServerEndpointConfig config, final HandshakeRequest request,
+                                    final HandshakeResponse response) {
+            config.getUserProperties().put(HANDSHAKE, origin(request));
+        }
+
+        /**
+         * Create {@link JsonRpcTransportRequestImpl.Origin} of the handshake.
+         * The servlet request of the handshake is recycled after the upgrade, so its data is copied,
+         * its {@link HttpSession} is kept.
+         *
+         * @param request See {@link HandshakeRequest}
+         * @return Handshake {@link JsonRpcTransportRequestImpl.Origin}
+         */
+        protected static JsonRpcTransportRequestImpl.Origin origin(final @NonNull HandshakeRequest request) {
+            return new JsonRpcTransportRequestImpl.Origin(request.getHeaders(), request.getParameterMap(), null,
+                    request.getHttpSession() instanceof HttpSession httpSession ? List.of(httpSession) : List.of());
+        }
+
+        /**
+         * Get endpoint instance.
+         *
+         * @param endpointClass Endpoint class
+         * @param <T>           Endpoint type
+         * @return The endpoint bean, shared by the connections
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getEndpointInstance(final Class<T> endpointClass) {
+            return (T) endpoint;
+        }
+    }
+}
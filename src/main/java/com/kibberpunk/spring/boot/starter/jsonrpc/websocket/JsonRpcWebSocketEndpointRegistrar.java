@@ -0,0 +1,67 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.websocket;
+
+import jakarta.servlet.ServletContext;
+import jakarta.websocket.DeploymentException;
+import jakarta.websocket.server.ServerContainer;
+import lombok.NonNull;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.web.context.ServletContextAware;
+
+import java.util.Optional;
+
+/**
+ * Registers {@link JsonRpcWebSocketEndpoint} in the servlet container {@link ServerContainer},
+ * without Spring WebSocket. The server container is created by the servlet container WebSocket support
+ * (f.e. Tomcat {@code WsSci}) before the application singletons are instantiated.
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcWebSocketEndpointRegistrar implements ServletContextAware, SmartInitializingSingleton {
+
+    /**
+     * See {@link JsonRpcWebSocketEndpoint}.
+     */
+    private final JsonRpcWebSocketEndpoint endpoint;
+
+    /**
+     * See {@link ServletContext}.
+     */
+    private ServletContext servletContext;
+
+    /**
+     * Constructor.
+     *
+     * @param webSocketEndpoint See {@link JsonRpcWebSocketEndpoint}
+     */
+    public JsonRpcWebSocketEndpointRegistrar(final @NonNull JsonRpcWebSocketEndpoint webSocketEndpoint) {
+        this.endpoint = webSocketEndpoint;
+    }
+
+    /**
+     * Set {@link ServletContext}.
+     *
+     * @param context See {@link ServletContext}
+     */
+    @Override
+    public void setServletContext(final @NonNull ServletContext context) {
+        this.servletContext = context;
+    }
+
+    /**
+     * Register the endpoint.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        final ServerContainer container = Optional.ofNullable(servletContext)
+                .map(context -> context.getAttribute(ServerContainer.class.getName()))
+                .filter(ServerContainer.class::isInstance)
+                .map(ServerContainer.class::cast)
+                .orElseThrow(() -> new IllegalStateException(
+                        "JSON-RPC WebSocket endpoint requires the servlet container WebSocket support"));
+        try {
+            container.addEndpoint(endpoint.config());
+        } catch (final DeploymentException exception) {
+            throw new IllegalStateException("Could not register JSON-RPC WebSocket endpoint", exception);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kibberpunk.spring.boot.starter.jsonrpc.controller.MrXController;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcExceptionMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -31,5 +33,15 @@ public class TestJsonRpcAutoConfiguration extends JsonRpcAutoConfiguration {
                 disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).
                 enable(SerializationFeature.INDENT_OUTPUT);
     }
-}
 
+    /**
+     * Create {@link JsonRpcExceptionMapper} of {@link MrXController.StunnedException}
+     *
+     * @return {@link JsonRpcExceptionMapper} without error data
+     */
+    @Bean
+    public JsonRpcExceptionMapper<MrXController.StunnedException> stunnedExceptionMapper() {
+        return JsonRpcExceptionMapper.of(MrXController.StunnedException.class, -32011, "Mr. X stunned",
+                JsonRpcExceptionMapper.Data.NONE);
+    }
+}
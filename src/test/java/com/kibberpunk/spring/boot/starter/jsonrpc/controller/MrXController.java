@@ -0,0 +1,210 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.controller;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcCacheable;
+import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcController;
+import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcExceptionMapping;
+import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcMethod;
+import com.kibberpunk.spring.boot.starter.jsonrpc.annotation.JsonRpcRequestObjectParameter;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 'Mr. X' (from Resident Evil) JSON-RPC controller
+ *
+ * @author kibberpunk
+ */
+@Getter
+@JsonRpcController
+public class MrXController extends AbstractTyrantController {
+
+    /**
+     * Steps made by all 'stomp' calls
+     */
+    private final AtomicInteger steps = new AtomicInteger();
+
+    /**
+     * Executed 'scan' calls
+     */
+    private final AtomicInteger scans = new AtomicInteger();
+
+    /**
+     * Executed 'sniff' calls
+     */
+    private final AtomicInteger sniffs = new AtomicInteger();
+
+    /**
+     * 'Stomp' JSON-RPC method
+     */
+    @JsonRpcMethod
+    public int stomp(final @JsonRpcRequestObjectParameter("steps") int steps) {
+        return this.steps.addAndGet(steps);
+    }
+
+    /**
+     * 'Track' JSON-RPC method with generic parameters
+     */
+    @JsonRpcMethod
+    public double track(
+            final @JsonRpcRequestObjectParameter("targets") List<Request> targets,
+            final @JsonRpcRequestObjectParameter("routes") Map<String, Request.Parameter> routes) {
+        return targets.get(0).getD() + routes.get("home").getD();
+    }
+
+    /**
+     * 'Chase' asynchronous JSON-RPC method
+     */
+    @JsonRpcMethod
+    public CompletableFuture<Integer> chase(final @JsonRpcRequestObjectParameter("steps") int steps) {
+        return CompletableFuture.supplyAsync(() -> this.steps.addAndGet(steps),
+                CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * 'Vanish' asynchronous JSON-RPC method
+     */
+    @JsonRpcMethod
+    public Mono<String> vanish(final @JsonRpcRequestObjectParameter("fail") boolean fail) {
+        return fail
+                ? Mono.error(new IllegalStateException("Mr. X can not vanish"))
+                : Mono.delay(Duration.ofMillis(50)).map(ignored -> "vanished");
+    }
+
+    /**
+     * 'Trail' reactive JSON-RPC method, leaves the footprints with the name of the invoking thread
+     */
+    @JsonRpcMethod
+    public Flux<String> trail(final @JsonRpcRequestObjectParameter("steps") int steps) {
+        final String thread = Thread.currentThread().getName();
+        return Flux.range(1, steps).map(step -> step + " " + thread);
+    }
+
+    /**
+     * 'Stalk' blocking JSON-RPC method, returns the name of the executing thread
+     */
+    @JsonRpcMethod
+    public String stalk() {
+        return Thread.currentThread().getName();
+    }
+
+    /**
+     * 'Spot' JSON-RPC method, returns the name of the caller
+     */
+    @JsonRpcMethod
+    public String spot(final Principal principal) {
+        return principal == null ? null : principal.getName();
+    }
+
+    /**
+     * 'Peek' JSON-RPC method, returns the 'X-Peek' header of the transport request
+     * and whether the servlet request is available
+     */
+    @JsonRpcMethod
+    public String peek(final JsonRpcTransportRequest request, final HttpServletRequest httpServletRequest) {
+        return request.getHeader("X-Peek") + " " + (httpServletRequest != null);
+    }
+
+    /**
+     * 'Hide' JSON-RPC method executed by one call at a time
+     */
+    @JsonRpcMethod(maxConcurrentCalls = 1)
+    public String hide(final @JsonRpcRequestObjectParameter("millis") long millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return "hidden";
+    }
+
+    /**
+     * 'Slip' asynchronous JSON-RPC method invoked by one call at a time, the invocation takes the millis
+     */
+    @JsonRpcMethod(maxConcurrentCalls = 1, maxWaitingCalls = 1)
+    public CompletableFuture<String> slip(final @JsonRpcRequestObjectParameter("millis") long millis)
+            throws InterruptedException {
+        Thread.sleep(millis);
+        return CompletableFuture.completedFuture("slipped " + Thread.currentThread().getName());
+    }
+
+    /**
+     * 'Lurk' JSON-RPC method limited in time
+     */
+    @JsonRpcMethod(timeoutMillis = 100)
+    public Object lurk(final @JsonRpcRequestObjectParameter("millis") long millis,
+                       final @JsonRpcRequestObjectParameter("async") boolean async) throws InterruptedException {
+        if (async) {
+            return CompletableFuture.supplyAsync(() -> "lurked",
+                    CompletableFuture.delayedExecutor(millis, TimeUnit.MILLISECONDS));
+        }
+        Thread.sleep(millis);
+        return "lurked";
+    }
+
+    /**
+     * 'Scan' JSON-RPC method with cached results
+     */
+    @JsonRpcMethod
+    @JsonRpcCacheable(ttlMillis = 60000, refreshAfterMillis = 200)
+    public Map<String, Object> scan(final @JsonRpcRequestObjectParameter("district") String district,
+                                    final @JsonRpcRequestObjectParameter("floors") List<Integer> floors) {
+        return Map.of("district", district, "floors", floors, "scan", scans.incrementAndGet());
+    }
+
+    /**
+     * 'Sniff' slow JSON-RPC method with coalesced calls
+     */
+    @JsonRpcMethod(coalesceCalls = true)
+    public String sniff(final @JsonRpcRequestObjectParameter("scent") String scent) throws InterruptedException {
+        sniffs.incrementAndGet();
+        Thread.sleep(300);
+        return scent + " found";
+    }
+
+    /**
+     * 'Escape' JSON-RPC method failing with domain exceptions
+     */
+    @JsonRpcMethod
+    public String escape(final @JsonRpcRequestObjectParameter("way") String way) throws EscapedException {
+        switch (way) {
+            case "vanish" -> throw new VanishedException();
+            case "stun" -> throw new StunnedException();
+            case "crash" -> throw new IllegalStateException("crashed");
+            default -> throw new EscapedException("escaped by " + way);
+        }
+    }
+
+    /**
+     * Checked domain exception mapped by annotation
+     */
+    @JsonRpcExceptionMapping(code = -32010, message = "Mr. X escaped")
+    public static class EscapedException extends Exception {
+
+        public EscapedException(final String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Domain exception mapped by its superclass annotation
+     */
+    public static class VanishedException extends EscapedException {
+
+        public VanishedException() {
+            super("vanished");
+        }
+    }
+
+    /**
+     * Domain exception mapped by a mapper bean
+     */
+    public static class StunnedException extends RuntimeException {
+    }
+}
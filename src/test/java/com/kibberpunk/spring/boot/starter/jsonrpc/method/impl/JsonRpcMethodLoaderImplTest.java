@@ -1,9 +1,17 @@
 package com.kibberpunk.spring.boot.starter.jsonrpc.method.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kibberpunk.spring.boot.starter.jsonrpc.context.TestJsonRpcAutoConfiguration;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.controller.AbstractTyrantController;
+import com.kibberpunk.spring.boot.starter.jsonrpc.controller.MrXController;
 import com.kibberpunk.spring.boot.starter.jsonrpc.controller.NemesisController;
 import com.kibberpunk.spring.boot.starter.jsonrpc.controller.T001Controller;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcMethodOverloadedException;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodBox;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodBulkhead;
 import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodLoader;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodParameter;
 import lombok.NonNull;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Triple;
@@ -12,17 +20,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.utils.Utils;
 import org.springdoc.core.utils.Constants;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
 
 import static org.apache.commons.lang3.ObjectUtils.isEmpty;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@link JsonRpcMethodLoaderImpl} test
@@ -39,11 +54,15 @@ public class JsonRpcMethodLoaderImplTest {
     private NemesisController nemesisController;
     @Autowired
     private T001Controller t001Controller;
+    @Autowired
+    private MrXController mrXController;
+    @Autowired
+    private ListableBeanFactory beanFactory;
 
     @Test
     @DisplayName("Load methods")
     public void loadMethods() {
-        assertEquals(5, ((JsonRpcMethodLoaderImpl) loader).getIndex().size());
+        assertEquals(19, ((JsonRpcMethodLoaderImpl) loader).getIndex().size());
         check("nemesisController.attack", nemesisController);
         check("nemesisController.mutate", nemesisController);
         check("nemesisController.battleExit", nemesisController);
@@ -51,6 +70,89 @@ public class JsonRpcMethodLoaderImplTest {
         check("t001Controller.attack", t001Controller);
         check("t001Controller.mutate", t001Controller);
         assertNull(check("t001Controller.sleep", t001Controller));
+        check("mrXController.stomp", mrXController);
+        check("mrXController.track", mrXController);
+        check("mrXController.chase", mrXController);
+        check("mrXController.vanish", mrXController);
+        check("mrXController.hide", mrXController);
+        check("mrXController.lurk", mrXController);
+    }
+
+    @Test
+    @DisplayName("Create methods bulkheads and timeouts")
+    public void createBulkheadsAndTimeouts() {
+        assertNull(((JsonRpcMethodBox) check("mrXController.stomp", mrXController)).getBulkhead());
+        assertNull(((JsonRpcMethodBox) check("mrXController.stomp", mrXController)).getTimeout());
+        assertEquals(Duration.ofMillis(100),
+                ((JsonRpcMethodBox) check("mrXController.lurk", mrXController)).getTimeout().getTimeout());
+        JsonRpcMethodBulkhead bulkhead = ((JsonRpcMethodBox) check("mrXController.hide", mrXController)).getBulkhead();
+        assertEquals(1, bulkhead.getMaxConcurrentCalls());
+        assertEquals(0, bulkhead.getMaxWaitingCalls());
+
+        JsonRpcConfigurationProperties.MethodOptions options = new JsonRpcConfigurationProperties.MethodOptions();
+        options.setMaxConcurrentCalls(2);
+        options.setMaxWaitingCalls(1);
+        options.setMaxWait(Duration.ofMillis(10));
+        options.setTimeout(Duration.ofSeconds(1));
+        JsonRpcConfigurationProperties properties = new JsonRpcConfigurationProperties();
+        properties.getMethods().put("mrXController.stomp", options);
+        JsonRpcMethodLoaderImpl configured = new JsonRpcMethodLoaderImpl(new JsonRpcControllerDotMethodNameResolver(),
+                beanFactory, new ObjectMapper(), DefaultConversionService.getSharedInstance(), properties);
+        assertEquals(Duration.ofSeconds(1),
+                ((JsonRpcMethodBox) configured.get("mrXController.stomp")).getTimeout().getTimeout());
+        bulkhead = ((JsonRpcMethodBox) configured.get("mrXController.stomp")).getBulkhead();
+        assertEquals(2, bulkhead.getMaxConcurrentCalls());
+
+        bulkhead.acquire();
+        bulkhead.acquire();
+        assertEquals(2, bulkhead.getConcurrentCalls());
+        // the waiting call is rejected when its time is over
+        assertThrows(JsonRpcMethodOverloadedException.class, bulkhead::acquire);
+        assertEquals(0, bulkhead.getWaitingCalls());
+        bulkhead.release();
+        bulkhead.acquire();
+        bulkhead.release();
+        bulkhead.release();
+        assertEquals(0, bulkhead.getConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("Compile parameters binding plans")
+    public void compileParametersBindingPlans() {
+        List<MethodParameter> parameters = check("nemesisController.attack", nemesisController).getRight();
+        assertThat(parameters).allMatch(JsonRpcMethodParameter.class::isInstance);
+
+        JsonRpcMethodParameter requiredUUIDRequestId = (JsonRpcMethodParameter) parameters.get(0);
+        assertEquals(JsonRpcMethodParameter.Source.ID, requiredUUIDRequestId.getSource());
+        assertTrue(requiredUUIDRequestId.isRequired());
+        assertTrue(requiredUUIDRequestId.isSimple());
+        assertTrue(requiredUUIDRequestId.isConvertible());
+
+        JsonRpcMethodParameter intRequestId = (JsonRpcMethodParameter) parameters.get(3);
+        assertFalse(intRequestId.isRequired());
+        assertEquals(0, intRequestId.getDefaultValue());
+
+        JsonRpcMethodParameter requestFullObject = (JsonRpcMethodParameter) parameters.get(15);
+        assertEquals(JsonRpcMethodParameter.Source.REQUEST_OBJECT, requestFullObject.getSource());
+        assertFalse(requestFullObject.isSimple());
+
+        JsonRpcMethodParameter message = (JsonRpcMethodParameter) parameters.get(19);
+        assertEquals(JsonRpcMethodParameter.Source.REQUEST_OBJECT_PARAMETER, message.getSource());
+        assertEquals("message", message.getName());
+
+        assertEquals(JsonRpcMethodParameter.Source.NONE, ((JsonRpcMethodParameter) parameters.get(12)).getSource());
+        assertEquals(JsonRpcMethodParameter.Source.PRINCIPAL, ((JsonRpcMethodParameter) parameters.get(30)).getSource());
+        assertEquals(JsonRpcMethodParameter.Source.HTTP_SERVLET_REQUEST,
+                ((JsonRpcMethodParameter) parameters.get(31)).getSource());
+
+        parameters = check("mrXController.track", mrXController).getRight();
+        JsonRpcMethodParameter targets = (JsonRpcMethodParameter) parameters.get(0);
+        assertEquals(AbstractTyrantController.Request.class, targets.getJavaType().getContentType().getRawClass());
+        JsonRpcMethodParameter routes = (JsonRpcMethodParameter) parameters.get(1);
+        assertEquals(String.class, routes.getJavaType().getKeyType().getRawClass());
+        assertEquals(AbstractTyrantController.Request.Parameter.class,
+                routes.getJavaType().getContentType().getRawClass());
+        assertEquals(routes.getJavaType(), routes.getReader().getValueType());
     }
 
     private Triple<Method, Object, List<MethodParameter>> check(
@@ -0,0 +1,155 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.reactive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.JsonRpcWebFluxAutoConfiguration;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.TestJsonRpcAutoConfiguration;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.controller.MrXController;
+import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpcError;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcServiceListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link JsonRpcWebFluxHandler} test
+ *
+ * @author kibberpunk
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = TestJsonRpcAutoConfiguration.class)
+public class JsonRpcWebFluxHandlerTest {
+
+    @Autowired
+    private JsonRpcService service;
+    @Autowired
+    private JsonRpcConfigurationProperties properties;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MrXController mrXController;
+
+    @Test
+    @DisplayName("Call methods through WebFlux")
+    public void call() throws Exception {
+        WebTestClient client = client(properties);
+
+        // a reactive method is invoked in the request thread
+        JsonNode trail = post(client, """
+                {"id" : 1, "method" : "mrXController.trail", "params" : {"steps" : 2}, "jsonrpc" : "2.0"}""");
+        assertEquals(2, trail.get("result").size());
+        assertTrue(trail.get("result").get(0).asText().startsWith("1 "));
+        assertFalse(trail.get("result").get(1).asText().contains("boundedElastic"));
+
+        // a blocking method is executed by the bounded elastic scheduler
+        JsonNode stalk = post(client, """
+                {"id" : 2, "method" : "mrXController.stalk", "jsonrpc" : "2.0"}""");
+        assertTrue(stalk.get("result").asText().startsWith("boundedElastic"));
+
+        JsonNode vanish = post(client, """
+                {"id" : 3, "method" : "mrXController.vanish", "params" : {"fail" : false}, "jsonrpc" : "2.0"}""");
+        assertEquals("vanished", vanish.get("result").asText());
+
+        JsonNode unknown = post(client, """
+                [{"id" : 4, "method" : "mrXController.unknown", "jsonrpc" : "2.0"},
+                 {"method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}]""");
+        assertEquals(1, unknown.size());
+        assertEquals(JsonRpcError.Code.METHOD_NOT_FOUND.getCode(), unknown.get(0).get("error").get("code").asInt());
+
+        client.post().uri(properties.getConsumer().getPath())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}""")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    @Test
+    @DisplayName("Execute notification on the blocking scheduler")
+    public void callNotification() {
+        ThreadPoolExecutor blocking = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        try {
+            JsonRpcWebFluxHandler handler = new JsonRpcWebFluxHandler(service, properties,
+                    Schedulers.fromExecutorService(blocking), JsonRpcServiceListener.NONE);
+            WebTestClient client = WebTestClient.bindToRouterFunction(
+                    new JsonRpcWebFluxAutoConfiguration().jsonRpcRouterFunction(handler, properties)).build();
+            int steps = mrXController.getSteps().get();
+
+            client.post().uri(properties.getConsumer().getPath())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("""
+                            {"method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}""")
+                    .exchange()
+                    .expectStatus().isNoContent();
+            // the notification is executed by the blocking scheduler, not by the request thread
+            await().atMost(5, TimeUnit.SECONDS).until(() -> blocking.getCompletedTaskCount() == 1);
+            assertEquals(steps + 1, mrXController.getSteps().get());
+        } finally {
+            blocking.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Pass the transport request without a servlet request")
+    public void callWithTransportRequest() throws Exception {
+        byte[] response = client(properties).post().uri(properties.getConsumer().getPath())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Peek", "seen")
+                .bodyValue("""
+                        {"id" : 1, "method" : "mrXController.peek", "jsonrpc" : "2.0"}""")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult().getResponseBody();
+        assertEquals("seen false", objectMapper.readTree(response).get("result").asText());
+    }
+
+    @Test
+    @DisplayName("Reject request body over the limit")
+    public void rejectLargeBody() {
+        JsonRpcConfigurationProperties limited = new JsonRpcConfigurationProperties();
+        limited.setConsumer(new JsonRpcConfigurationProperties.Consumer());
+        limited.getConsumer().getWebflux().setMaxRequestSize(16);
+
+        client(limited).post().uri(limited.getConsumer().getPath())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"id" : 1, "method" : "mrXController.stalk", "jsonrpc" : "2.0"}""")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    private WebTestClient client(final JsonRpcConfigurationProperties configuration) {
+        JsonRpcWebFluxHandler handler = new JsonRpcWebFluxHandler(service, configuration,
+                Schedulers.boundedElastic(), JsonRpcServiceListener.NONE);
+        return WebTestClient.bindToRouterFunction(
+                new JsonRpcWebFluxAutoConfiguration().jsonRpcRouterFunction(handler, configuration)).build();
+    }
+
+    private JsonNode post(final WebTestClient client, final String body) throws Exception {
+        byte[] response = client.post().uri(properties.getConsumer().getPath())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult().getResponseBody();
+        return objectMapper.readTree(response);
+    }
+}
@@ -0,0 +1,59 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.rest.impl;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.TestJsonRpcAutoConfiguration;
+import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Response;
+import com.kibberpunk.spring.boot.starter.jsonrpc.rest.JsonRpcResponseWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link JsonRpcResponseWriterImpl} test
+ *
+ * @author kibberpunk
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = TestJsonRpcAutoConfiguration.class)
+public class JsonRpcResponseWriterImplTest {
+
+    @Autowired
+    private JsonRpcResponseWriter responseWriter;
+
+    @Test
+    @DisplayName("Write response")
+    public void writeResponse() throws IOException {
+        MockHttpServletResponse httpServletResponse = new MockHttpServletResponse();
+        long bytes = responseWriter.write(JsonRpc20Response.builder()
+                .id(TextNode.valueOf("123"))
+                .result("xflvhdgdddd").build(), httpServletResponse);
+        assertEquals(200, httpServletResponse.getStatus());
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, httpServletResponse.getContentType());
+        assertEquals("""
+                {
+                  "id" : "123",
+                  "result" : "xflvhdgdddd",
+                  "error" : null,
+                  "jsonrpc" : "2.0"
+                }""", httpServletResponse.getContentAsString());
+        assertEquals(httpServletResponse.getContentAsByteArray().length, bytes);
+    }
+
+    @Test
+    @DisplayName("Write empty response")
+    public void writeEmptyResponse() throws IOException {
+        MockHttpServletResponse httpServletResponse = new MockHttpServletResponse();
+        assertEquals(0, responseWriter.write(null, httpServletResponse));
+        assertEquals(204, httpServletResponse.getStatus());
+        assertEquals("", httpServletResponse.getContentAsString());
+    }
+}
@@ -1,25 +1,88 @@
 package com.kibberpunk.spring.boot.starter.jsonrpc.service.impl;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.kibberpunk.spring.boot.starter.jsonrpc.context.TestJsonRpcAutoConfiguration;
 import com.kibberpunk.spring.boot.starter.jsonrpc.controller.AbstractTyrantController;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.controller.MrXController;
+import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Request;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Response;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpcError;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpc20DefaultExceptionHandler;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcExceptionMapperRegistry;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcMethodNotFoundException;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcParseMethodParameterException;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcRequestTimeoutException;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodBox;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodBulkhead;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodCache;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodFlights;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodLoader;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodProvider;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodTimeout;
+import com.kibberpunk.spring.boot.starter.jsonrpc.metrics.JsonRpcCallObservations;
+import com.kibberpunk.spring.boot.starter.jsonrpc.metrics.JsonRpcMethodMeterBinder;
+import com.kibberpunk.spring.boot.starter.jsonrpc.rest.impl.JsonRpcServletTransportRequestImpl;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcProtocolSupport;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcServiceListener;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.mock.web.MockMultipartHttpServletRequest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@link JsonRpc20ProtocolService} test
@@ -34,6 +97,16 @@ public class JsonRpc20ProtocolServiceTest {
     private JsonRpcService processor;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private MrXController mrXController;
+    @Autowired
+    private JsonRpcProtocolSupport<JsonRpc20Request, JsonRpc20Response, JsonRpc20RequestContext> support;
+    @Autowired
+    private JsonRpcMethodProvider methodProvider;
+    @Autowired
+    private JsonRpcMethodLoader methodLoader;
+    @Autowired
+    private JsonRpcExceptionMapperRegistry mapperRegistry;
 
     @Test
     @DisplayName("Call with invalid json")
@@ -55,7 +128,7 @@ public class JsonRpc20ProtocolServiceTest {
                   },
                   "jsonrpc" : "2.0"
                 }""";
-        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, new MockMultipartHttpServletRequest());
+        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, request());
         assertNotNull(response);
         assertNotNull(response.getError());
         assertEquals(JsonRpcError.Code.PARSE_ERROR.getCode(), response.getError().getCode());
@@ -67,7 +140,7 @@ public class JsonRpc20ProtocolServiceTest {
     public void callWithEmptyJson() {
         String body = """
                 {}""";
-        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, new MockMultipartHttpServletRequest());
+        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, request());
         assertNotNull(response);
         assertNotNull(response.getError());
         assertEquals(JsonRpcError.Code.INVALID_REQUEST.getCode(), response.getError().getCode());
@@ -79,6 +152,7 @@ public class JsonRpc20ProtocolServiceTest {
     public void callWithEmptyRequestId() {
         String body = """
                 {
+                  "id" : null,
                   "method" : "nemesisController.battleExit",
                   "params" : {
                     "message" : "xflvhdgdddd",
@@ -93,7 +167,7 @@ public class JsonRpc20ProtocolServiceTest {
                   },
                   "jsonrpc" : "2.0"
                 }""";
-        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, new MockMultipartHttpServletRequest());
+        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, request());
         assertNotNull(response);
         assertNotNull(response.getError());
         assertEquals(JsonRpcError.Code.REQUEST_ID_IS_EMPTY.getCode(), response.getError().getCode());
@@ -120,13 +194,47 @@ public class JsonRpc20ProtocolServiceTest {
                   },
                   "jsonrpc" : "2.0"
                 }""";
-        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, new MockMultipartHttpServletRequest());
+        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, request());
         assertNotNull(response);
         assertNotNull(response.getError());
         assertEquals(JsonRpcError.Code.METHOD_NOT_FOUND.getCode(), response.getError().getCode());
         assertEquals(JsonRpcError.Code.METHOD_NOT_FOUND.getMessage(), response.getError().getMessage());
     }
 
+    @Test
+    @DisplayName("Call without method or with blank method")
+    public void callWithoutMethod() {
+        for (String body : List.of("""
+                {"jsonrpc" : "2.0", "id" : 1}""", """
+                {"jsonrpc" : "2.0", "id" : 1, "method" : "  "}""")) {
+            JsonRpc20Response response =
+                    (JsonRpc20Response) processor.process(body, request());
+            assertNotNull(response);
+            assertEquals(1, response.getId().asInt());
+            assertEquals(JsonRpcError.Code.METHOD_NOT_FOUND.getCode(), response.getError().getCode());
+        }
+    }
+
+    @Test
+    @DisplayName("Call batch with element without method")
+    @SuppressWarnings("unchecked")
+    public void callBatchWithoutMethod() {
+        String body = """
+                [
+                  {"jsonrpc" : "2.0", "id" : 1},
+                  {"jsonrpc" : "2.0", "id" : 2, "method" : "nope"},
+                  {"jsonrpc" : "2.0", "id" : 3, "method" : ""}
+                ]""";
+        List<JsonRpc20Response> responses =
+                (List<JsonRpc20Response>) completed(processor.process(body, request()));
+        assertNotNull(responses);
+        assertEquals(3, responses.size());
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals(i + 1, responses.get(i).getId().asInt());
+            assertEquals(JsonRpcError.Code.METHOD_NOT_FOUND.getCode(), responses.get(i).getError().getCode());
+        }
+    }
+
     @Test
     @DisplayName("Call with non matched by type parameter")
     public void callWithInvalidParameter() {
@@ -147,7 +255,7 @@ public class JsonRpc20ProtocolServiceTest {
                   },
                   "jsonrpc" : "2.0"
                 }""";
-        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, new MockMultipartHttpServletRequest());
+        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, request());
         assertNotNull(response);
         assertNull(response.getError());
     }
@@ -172,7 +280,7 @@ public class JsonRpc20ProtocolServiceTest {
                   },
                   "jsonrpc" : "2.0"
                 }""";
-        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, new MockMultipartHttpServletRequest());
+        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, request());
         assertNotNull(response);
         assertNull(response.getResult());
         assertNull(response.getError());
@@ -199,7 +307,7 @@ public class JsonRpc20ProtocolServiceTest {
                   },
                   "jsonrpc" : "2.0"
                 }""";
-        JsonRpc20Response jsonRpc20Response = (JsonRpc20Response) processor.process(body, new MockMultipartHttpServletRequest());
+        JsonRpc20Response jsonRpc20Response = (JsonRpc20Response) processor.process(body, request());
         assertNotNull(jsonRpc20Response);
         assertNull(jsonRpc20Response.getError());
         assertNotNull(jsonRpc20Response.getResult());
@@ -244,4 +352,842 @@ public class JsonRpc20ProtocolServiceTest {
         assertNull(response.getUuidRequestObjectParameterIgnored());
         assertNull(response.getIRequestObjectParameterIgnored());
     }
+
+    @Test
+    @DisplayName("Call with binary body")
+    public void callWithBinaryBody() {
+        byte[] body = """
+                {
+                  "id" : "68998eaf-dee3-4652-90fe-776a397ed1ab",
+                  "method" : "nemesisController.battleExit",
+                  "params" : {
+                    "message" : "xflvhdgdddd"
+                  },
+                  "jsonrpc" : "2.0"
+                }""".getBytes(StandardCharsets.UTF_8);
+        List.of(
+                processor.process(body, request()),
+                processor.process(new ByteArrayInputStream(body), request()),
+                processor.process(ByteBuffer.wrap(body), request())
+        ).forEach(result -> {
+            JsonRpc20Response response = (JsonRpc20Response) result;
+            assertNotNull(response);
+            assertNull(response.getError());
+            assertEquals("68998eaf-dee3-4652-90fe-776a397ed1ab", response.getId().asText());
+            assertEquals("xflvhdgdddd", ((AbstractTyrantController.Request.Response) response.getResult())
+                    .getMessageRequestObjectParameter());
+        });
+    }
+
+    @Test
+    @DisplayName("Log truncated binary and stream bodies")
+    public void logBinaryBody() {
+        JsonRpcConfigurationProperties properties = new JsonRpcConfigurationProperties();
+        properties.getErrorLog().setMaxBodyLength(16);
+        JsonRpcService service = new JsonRpc20ProtocolService(support, methodProvider,
+                new JsonRpcExecutors(properties), properties);
+        byte[] body = """
+                {"id" : 7, "method" : "mrXController.unknown", "jsonrpc" : "2.0"}""".getBytes(StandardCharsets.UTF_8);
+
+        Logger logger = (Logger) LoggerFactory.getLogger(JsonRpcErrorLog.class);
+        Level level = logger.getLevel();
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.WARN);
+        try {
+            service.process(body, request());
+            service.process(new ByteArrayInputStream(body), request());
+            service.process(ByteBuffer.wrap(body), request());
+        } finally {
+            logger.setLevel(level);
+            logger.detachAppender(appender);
+        }
+        assertEquals(3, appender.list.size());
+        appender.list.forEach(event -> assertThat(event.getFormattedMessage())
+                .endsWith("request: {\"id\" : 7, \"meth...(" + body.length + " bytes)"));
+    }
+
+    @Test
+    @DisplayName("Call batch")
+    @SuppressWarnings("unchecked")
+    public void callBatch() {
+        String body = """
+                [
+                  {
+                    "id" : "1",
+                    "method" : "nemesisController.mutate",
+                    "jsonrpc" : "2.0"
+                  },
+                  {
+                    "id" : "2",
+                    "method" : "method123",
+                    "jsonrpc" : "2.0"
+                  },
+                  1,
+                  {
+                    "id" : "68998eaf-dee3-4652-90fe-776a397ed1ab",
+                    "method" : "nemesisController.battleExit",
+                    "params" : {
+                      "message" : "xflvhdgdddd"
+                    },
+                    "jsonrpc" : "2.0"
+                  }
+                ]""";
+        List<JsonRpc20Response> responses =
+                (List<JsonRpc20Response>) completed(processor.process(body, request()));
+        assertNotNull(responses);
+        assertEquals(4, responses.size());
+
+        assertEquals("1", responses.get(0).getId().asText());
+        assertNull(responses.get(0).getError());
+
+        assertEquals("2", responses.get(1).getId().asText());
+        assertEquals(JsonRpcError.Code.METHOD_NOT_FOUND.getCode(), responses.get(1).getError().getCode());
+
+        assertTrue(responses.get(2).getId().isNull());
+        assertEquals(JsonRpcError.Code.INVALID_REQUEST.getCode(), responses.get(2).getError().getCode());
+
+        assertEquals("68998eaf-dee3-4652-90fe-776a397ed1ab", responses.get(3).getId().asText());
+        assertNull(responses.get(3).getError());
+        assertEquals("xflvhdgdddd", ((AbstractTyrantController.Request.Response) responses.get(3).getResult())
+                .getMessageRequestObjectParameter());
+    }
+
+    @Test
+    @DisplayName("Call batch keeps request order")
+    @SuppressWarnings("unchecked")
+    public void callBatchKeepsRequestOrder() {
+        String body = IntStream.range(0, 50)
+                .mapToObj(i -> "{\"id\" : " + i + ", \"method\" : \"nemesisController.mutate\", \"jsonrpc\" : \"2.0\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        List<JsonRpc20Response> responses =
+                (List<JsonRpc20Response>) completed(processor.process(body, request()));
+        assertEquals(50, responses.size());
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals(i, responses.get(i).getId().asInt());
+            assertNull(responses.get(i).getError());
+        }
+    }
+
+    @Test
+    @DisplayName("Call batch with busy batch executor")
+    @SuppressWarnings("unchecked")
+    public void callBatchWithBusyExecutor() throws InterruptedException {
+        ExecutorService batch = Executors.newSingleThreadExecutor();
+        CountDownLatch busy = new CountDownLatch(1);
+        batch.execute(() -> {
+            try {
+                busy.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        JsonRpcConfigurationProperties properties = new JsonRpcConfigurationProperties();
+        JsonRpcService service = new JsonRpc20ProtocolService(support, methodProvider,
+                new JsonRpcExecutors(batch, batch), properties);
+        try {
+            String body = IntStream.range(0, 3)
+                    .mapToObj(i -> "{\"id\" : " + i + ", \"method\" : \"nemesisController.mutate\"}")
+                    .collect(Collectors.joining(",", "[", "]"));
+            // the workers are queued behind the busy task, the request thread completes the batch without them
+            List<JsonRpc20Response> responses = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> (List<JsonRpc20Response>) service.process(body, request()));
+            assertEquals(3, responses.size());
+        } finally {
+            busy.countDown();
+            batch.shutdown();
+        }
+        assertTrue(batch.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Call with empty batch")
+    public void callWithEmptyBatch() {
+        JsonRpc20Response response = (JsonRpc20Response) processor.process(" [ ]", request());
+        assertNotNull(response);
+        assertNotNull(response.getError());
+        assertEquals(JsonRpcError.Code.INVALID_REQUEST.getCode(), response.getError().getCode());
+    }
+
+    @Test
+    @DisplayName("Call batch with invalid element member")
+    @SuppressWarnings("unchecked")
+    public void callBatchWithInvalidElementMember() {
+        String body = """
+                [
+                  {
+                    "id" : "1",
+                    "method" : {
+                      "name" : "nemesisController.mutate"
+                    },
+                    "unknown" : [1, {"a" : 2}],
+                    "jsonrpc" : "2.0"
+                  },
+                  {
+                    "id" : "2",
+                    "unknown" : [1, {"a" : 2}],
+                    "method" : "nemesisController.mutate",
+                    "jsonrpc" : "2.0"
+                  }
+                ]""";
+        List<JsonRpc20Response> responses =
+                (List<JsonRpc20Response>) completed(processor.process(body, request()));
+        assertNotNull(responses);
+        assertEquals(2, responses.size());
+
+        assertEquals(JsonRpcError.Code.PARSE_ERROR.getCode(), responses.get(0).getError().getCode());
+
+        assertEquals("2", responses.get(1).getId().asText());
+        assertNull(responses.get(1).getError());
+    }
+
+    @Test
+    @DisplayName("Call with too large batch")
+    public void callWithTooLargeBatch() {
+        String body = IntStream.range(0, 101)
+                .mapToObj(i -> "{\"id\" : " + i + ", \"method\" : \"nemesisController.mutate\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, request());
+        assertNotNull(response);
+        assertNotNull(response.getError());
+        assertTrue(response.getId().isNull());
+        assertEquals(JsonRpcError.Code.INVALID_REQUEST.getCode(), response.getError().getCode());
+    }
+
+    @Test
+    @DisplayName("Call with generic parameters")
+    public void callWithGenericParameters() {
+        String body = """
+                {
+                  "id" : 1,
+                  "method" : "mrXController.track",
+                  "params" : {
+                    "targets" : [{"d" : 1.5}, {"d" : 2.5}],
+                    "routes" : {"home" : {"d" : 2.0}}
+                  },
+                  "jsonrpc" : "2.0"
+                }""";
+        JsonRpc20Response response = (JsonRpc20Response) processor.process(body, request());
+        assertNotNull(response);
+        assertNull(response.getError());
+        assertEquals(3.5, response.getResult());
+    }
+
+    @Test
+    @DisplayName("Call asynchronous methods")
+    public void callAsynchronousMethods() {
+        int steps = mrXController.getSteps().get();
+        Object response = processor.process("""
+                {"id" : 1, "method" : "mrXController.chase", "params" : {"steps" : 2}, "jsonrpc" : "2.0"}""",
+                request());
+        assertThat(response).isInstanceOf(CompletableFuture.class);
+        JsonRpc20Response completed = (JsonRpc20Response) ((CompletableFuture<?>) response).join();
+        assertNull(completed.getError());
+        assertEquals(steps + 2, completed.getResult());
+
+        response = processor.process("""
+                {"id" : 2, "method" : "mrXController.vanish", "params" : {"fail" : false}, "jsonrpc" : "2.0"}""",
+                request());
+        completed = (JsonRpc20Response) ((CompletableFuture<?>) response).join();
+        assertEquals("vanished", completed.getResult());
+
+        response = processor.process("""
+                {"id" : 3, "method" : "mrXController.vanish", "params" : {"fail" : true}, "jsonrpc" : "2.0"}""",
+                request());
+        // an already failed result is responded in place
+        assertThat(response).isInstanceOf(JsonRpc20Response.class);
+        completed = (JsonRpc20Response) response;
+        assertNull(completed.getResult());
+        assertEquals(3, completed.getId().asInt());
+        assertEquals(JsonRpcError.Code.INTERNAL_ERROR.getCode(), completed.getError().getCode());
+    }
+
+    @Test
+    @DisplayName("Expire pending asynchronous response")
+    public void expirePendingResponse() throws InterruptedException {
+        int steps = mrXController.getSteps().get();
+        Object response = processor.process("""
+                {"id" : 3, "method" : "mrXController.chase", "params" : {"steps" : 2}, "jsonrpc" : "2.0"}""",
+                request());
+        assertThat(response).isInstanceOf(CompletableFuture.class);
+        CompletableFuture<?> pending = (CompletableFuture<?>) response;
+        assertTrue(processor.expire(pending, new JsonRpcRequestTimeoutException()));
+        assertFalse(processor.expire(pending, new JsonRpcRequestTimeoutException()));
+
+        JsonRpc20Response expired = (JsonRpc20Response) pending.join();
+        assertEquals(3, expired.getId().asInt());
+        assertEquals(JsonRpcError.Code.METHOD_TIMEOUT.getCode(), expired.getError().getCode());
+        // the pending method result is cancelled, the steps are never chased
+        Thread.sleep(200);
+        assertEquals(steps, mrXController.getSteps().get());
+    }
+
+    @Test
+    @DisplayName("Call batch with asynchronous methods")
+    @SuppressWarnings("unchecked")
+    public void callBatchWithAsynchronousMethods() {
+        String body = """
+                [
+                  {"id" : 1, "method" : "mrXController.vanish", "params" : {"fail" : false}, "jsonrpc" : "2.0"},
+                  {"id" : 2, "method" : "nemesisController.mutate", "jsonrpc" : "2.0"},
+                  {"id" : 3, "method" : "mrXController.chase", "params" : {"steps" : 1}, "jsonrpc" : "2.0"},
+                  {"method" : "mrXController.chase", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}
+                ]""";
+        Object response = processor.process(body, request());
+        assertThat(response).isInstanceOf(CompletableFuture.class);
+        List<JsonRpc20Response> responses = (List<JsonRpc20Response>) ((CompletableFuture<?>) response).join();
+        assertEquals(3, responses.size());
+        assertEquals(1, responses.get(0).getId().asInt());
+        assertEquals("vanished", responses.get(0).getResult());
+        assertEquals(2, responses.get(1).getId().asInt());
+        assertEquals(3, responses.get(2).getId().asInt());
+        assertNull(responses.get(2).getError());
+    }
+
+    @Test
+    @DisplayName("Call notification")
+    public void callNotification() {
+        int steps = mrXController.getSteps().get();
+        String body = """
+                {
+                  "method" : "mrXController.stomp",
+                  "params" : {
+                    "steps" : 3
+                  },
+                  "jsonrpc" : "2.0"
+                }""";
+        assertNull(processor.process(body, request()));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> mrXController.getSteps().get() == steps + 3);
+    }
+
+    @Test
+    @DisplayName("Call notification on the blocking executor of a non-blocking transport")
+    public void callNotificationOnBlockingExecutor() {
+        ThreadPoolExecutor notification = new ThreadPoolExecutor(
+                1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        ThreadPoolExecutor blocking = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        JsonRpcExecutors executors = new JsonRpcExecutors(Executors.newSingleThreadExecutor(), notification);
+        JsonRpcTransportRequest request = request();
+        request.setAttribute(JsonRpcService.BLOCKING_EXECUTOR_ATTRIBUTE, blocking);
+        String body = """
+                {"method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}""";
+        int steps = mrXController.getSteps().get();
+
+        // not in the request thread: the response waits for the blocking executor
+        JsonRpcConfigurationProperties properties = new JsonRpcConfigurationProperties();
+        properties.getNotification().setAsync(false);
+        JsonRpcService service = new JsonRpc20ProtocolService(support, methodProvider, executors, properties);
+        assertNull(completed(service.process(body, request)));
+        assertEquals(steps + 1, mrXController.getSteps().get());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> blocking.getCompletedTaskCount() == 1);
+
+        // not by the notification executor, its overflow policy could run it in the request thread
+        properties.getNotification().setAsync(true);
+        service = new JsonRpc20ProtocolService(support, methodProvider, executors, properties);
+        assertNull(service.process(body, request));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> blocking.getCompletedTaskCount() == 2);
+        assertEquals(steps + 2, mrXController.getSteps().get());
+        assertEquals(0, notification.getTaskCount());
+        executors.getBatch().shutdown();
+        notification.shutdown();
+        blocking.shutdown();
+    }
+
+    @Test
+    @DisplayName("Call with transport request and servlet request parameters")
+    public void callWithTransportRequest() {
+        MockMultipartHttpServletRequest httpServletRequest = new MockMultipartHttpServletRequest();
+        httpServletRequest.addHeader("X-Peek", "seen");
+        JsonRpc20Response response = (JsonRpc20Response) processor.process("""
+                {"id" : 1, "method" : "mrXController.peek", "jsonrpc" : "2.0"}""",
+                new JsonRpcServletTransportRequestImpl(httpServletRequest));
+        assertEquals("seen true", response.getResult());
+    }
+
+    @Test
+    @DisplayName("Call with null id")
+    @SuppressWarnings("unchecked")
+    public void callWithNullId() {
+        int steps = mrXController.getSteps().get();
+        JsonRpc20Response response = (JsonRpc20Response) processor.process("""
+                {"id" : null, "method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}""",
+                request());
+        // "id": null is a request, not a notification
+        assertNotNull(response);
+        assertTrue(response.getId().isNull());
+        assertEquals(steps + 1, response.getResult());
+
+        List<JsonRpc20Response> responses = (List<JsonRpc20Response>) completed(processor.process("""
+                [
+                  {"id" : null, "method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"},
+                  {"method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}
+                ]""", request()));
+        assertEquals(1, responses.size());
+        assertTrue(responses.get(0).getId().isNull());
+        assertNull(responses.get(0).getError());
+    }
+
+    @Test
+    @DisplayName("Call notification with error")
+    public void callNotificationWithError() {
+        String body = """
+                {
+                  "method" : "method123",
+                  "jsonrpc" : "2.0"
+                }""";
+        assertNull(processor.process(body, request()));
+    }
+
+    @Test
+    @DisplayName("Call batch with notifications")
+    @SuppressWarnings("unchecked")
+    public void callBatchWithNotifications() {
+        int steps = mrXController.getSteps().get();
+        String body = """
+                [
+                  {"method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"},
+                  {"id" : 7, "method" : "nemesisController.mutate", "jsonrpc" : "2.0"},
+                  {"method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}
+                ]""";
+        List<JsonRpc20Response> responses =
+                (List<JsonRpc20Response>) completed(processor.process(body, request()));
+        assertEquals(1, responses.size());
+        assertEquals(7, responses.get(0).getId().asInt());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> mrXController.getSteps().get() == steps + 2);
+
+        body = """
+                [
+                  {"method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"},
+                  {"method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}
+                ]""";
+        assertNull(completed(processor.process(body, request())));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> mrXController.getSteps().get() == steps + 4);
+    }
+
+    @Test
+    @DisplayName("Call methods in the virtual threads execution mode")
+    @SuppressWarnings("unchecked")
+    public void callOnVirtualThreads() {
+        JsonRpcConfigurationProperties properties = new JsonRpcConfigurationProperties();
+        properties.setExecution(JsonRpcConfigurationProperties.Execution.VIRTUAL_THREADS);
+
+        // a thread per task pool stands in for the virtual threads on older runtimes
+        ThreadPoolExecutor virtual = new ThreadPoolExecutor(
+                0, Integer.MAX_VALUE, 1, TimeUnit.SECONDS, new SynchronousQueue<>());
+        JsonRpcExecutors executors = new JsonRpcExecutors(
+                Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor(), virtual);
+        JsonRpcService service = new JsonRpc20ProtocolService(support, methodProvider, executors, properties);
+        int steps = mrXController.getSteps().get();
+
+        Object response = service.process("""
+                {"id" : 1, "method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}""",
+                request());
+        JsonRpc20Response completed = (JsonRpc20Response) completed(response);
+        assertNull(completed.getError());
+        assertEquals(steps + 1, completed.getResult());
+
+        response = service.process("""
+                [
+                  {"id" : 2, "method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"},
+                  {"method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"},
+                  {"id" : 3, "method" : "mrXController.chase", "params" : {"steps" : 1}, "jsonrpc" : "2.0"},
+                  {"id" : 4, "method" : "mrXController.track", "params" : {"targets" : 1}, "jsonrpc" : "2.0"}
+                ]""", request());
+        List<JsonRpc20Response> responses = (List<JsonRpc20Response>) ((CompletableFuture<?>) response).join();
+        assertEquals(List.of(2, 3, 4), responses.stream().map(element -> element.getId().asInt()).toList());
+        assertNull(responses.get(1).getError());
+        // parameters are bound in the request thread, the method is not executed
+        assertEquals(JsonRpcError.Code.INVALID_PARAMS.getCode(), responses.get(2).getError().getCode());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> mrXController.getSteps().get() == steps + 4);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> virtual.getCompletedTaskCount() == 4);
+        executors.getBatch().shutdown();
+        executors.getNotification().shutdown();
+        virtual.shutdown();
+    }
+
+    @Test
+    @DisplayName("Call on Java virtual threads")
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void callOnJavaVirtualThreads() {
+        JsonRpcConfigurationProperties properties = new JsonRpcConfigurationProperties();
+        properties.setExecution(JsonRpcConfigurationProperties.Execution.VIRTUAL_THREADS);
+        JsonRpcExecutors executors = new JsonRpcExecutors(properties);
+        try {
+            assertNotNull(executors.getVirtual());
+            JsonRpcService service = new JsonRpc20ProtocolService(support, methodProvider, executors, properties);
+            JsonRpc20Response response = (JsonRpc20Response) completed(service.process("""
+                    {"id" : 1, "method" : "mrXController.slip", "params" : {"millis" : 0}, "jsonrpc" : "2.0"}""",
+                    request()));
+            assertEquals("slipped json-rpc-virtual-0", response.getResult());
+        } finally {
+            executors.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Fail virtual threads execution before Java 21")
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    public void failVirtualThreadsBeforeJava21() {
+        JsonRpcConfigurationProperties properties = new JsonRpcConfigurationProperties();
+        properties.setExecution(JsonRpcConfigurationProperties.Execution.VIRTUAL_THREADS);
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new JsonRpcExecutors(properties));
+        assertThat(exception.getMessage()).contains("Java 21");
+    }
+
+    @Test
+    @DisplayName("Call method over its bulkhead")
+    public void callOverBulkhead() {
+        JsonRpcMethodBulkhead bulkhead = ((JsonRpcMethodBox) methodProvider.get("mrXController.hide")).getBulkhead();
+        CompletableFuture<Object> hiding = CompletableFuture.supplyAsync(() -> processor.process("""
+                {"id" : 1, "method" : "mrXController.hide", "params" : {"millis" : 500}, "jsonrpc" : "2.0"}""",
+                request()));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> bulkhead.getConcurrentCalls() == 1);
+
+        JsonRpc20Response response = (JsonRpc20Response) processor.process("""
+                {"id" : 2, "method" : "mrXController.hide", "params" : {"millis" : 0}, "jsonrpc" : "2.0"}""",
+                request());
+        assertNull(response.getResult());
+        assertEquals(JsonRpcError.Code.METHOD_OVERLOADED.getCode(), response.getError().getCode());
+        assertThat(response.getError().getData().toString()).doesNotContain("\tat ");
+
+        assertEquals("hidden", ((JsonRpc20Response) hiding.join()).getResult());
+        assertEquals(0, bulkhead.getConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("Call saturated asynchronous method from non-blocking thread")
+    public void callOverBulkheadFromNonBlockingThread() {
+        JsonRpcMethodBulkhead bulkhead = ((JsonRpcMethodBox) methodProvider.get("mrXController.slip")).getBulkhead();
+        ExecutorService blocking = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "blocking"));
+        Function<Long, Object> slip = millis -> {
+            JsonRpcTransportRequest request = request();
+            request.setAttribute(JsonRpcService.BLOCKING_EXECUTOR_ATTRIBUTE, blocking);
+            return processor.process("""
+                    {"id" : 1, "method" : "mrXController.slip", "params" : {"millis" : %d}, "jsonrpc" : "2.0"}"""
+                    .formatted(millis), request);
+        };
+        try {
+            // a free permit: invoked in the request thread
+            assertEquals("slipped " + Thread.currentThread().getName(), ((JsonRpc20Response) slip.apply(0L))
+                    .getResult());
+
+            CompletableFuture<Object> slipping = CompletableFuture.supplyAsync(() -> slip.apply(500L));
+            await().atMost(5, TimeUnit.SECONDS).until(() -> bulkhead.getConcurrentCalls() == 1);
+            // saturated: the request thread does not wait for the permit, the call waits in the blocking executor
+            Object response = assertTimeoutPreemptively(Duration.ofMillis(200), () -> slip.apply(0L));
+            assertEquals("slipped blocking", ((JsonRpc20Response) ((CompletableFuture<?>) response).join())
+                    .getResult());
+            assertNull(((JsonRpc20Response) slipping.join()).getError());
+        } finally {
+            blocking.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Call method over its timeout")
+    public void callOverTimeout() {
+        JsonRpcMethodTimeout timeout = ((JsonRpcMethodBox) methodProvider.get("mrXController.lurk")).getTimeout();
+        long expirations = timeout.getExpirations();
+        JsonRpc20Response response = (JsonRpc20Response) processor.process("""
+                {"id" : 1, "method" : "mrXController.lurk", "params" : {"millis" : 0}, "jsonrpc" : "2.0"}""",
+                request());
+        assertEquals("lurked", response.getResult());
+
+        long start = System.nanoTime();
+        response = (JsonRpc20Response) processor.process("""
+                {"id" : 2, "method" : "mrXController.lurk", "params" : {"millis" : 10000}, "jsonrpc" : "2.0"}""",
+                request());
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5000);
+        assertEquals(JsonRpcError.Code.METHOD_TIMEOUT.getCode(), response.getError().getCode());
+        // the interrupt of the expired call does not leak to the request thread
+        assertFalse(Thread.currentThread().isInterrupted());
+
+        Object future = processor.process("""
+                {"id" : 3, "method" : "mrXController.lurk", "params" : {"millis" : 10000, "async" : true},
+                 "jsonrpc" : "2.0"}""", request());
+        response = (JsonRpc20Response) ((CompletableFuture<?>) future).join();
+        assertEquals(JsonRpcError.Code.METHOD_TIMEOUT.getCode(), response.getError().getCode());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> timeout.getExpirations() == expirations + 2);
+    }
+
+    @Test
+    @DisplayName("Record methods metrics")
+    public void recordMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JsonRpcMethodMeterBinder binder = new JsonRpcMethodMeterBinder(methodLoader);
+        binder.bindTo(registry);
+        JsonRpcService service = new JsonRpc20ProtocolService(support, methodProvider,
+                new JsonRpcExecutors(new JsonRpcConfigurationProperties()), new JsonRpcConfigurationProperties(),
+                binder);
+
+        service.process("""
+                {"id" : 1, "method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}""",
+                request());
+        for (String phase : List.of("parse", "bind", "invoke")) {
+            assertEquals(1, registry.get(JsonRpcMethodMeterBinder.METHOD_TIMER)
+                    .tags("method", "mrXController.stomp", "phase", phase).timer().count());
+        }
+
+        ((CompletableFuture<?>) service.process("""
+                {"id" : 2, "method" : "mrXController.chase", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}""",
+                request())).join();
+        // the asynchronous method is timed up to its completion
+        assertThat(registry.get(JsonRpcMethodMeterBinder.METHOD_TIMER)
+                .tags("method", "mrXController.chase", "phase", "invoke").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(40);
+
+        service.process("""
+                {"id" : 3, "method" : "mrXController.unknown", "jsonrpc" : "2.0"}""",
+                request());
+        service.process("""
+                {"id" : 4, "method" : "mrXController.stomp", "params" : {"steps" : "many"}, "jsonrpc" : "2.0"}""",
+                request());
+        assertEquals(1, registry.get(JsonRpcMethodMeterBinder.METHOD_ERRORS)
+                .tags("method", "unknown", "error", "METHOD_NOT_FOUND").counter().count());
+        assertEquals(1, registry.get(JsonRpcMethodMeterBinder.METHOD_ERRORS)
+                .tags("method", "mrXController.stomp", "code", "-32602").counter().count());
+        assertEquals(((JsonRpcMethodBox) methodProvider.get("mrXController.lurk")).getTimeout().getExpirations(),
+                registry.get(JsonRpcMethodMeterBinder.METHOD_TIMEOUTS)
+                .tags("method", "mrXController.lurk").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Observe calls")
+    public void observeCalls() {
+        ObservationRegistry registry = ObservationRegistry.create();
+        List<Observation.Context> observed = new CopyOnWriteArrayList<>();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+
+            @Override
+            public void onStop(Observation.Context context) {
+                observed.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        JsonRpcConfigurationProperties properties = new JsonRpcConfigurationProperties();
+        JsonRpcService service = new JsonRpc20ProtocolService(support, methodProvider,
+                new JsonRpcExecutors(properties), properties, JsonRpcServiceListener.NONE,
+                new JsonRpcCallObservations(registry));
+
+        Observation http = Observation.start("http.server.requests", registry);
+        try (Observation.Scope scope = http.openScope()) {
+            completed(service.process("""
+                    [
+                      {"id" : 1, "method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"},
+                      {"id" : "2", "method" : "mrXController.unknown", "jsonrpc" : "2.0"},
+                      {"id" : 3, "method" : "mrXController.stomp", "params" : {"steps" : "many"}, "jsonrpc" : "2.0"}
+                    ]""", request()));
+        }
+        http.stop();
+
+        Map<String, Observation.Context> calls = observed.stream()
+                .filter(context -> JsonRpcCallObservations.CALL_OBSERVATION.equals(context.getName()))
+                .collect(Collectors.toMap(context -> context.getHighCardinalityKeyValue(
+                        JsonRpcCallObservations.REQUEST_ID_KEY).getValue(), Function.identity()));
+        assertEquals(3, calls.size());
+        calls.values().forEach(context -> assertSame(http, context.getParentObservation()));
+
+        assertEquals("mrXController.stomp", calls.get("1").getContextualName());
+        assertEquals(JsonRpcCallObservations.NO_ERROR_CODE,
+                calls.get("1").getLowCardinalityKeyValue(JsonRpcCallObservations.ERROR_CODE_KEY).getValue());
+        assertNull(calls.get("1").getError());
+
+        assertEquals(JsonRpcServiceListener.UNKNOWN_METHOD, calls.get("2").getContextualName());
+        assertEquals(String.valueOf(JsonRpcError.Code.METHOD_NOT_FOUND.getCode()),
+                calls.get("2").getLowCardinalityKeyValue(JsonRpcCallObservations.ERROR_CODE_KEY).getValue());
+
+        assertEquals("mrXController.stomp",
+                calls.get("3").getLowCardinalityKeyValue(JsonRpcCallObservations.METHOD_KEY).getValue());
+        assertEquals(String.valueOf(JsonRpcError.Code.INVALID_PARAMS.getCode()),
+                calls.get("3").getLowCardinalityKeyValue(JsonRpcCallObservations.ERROR_CODE_KEY).getValue());
+        assertNotNull(calls.get("3").getError());
+    }
+
+    @Test
+    @DisplayName("Call method with cached results")
+    public void callCachedMethod() throws InterruptedException {
+        JsonRpcMethodCache cache = ((JsonRpcMethodBox) methodProvider.get("mrXController.scan")).getCache();
+        int scans = mrXController.getScans().get();
+
+        JsonRpc20Response first = (JsonRpc20Response) processor.process("""
+                {"id" : 1, "method" : "mrXController.scan", "params" : {"district" : "raccoon", "floors" : [1, 2]},
+                 "jsonrpc" : "2.0"}""", request());
+        JsonRpc20Response second = (JsonRpc20Response) processor.process("""
+                {"id" : 2, "method" : "mrXController.scan", "params" : { "floors" : [1, 2], "district" : "raccoon" },
+                 "jsonrpc" : "2.0"}""", request());
+        assertNull(second.getError());
+        // the result is cached serialized and answers the call with the same params in another form
+        assertThat(first.getResult()).isInstanceOf(RawValue.class).isEqualTo(second.getResult());
+        assertEquals(2, second.getId().asInt());
+        assertEquals(scans + 1, mrXController.getScans().get());
+        assertEquals(1, cache.getHits());
+
+        processor.process("""
+                {"id" : 3, "method" : "mrXController.scan", "params" : {"district" : "raccoon", "floors" : [2, 1]},
+                 "jsonrpc" : "2.0"}""", request());
+        assertEquals(scans + 2, mrXController.getScans().get());
+
+        assertTrue(methodProvider.evict("mrXController.scan"));
+        assertFalse(methodProvider.evict("mrXController.stomp"));
+        JsonRpc20Response evicted = (JsonRpc20Response) processor.process("""
+                {"id" : 4, "method" : "mrXController.scan", "params" : {"district" : "raccoon", "floors" : [1, 2]},
+                 "jsonrpc" : "2.0"}""", request());
+        assertEquals(scans + 3, mrXController.getScans().get());
+        assertNotEquals(first.getResult(), evicted.getResult());
+
+        // an aged result answers the call and is refreshed in background
+        Thread.sleep(250);
+        JsonRpc20Response aged = (JsonRpc20Response) processor.process("""
+                {"id" : 5, "method" : "mrXController.scan", "params" : {"district" : "raccoon", "floors" : [1, 2]},
+                 "jsonrpc" : "2.0"}""", request());
+        assertEquals(evicted.getResult(), aged.getResult());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> mrXController.getScans().get() == scans + 4);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !evicted.getResult().equals(((JsonRpc20Response) processor
+                .process("""
+                        {"id" : 6, "method" : "mrXController.scan", "params" : {"district" : "raccoon", "floors" : [1, 2]},
+                         "jsonrpc" : "2.0"}""", request())).getResult()));
+    }
+
+    @Test
+    @DisplayName("Coalesce the same calls in flight")
+    @SuppressWarnings("unchecked")
+    public void coalesceCalls() throws Exception {
+        JsonRpcMethodFlights flights = ((JsonRpcMethodBox) methodProvider.get("mrXController.sniff")).getFlights();
+        int sniffs = mrXController.getSniffs().get();
+        long coalesced = flights.getCoalesced();
+
+        ExecutorService clients = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> calls = clients.invokeAll(IntStream.range(0, 4)
+                    .mapToObj(i -> (Callable<Object>) () -> processor.process(
+                            "{\"id\" : " + i + ", \"method\" : \"mrXController.sniff\", "
+                                    + "\"params\" : {\"scent\" : \"blood\"}, \"jsonrpc\" : \"2.0\"}",
+                            request()))
+                    .toList());
+            for (int i = 0; i < calls.size(); i++) {
+                Object result = calls.get(i).get();
+                JsonRpc20Response response = (JsonRpc20Response) (result instanceof CompletableFuture<?> future
+                        ? future.join() : result);
+                assertEquals(i, response.getId().asInt());
+                assertEquals("blood found", response.getResult());
+            }
+        } finally {
+            clients.shutdown();
+        }
+        // the clients arrived within the method time, the method is executed once
+        assertEquals(sniffs + 1, mrXController.getSniffs().get());
+        assertEquals(coalesced + 3, flights.getCoalesced());
+        assertEquals(0, flights.size());
+
+        List<JsonRpc20Response> responses = (List<JsonRpc20Response>) completed(processor.process("""
+                [
+                  {"id" : 1, "method" : "mrXController.sniff", "params" : {"scent" : "blood"}, "jsonrpc" : "2.0"},
+                  {"id" : 2, "method" : "mrXController.sniff", "params" : {"scent" : "fear"}, "jsonrpc" : "2.0"},
+                  {"id" : 3, "method" : "mrXController.sniff", "params" : {"scent" : "blood"}, "jsonrpc" : "2.0"}
+                ]""", request()));
+        assertEquals(List.of("blood found", "fear found", "blood found"),
+                responses.stream().map(JsonRpc20Response::getResult).toList());
+        assertEquals(List.of(1, 2, 3), responses.stream().map(response -> response.getId().asInt()).toList());
+        assertEquals(sniffs + 3, mrXController.getSniffs().get());
+    }
+
+    @Test
+    @DisplayName("Respond errors by error detail level")
+    public void respondErrorDetails() throws JsonProcessingException {
+        // default MESSAGE detail: no stack traces, standard errors are preallocated
+        JsonRpc20Response response = (JsonRpc20Response) processor.process("{xfdgdg",
+                request());
+        assertEquals(JsonRpcError.Code.PARSE_ERROR.getCode(), response.getError().getCode());
+        assertThat(response.getError().getData().toString()).doesNotContain("\tat ");
+        JsonRpc20Response first = (JsonRpc20Response) processor.process("""
+                {"id" : 1, "method" : "mrXController.unknown", "jsonrpc" : "2.0"}""",
+                request());
+        JsonRpc20Response second = (JsonRpc20Response) processor.process("""
+                {"id" : 2, "method" : "mrXController.unknown", "jsonrpc" : "2.0"}""",
+                request());
+        assertEquals(JsonRpcError.Code.METHOD_NOT_FOUND.getCode(), first.getError().getCode());
+        assertSame(first.getError(), second.getError());
+        assertEquals(0, new JsonRpcMethodNotFoundException("unknown").getStackTrace().length);
+        // the shared errors and the responses with the null id are read-only
+        JsonRpc20Response nullId = (JsonRpc20Response) processor.process("""
+                {"id" : null, "method" : "mrXController.unknown", "jsonrpc" : "2.0"}""",
+                request());
+        assertSame(JsonRpc20Response.error(null, JsonRpcError.Code.METHOD_NOT_FOUND), nullId);
+        assertTrue(nullId.getId().isNull());
+        assertThat(objectMapper.writeValueAsString(nullId)).containsPattern("\"id\"\\s*:\\s*null");
+        assertThrows(UnsupportedOperationException.class, () -> first.getError().setData("changed"));
+        assertThrows(UnsupportedOperationException.class, () -> nullId.setId(NullNode.getInstance()));
+        assertNull(second.getError().getData());
+
+        IllegalStateException failure = new IllegalStateException("Mr. X is gone");
+        JsonRpc20RequestContext context = support.context();
+        response = new JsonRpc20DefaultExceptionHandler(JsonRpcConfigurationProperties.ErrorDetail.NONE)
+                .handle(failure, null, context, objectMapper, DefaultConversionService.getSharedInstance());
+        assertNull(response.getError().getData());
+        assertSame(JsonRpc20Response.error(null, JsonRpcError.Code.INTERNAL_ERROR), response);
+        response = new JsonRpc20DefaultExceptionHandler(JsonRpcConfigurationProperties.ErrorDetail.MESSAGE)
+                .handle(failure, null, context, objectMapper, DefaultConversionService.getSharedInstance());
+        assertEquals("Mr. X is gone", response.getError().getData());
+        response = new JsonRpc20DefaultExceptionHandler(JsonRpcConfigurationProperties.ErrorDetail.STACKTRACE)
+                .handle(new JsonRpcParseMethodParameterException(failure), null, context, objectMapper,
+                        DefaultConversionService.getSharedInstance());
+        assertEquals(JsonRpcError.Code.INVALID_PARAMS.getCode(), response.getError().getCode());
+        assertThat(response.getError().getData().toString()).contains("Mr. X is gone", "\tat ");
+    }
+
+    @Test
+    @DisplayName("Map domain exceptions to errors")
+    public void mapExceptions() {
+        Function<String, JsonRpcError> escape = way -> ((JsonRpc20Response) processor.process("""
+                {"id" : 1, "method" : "mrXController.escape", "params" : {"way" : "%s"}, "jsonrpc" : "2.0"}"""
+                .formatted(way), request())).getError();
+
+        // checked exception, thrown as UndeclaredThrowableException, mapped by annotation
+        JsonRpcError error = escape.apply("sewers");
+        assertEquals(-32010, error.getCode());
+        assertEquals("Mr. X escaped", error.getMessage());
+        assertEquals("escaped by sewers", error.getData());
+        // subclass mapped by the superclass annotation
+        error = escape.apply("vanish");
+        assertEquals(-32010, error.getCode());
+        assertEquals("vanished", error.getData());
+        // mapped by bean, the error without data is preallocated
+        error = escape.apply("stun");
+        assertEquals(-32011, error.getCode());
+        assertNull(error.getData());
+        assertSame(error, escape.apply("stun"));
+        // not mapped
+        error = escape.apply("crash");
+        assertEquals(JsonRpcError.Code.INTERNAL_ERROR.getCode(), error.getCode());
+        assertEquals("crashed", error.getData());
+
+        assertSame(mapperRegistry.mapper(MrXController.EscapedException.class),
+                mapperRegistry.mapper(MrXController.VanishedException.class));
+        assertSame(mapperRegistry.mapper(Throwable.class), mapperRegistry.mapper(IllegalStateException.class));
+    }
+
+    /**
+     * Get completed response, a batch response may be completed by the batch workers.
+     *
+     * @param response Response or its {@link CompletableFuture}
+     * @return Completed response
+     */
+    private static Object completed(Object response) {
+        return response instanceof CompletableFuture<?> future ? future.join() : response;
+    }
+
+    /**
+     * Create servlet transport request.
+     *
+     * @return {@link JsonRpcTransportRequest} of a mock {@link jakarta.servlet.http.HttpServletRequest}
+     */
+    private static JsonRpcTransportRequest request() {
+        return new JsonRpcServletTransportRequestImpl(new MockMultipartHttpServletRequest());
+    }
 }
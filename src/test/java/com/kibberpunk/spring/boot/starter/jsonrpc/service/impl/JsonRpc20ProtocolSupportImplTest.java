@@ -10,10 +10,11 @@ import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Request;
 import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpc20Response;
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcEmptyRequestBodyException;
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcMethodNotFoundException;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcParseMethodParameterException;
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcRequestIdNotFoundException;
 import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcRequestReceivingException;
 import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcProtocolSupport;
-import jakarta.servlet.http.HttpServletRequest;
+import com.kibberpunk.spring.boot.starter.jsonrpc.transport.JsonRpcTransportRequest;
 import lombok.NonNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -113,7 +114,7 @@ public class JsonRpc20ProtocolSupportImplTest {
         String body = """
                 {
                   "id" : "123",
-                  "method" : "method",
+                  "method" : "nemesisController.attack",
                   "params" : {
                     "p1" : "string",
                     "p2" : 2,
@@ -182,6 +183,37 @@ public class JsonRpc20ProtocolSupportImplTest {
         assertEquals("method123", support.methodName(context));
     }
 
+    @Test
+    @DisplayName("Resolve method while reading the request")
+    public void resolveMethodWhileReadingRequest() {
+        JsonRpc20RequestContext context = request("""
+                {
+                  "method" : "  nemesisController.mutate ",
+                  "params" : {"p1" : "string"}
+                }""");
+        assertNotNull(context.getMethod());
+        assertEquals(Utils.method("mutate", NemesisController.class), context.getMethod().getLeft());
+        assertEquals("nemesisController.mutate", context.getRequest().getMethod());
+        assertNotNull(context.getRequest().getParams());
+
+        context = request("""
+                {
+                  "method" : "nemesisController.mutateee",
+                  "params" : {"p1" : "string"}
+                }""");
+        assertNull(context.getMethod());
+        assertEquals("nemesisController.mutateee", context.getRequest().getMethod());
+        assertNull(context.getRequest().getParams());
+
+        context = request("""
+                {
+                  "params" : {"p1" : "string"},
+                  "method" : "nemesisController.mutateee"
+                }""");
+        assertNull(context.getMethod());
+        assertNotNull(context.getRequest().getParams());
+    }
+
     @Test
     @DisplayName("Get JsonRpcRequestId")
     public void getJsonRpcRequestId() {
@@ -308,7 +340,7 @@ public class JsonRpc20ProtocolSupportImplTest {
         String body = """
                 {
                   "id" : "123",
-                  "method" : "method123",
+                  "method" : "nemesisController.attack",
                   "params" : {
                     "uuid" : "68998eaf-dee3-4652-90fe-776a397ed1ab",
                     "message" : "xflvhdgdddd",
@@ -364,7 +396,7 @@ public class JsonRpc20ProtocolSupportImplTest {
         body = """
                 {
                   "id" : "123",
-                  "method" : "method123",
+                  "method" : "nemesisController.attack",
                   "params" : {},
                   "jsonrpc" : "2.0"
                 }""";
@@ -401,7 +433,7 @@ public class JsonRpc20ProtocolSupportImplTest {
         String body = """
                 {
                   "id" : "123",
-                  "method" : "method123",
+                  "method" : "nemesisController.attack",
                   "params" : {
                     "uuid" : "68998eaf-dee3-4652-90fe-776a397ed1ab",
                     "message" : "xflvhdgdddd",
@@ -452,7 +484,7 @@ public class JsonRpc20ProtocolSupportImplTest {
         body = """
                 {
                   "id" : "123",
-                  "method" : "method123",
+                  "method" : "nemesisController.attack",
                   "params" : {
                     "uuidddd" : "68998eaf-dee3-4652-90fe-776a397ed1ab",
                     "messageeeee" : "xflvhdgdddd",
@@ -488,6 +520,83 @@ public class JsonRpc20ProtocolSupportImplTest {
                 .isNull();
     }
 
+    @Test
+    @DisplayName("Get scalar parameters not matching the JSON scalar by conversion")
+    public void getScalarParametersByConversion() {
+        String body = """
+                {
+                  "id" : "5",
+                  "params" : {
+                    "i" : "42",
+                    "d" : 7,
+                    "l" : 9.5
+                  }
+                }""";
+        assertThat(parameter(3, "attack", NemesisController.class, request(body)))
+                .isInstanceOf(Integer.class)
+                .isEqualTo(5);
+        assertThat(parameter(21, "attack", NemesisController.class, request(body)))
+                .isInstanceOf(Integer.class)
+                .isEqualTo(42);
+        assertThat(parameter(23, "attack", NemesisController.class, request(body)))
+                .isInstanceOf(Double.class)
+                .isEqualTo(7.0);
+        assertThrows(JsonRpcParseMethodParameterException.class, () ->
+                parameter(25, "attack", NemesisController.class, request(body)));
+
+        assertThrows(JsonRpcParseMethodParameterException.class, () ->
+                parameter(21, "attack", NemesisController.class, request("""
+                        {
+                          "params" : {
+                            "i" : 3000000000
+                          }
+                        }""")));
+    }
+
+    @Test
+    @DisplayName("Get converted parameters from the normalized number text")
+    public void getConvertedParametersFromNumberText() {
+        // numbers are converted from their JsonNode#asText(), as before the streaming read
+        assertEquals("1.5", parameter(19, "attack", NemesisController.class, request("""
+                {
+                  "params" : {
+                    "message" : 1.50
+                  }
+                }""")));
+        assertEquals("1000.0", parameter(19, "attack", NemesisController.class, request("""
+                {
+                  "params" : {
+                    "message" : 1e3
+                  }
+                }""")));
+        assertEquals("42", parameter(19, "attack", NemesisController.class, request("""
+                {
+                  "params" : {
+                    "message" : 42
+                  }
+                }""")));
+    }
+
+    @Test
+    @DisplayName("Get parameters from the params members indexed once")
+    public void getParametersFromIndexedMembers() {
+        JsonRpc20RequestContext context = request("""
+                {
+                  "params" : {
+                    "i" : 1,
+                    "message" : "first",
+                    "d" : 2.5,
+                    "message" : "last"
+                  }
+                }""");
+        assertNull(context.getMembers());
+        assertEquals(1, parameter(21, "attack", NemesisController.class, context));
+        assertEquals(3, context.getMembers().size());
+        // a repeated member keeps its last value, as the params tree did
+        assertEquals("last", parameter(19, "attack", NemesisController.class, context));
+        assertEquals(2.5, parameter(23, "attack", NemesisController.class, context));
+    }
+
     protected MethodParameter methodParameter(int index, String method, Class<?> controllerType) {
         return new MethodParameter(Utils.method(method, controllerType), index);
     }
@@ -507,9 +616,9 @@ public class JsonRpc20ProtocolSupportImplTest {
     private JsonRpc20RequestContext context(
             final @NonNull JsonRpc20RequestContext context,
             final String body,
-            final HttpServletRequest httpServletRequest) {
+            final JsonRpcTransportRequest transportRequest) {
         context.setBody(body);
-        context.setHttpServletRequest(httpServletRequest);
+        context.setTransportRequest(transportRequest);
         return context;
     }
 
@@ -0,0 +1,68 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.service.impl;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpcError;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpcMethodNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link JsonRpcErrorLog} test
+ *
+ * @author kibberpunk
+ */
+public class JsonRpcErrorLogTest {
+
+    @Test
+    @DisplayName("Log failures rate limited per method and error code")
+    public void log() {
+        JsonRpcConfigurationProperties.ErrorLog properties = new JsonRpcConfigurationProperties.ErrorLog();
+        properties.setPermits(2);
+        properties.setPeriod(Duration.ofHours(1));
+        properties.setMaxBodyLength(8);
+        JsonRpcErrorLog errorLog = new JsonRpcErrorLog(properties);
+        JsonRpcMethodNotFoundException failure = new JsonRpcMethodNotFoundException("mrXController.unknown");
+        int code = JsonRpcError.Code.METHOD_NOT_FOUND.getCode();
+
+        Logger logger = (Logger) LoggerFactory.getLogger(JsonRpcErrorLog.class);
+        Level level = logger.getLevel();
+        try {
+            logger.setLevel(Level.OFF);
+            assertFalse(errorLog.log("unknown", code, failure, () -> "{}"));
+
+            logger.setLevel(Level.WARN);
+            assertEquals(2, IntStream.range(0, 5)
+                    .filter(i -> errorLog.log("unknown", code, failure, () -> "{}")).count());
+            assertTrue(errorLog.log("unknown", JsonRpcError.Code.PARSE_ERROR.getCode(), failure, () -> "{"));
+            // not a protocol failure is logged at ERROR
+            assertTrue(errorLog.log("mrXController.hide", null, new IllegalStateException(), () -> null));
+
+            logger.setLevel(Level.ERROR);
+            assertFalse(errorLog.log("mrXController.lurk", code, failure, () -> "{}"));
+        } finally {
+            logger.setLevel(level);
+        }
+
+        assertEquals("{}", errorLog.truncate("{}"));
+        assertEquals("{\"id\" : ...(11 chars)", errorLog.truncate("{\"id\" : 42}"));
+        assertNull(errorLog.truncate(null));
+        // only the logged bytes are decoded
+        byte[] body = "{\"id\" : 42}".getBytes(StandardCharsets.UTF_8);
+        assertEquals("{\"id\" : ...(11 bytes)", errorLog.truncate(body, body.length, body.length));
+        assertEquals("{\"id\" : ...(1000 bytes)", errorLog.truncate(body, 8, 1000));
+        assertEquals("{}", errorLog.truncate("{}".getBytes(StandardCharsets.UTF_8), 2, 2));
+        assertNull(errorLog.truncate(null, 0, 0));
+    }
+}
@@ -0,0 +1,120 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.service.impl;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kibberpunk.spring.boot.starter.jsonrpc.controller.NemesisController;
+import com.kibberpunk.spring.boot.starter.jsonrpc.exception.JsonRpc20DefaultExceptionHandler;
+import com.kibberpunk.spring.boot.starter.jsonrpc.method.JsonRpcMethodParameter;
+import org.junit.jupiter.api.utils.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JsonRpc20ProtocolSupportImpl#parameter} binding benchmark of {@link NemesisController#attack}.
+ * 'planned' binds parameters with binding plans compiled at load time,
+ * 'unplanned' binds plain {@link MethodParameter}s resolving annotations, types and converters on every call.
+ * <p>
+ * Run: mvn test-compile, then start {@link #main(String[])} with the test classpath
+ *
+ * @author kibberpunk
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonRpcParameterBindingBenchmark {
+
+    private static final String BODY = """
+            {
+              "id" : "68998eaf-dee3-4652-90fe-776a397ed1ab",
+              "method" : "nemesisController.attack",
+              "params" : {
+                "uuid" : "68998eaf-dee3-4652-90fe-776a397ed1ab",
+                "message" : "xflvhdgdddd",
+                "d" : 6345.4535,
+                "l" : 23453454,
+                "i" : 2345,
+                "parameter" : {
+                  "d" : 274.85
+                }
+              },
+              "jsonrpc" : "2.0"
+            }""";
+
+    private JsonRpc20ProtocolSupportImpl support;
+    private JsonRpc20RequestContext context;
+    private List<MethodParameter> planned;
+    private List<MethodParameter> unplanned;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        ConversionService conversionService = DefaultConversionService.getSharedInstance();
+        support = new JsonRpc20ProtocolSupportImpl(
+                objectMapper, conversionService, new JsonRpc20DefaultExceptionHandler());
+        context = support.context();
+        context.setBody(BODY);
+        context.setRequest(support.request(context));
+
+        Method method = Utils.method("attack", NemesisController.class);
+        planned = new ArrayList<>();
+        unplanned = new ArrayList<>();
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            MethodParameter parameter = new MethodParameter(method, i);
+            JsonRpcMethodParameter.Source source = JsonRpcMethodParameter.Source.of(parameter);
+            // the same id can not be bound to all the numeric id parameters of 'attack', they are skipped
+            boolean numericId = source == JsonRpcMethodParameter.Source.ID
+                    && parameter.getParameterType() != String.class && parameter.getParameterType() != UUID.class;
+            if (!source.isSystem() && !numericId) {
+                unplanned.add(parameter);
+                planned.add(new JsonRpcMethodParameter(parameter, objectMapper, conversionService));
+            }
+        }
+    }
+
+    @Benchmark
+    public Object[] planned() {
+        return bind(planned);
+    }
+
+    @Benchmark
+    public Object[] unplanned() {
+        return bind(unplanned);
+    }
+
+    private Object[] bind(final List<MethodParameter> parameters) {
+        Object[] values = new Object[parameters.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = support.parameter(parameters.get(i), context);
+        }
+        return values;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonRpcParameterBindingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
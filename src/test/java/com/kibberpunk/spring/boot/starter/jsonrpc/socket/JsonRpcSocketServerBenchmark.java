@@ -0,0 +1,221 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.socket;
+
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.JsonRpcAutoConfiguration;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.TestJsonRpcAutoConfiguration;
+import com.kibberpunk.spring.boot.starter.jsonrpc.controller.MrXController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.UnixDomainSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip throughput of the same call of {@link MrXController#stomp} over a Unix domain socket,
+ * a loopback TCP socket (both newline-delimited, see {@link JsonRpcSocketServer}) and loopback HTTP
+ * (the REST controller on the embedded Tomcat). One connection, one call at a time.
+ * 'loopbackHttp' writes the request to a keep-alive HTTP/1.1 connection and reads the response (the Tomcat keep-alive
+ * request limit is lifted), 'loopbackHttpClient' sends it with {@link HttpClient} and includes the client cost.
+ * The Spring MVC stack needs a long warmup, the short runs measure the JIT rather than the transport.
+ * <p>
+ * JDK 17.0.9, 1 CPU, Linux, 1 fork, 10 x 5 s warmup, 5 x 5 s measurement:
+ * <pre>
+ * Benchmark                                         Mode  Cnt      Score      Error  Units
+ * JsonRpcSocketServerBenchmark.loopbackHttp        thrpt    5  26346.477 ±  791.460  ops/s
+ * JsonRpcSocketServerBenchmark.loopbackHttpClient  thrpt    5  10341.987 ±  832.198  ops/s
+ * JsonRpcSocketServerBenchmark.tcpSocket           thrpt    5  54365.731 ± 1712.814  ops/s
+ * JsonRpcSocketServerBenchmark.unixSocket          thrpt    5  58679.461 ± 4162.427  ops/s
+ * </pre>
+ * <p>
+ * Run: mvn test-compile, then start {@link #main(String[])} with the test classpath
+ *
+ * @author kibberpunk
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JsonRpcSocketServerBenchmark {
+
+    private static final String BODY = """
+            {"id" : 1, "method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}""";
+
+    private static final byte[] FRAME = (BODY + "\n").getBytes(StandardCharsets.UTF_8);
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private SocketChannel unix;
+    private BufferedReader unixReader;
+    private Socket tcp;
+    private OutputStream tcpWriter;
+    private BufferedReader tcpReader;
+    private byte[] httpFrame;
+    private Socket http;
+    private OutputStream httpWriter;
+    private InputStream httpReader;
+    private HttpClient httpClient;
+    private HttpRequest httpRequest;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("json-rpc");
+        Path path = directory.resolve("json-rpc.sock");
+        context = new SpringApplicationBuilder(Application.class)
+                .properties("server.port=0",
+                        "server.tomcat.max-keep-alive-requests=-1",
+                        "spring.json-rpc.consumer.tcp.port=0",
+                        "spring.json-rpc.consumer.tcp.address=127.0.0.1",
+                        "spring.json-rpc.consumer.unix.path=" + path)
+                .run();
+
+        unix = SocketChannel.open(UnixDomainSocketAddress.of(path));
+        unixReader = new BufferedReader(new InputStreamReader(Channels.newInputStream(unix), StandardCharsets.UTF_8));
+
+        tcp = new Socket();
+        tcp.connect(context.getBean("jsonRpcTcpServer", JsonRpcSocketServer.class).getLocalAddress());
+        tcp.setTcpNoDelay(true);
+        tcpWriter = tcp.getOutputStream();
+        tcpReader = new BufferedReader(new InputStreamReader(tcp.getInputStream(), StandardCharsets.UTF_8));
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        httpFrame = ("POST /api HTTP/1.1\r\nHost: 127.0.0.1:" + port + "\r\nContent-Type: application/json\r\n"
+                + "Content-Length: " + body.length + "\r\n\r\n" + BODY).getBytes(StandardCharsets.UTF_8);
+        http = new Socket("127.0.0.1", port);
+        http.setTcpNoDelay(true);
+        httpWriter = http.getOutputStream();
+        httpReader = new BufferedInputStream(http.getInputStream());
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        httpRequest = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        unix.close();
+        tcp.close();
+        http.close();
+        context.close();
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public String unixSocket() throws IOException {
+        unix.write(ByteBuffer.wrap(FRAME));
+        return unixReader.readLine();
+    }
+
+    @Benchmark
+    public String tcpSocket() throws IOException {
+        tcpWriter.write(FRAME);
+        return tcpReader.readLine();
+    }
+
+    @Benchmark
+    public byte[] loopbackHttp() throws IOException {
+        httpWriter.write(httpFrame);
+        return readHttpResponse(httpReader);
+    }
+
+    @Benchmark
+    public byte[] loopbackHttpClient() throws IOException, InterruptedException {
+        return httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    /**
+     * Read a keep-alive HTTP/1.1 response, the body is framed by Content-Length or chunked
+     */
+    private static byte[] readHttpResponse(InputStream in) throws IOException {
+        int length = -1;
+        boolean chunked = false;
+        for (String line = readHttpLine(in); !line.isEmpty(); line = readHttpLine(in)) {
+            String header = line.toLowerCase(Locale.ROOT);
+            if (header.startsWith("content-length:")) {
+                length = Integer.parseInt(header.substring("content-length:".length()).trim());
+            } else if (header.startsWith("transfer-encoding:") && header.contains("chunked")) {
+                chunked = true;
+            }
+        }
+        if (!chunked) {
+            return in.readNBytes(Math.max(length, 0));
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (int size = Integer.parseInt(readHttpLine(in), 16); size > 0;
+             size = Integer.parseInt(readHttpLine(in), 16)) {
+            body.write(in.readNBytes(size));
+            readHttpLine(in);
+        }
+        readHttpLine(in);
+        return body.toByteArray();
+    }
+
+    private static String readHttpLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int b = in.read(); b != '\n'; b = in.read()) {
+            if (b < 0) {
+                throw new EOFException();
+            }
+            if (b != '\r') {
+                line.append((char) b);
+            }
+        }
+        return line.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonRpcSocketServerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    /**
+     * Application with the servlet web server, the TCP and the Unix domain socket servers
+     */
+    @Configuration
+    @EnableAutoConfiguration(exclude = JsonRpcAutoConfiguration.class)
+    @Import(TestJsonRpcAutoConfiguration.class)
+    public static class Application {
+    }
+}
@@ -0,0 +1,183 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.socket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.JsonRpcTcpAutoConfiguration;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.TestJsonRpcAutoConfiguration;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.properties.JsonRpcConfigurationProperties;
+import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpcError;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.JsonRpcService;
+import com.kibberpunk.spring.boot.starter.jsonrpc.service.impl.JsonRpcExecutors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link JsonRpcSocketServer} test
+ *
+ * @author kibberpunk
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = TestJsonRpcAutoConfiguration.class,
+        properties = {"spring.json-rpc.consumer.tcp.port=0", "spring.json-rpc.consumer.tcp.address=127.0.0.1"})
+@ImportAutoConfiguration(JsonRpcTcpAutoConfiguration.class)
+public class JsonRpcSocketServerTest {
+
+    @Autowired
+    private JsonRpcSocketServer server;
+    @Autowired
+    private JsonRpcService service;
+    @Autowired
+    private JsonRpcExecutors executors;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Call pipelined newline-delimited requests over TCP")
+    public void callPipelined() throws Exception {
+        try (Socket socket = new Socket()) {
+            socket.connect(server.getLocalAddress(), 5000);
+            socket.setSoTimeout(5000);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+            // requests of a connection are executed at the same time, the fast one is responded first
+            socket.getOutputStream().write("""
+                    {"id" : 1, "method" : "mrXController.lurk", "params" : {"millis" : 50}, "jsonrpc" : "2.0"}
+                    {"method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}
+                    {"id" : 2, "method" : "mrXController.unknown", "jsonrpc" : "2.0"}
+                    """.getBytes(StandardCharsets.UTF_8));
+            JsonNode first = objectMapper.readTree(reader.readLine());
+            assertEquals(2, first.get("id").asInt());
+            assertEquals(JsonRpcError.Code.METHOD_NOT_FOUND.getCode(), first.get("error").get("code").asInt());
+            JsonNode second = objectMapper.readTree(reader.readLine());
+            assertEquals(1, second.get("id").asInt());
+            assertEquals("lurked", second.get("result").asText());
+
+            // a reactive method is invoked by the selector thread, a blocking one by the server pool
+            socket.getOutputStream().write("""
+                    [{"id" : 3, "method" : "mrXController.trail", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}]
+                    """.getBytes(StandardCharsets.UTF_8));
+            JsonNode trail = objectMapper.readTree(reader.readLine());
+            assertTrue(trail.get(0).get("result").get(0).asText().startsWith("1 json-rpc-tcp-selector-"));
+            socket.getOutputStream().write("""
+                    {"id" : 4, "method" : "mrXController.stalk", "jsonrpc" : "2.0"}
+                    """.getBytes(StandardCharsets.UTF_8));
+            JsonNode stalk = objectMapper.readTree(reader.readLine());
+            assertTrue(stalk.get("result").asText().startsWith("json-rpc-tcp-"));
+        }
+    }
+
+    @Test
+    @DisplayName("Call length-prefixed requests over TCP, close the connection on a frame over the limit")
+    public void callLengthPrefixed() throws Exception {
+        JsonRpcConfigurationProperties.Tcp properties = new JsonRpcConfigurationProperties.Tcp();
+        properties.setFraming(JsonRpcConfigurationProperties.Framing.LENGTH_PREFIX);
+        properties.setMaxFrameSize(1024);
+        properties.setBufferSize(16);
+        JsonRpcSocketServer lengthPrefixed = new JsonRpcSocketServer(service, objectMapper, properties,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), "tcp-test", executors);
+        lengthPrefixed.start();
+        try (Socket socket = new Socket()) {
+            socket.connect(lengthPrefixed.getLocalAddress(), 5000);
+            socket.setSoTimeout(5000);
+            DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+            DataInputStream input = new DataInputStream(socket.getInputStream());
+
+            // the frame is larger than the read buffer
+            byte[] request = """
+                    {"id" : 1, "method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}"""
+                    .getBytes(StandardCharsets.UTF_8);
+            output.writeInt(request.length);
+            output.write(request);
+            byte[] response = new byte[input.readInt()];
+            input.readFully(response);
+            assertEquals(1, objectMapper.readTree(response).get("id").asInt());
+
+            output.writeInt(2048);
+            assertEquals(-1, input.read());
+        } finally {
+            lengthPrefixed.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Call blocking method after the server is restarted")
+    public void callAfterRestart() throws Exception {
+        JsonRpcSocketServer restarted = new JsonRpcSocketServer(service, objectMapper,
+                new JsonRpcConfigurationProperties.Tcp(), new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                "tcp-restart", executors);
+        restarted.start();
+        restarted.stop();
+        restarted.start();
+        try (Socket socket = new Socket()) {
+            socket.connect(restarted.getLocalAddress(), 5000);
+            socket.setSoTimeout(5000);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            socket.getOutputStream().write("""
+                    {"id" : 1, "method" : "mrXController.stalk", "jsonrpc" : "2.0"}
+                    """.getBytes(StandardCharsets.UTF_8));
+            // the blocking method is still executed by the server pool
+            JsonNode stalk = objectMapper.readTree(reader.readLine());
+            assertTrue(stalk.get("result").asText().startsWith("json-rpc-tcp-restart-"));
+        } finally {
+            restarted.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Call over Unix domain socket with the socket file permissions and the peer user")
+    public void callUnixSocket(final @TempDir Path directory) throws Exception {
+        Path path = directory.resolve("json-rpc.sock");
+        JsonRpcConfigurationProperties.Unix properties = new JsonRpcConfigurationProperties.Unix();
+        properties.setPath(path.toString());
+        properties.setPermissions("rw-rw----");
+        JsonRpcUnixSocketServer unix = new JsonRpcUnixSocketServer(service, objectMapper, properties, executors);
+        unix.start();
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(path))) {
+            assertEquals("rw-rw----", PosixFilePermissions.toString(Files.getPosixFilePermissions(path)));
+            // the owner-only bind directory is removed
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(List.of(path), files.toList());
+            }
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+            channel.write(ByteBuffer.wrap("""
+                    {"id" : 1, "method" : "mrXController.spot", "jsonrpc" : "2.0"}
+                    """.getBytes(StandardCharsets.UTF_8)));
+            JsonNode spot = objectMapper.readTree(reader.readLine());
+            assertEquals(System.getProperty("user.name"), spot.get("result").asText());
+        } finally {
+            unix.destroy();
+        }
+        assertFalse(Files.exists(path));
+    }
+}
@@ -0,0 +1,129 @@
+package com.kibberpunk.spring.boot.starter.jsonrpc.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.JsonRpcWebSocketAutoConfiguration;
+import com.kibberpunk.spring.boot.starter.jsonrpc.context.TestJsonRpcAutoConfiguration;
+import com.kibberpunk.spring.boot.starter.jsonrpc.dto.JsonRpcError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link JsonRpcWebSocketEndpoint} test
+ *
+ * @author kibberpunk
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = TestJsonRpcAutoConfiguration.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.json-rpc.consumer.websocket.path=/api/ws", "server.servlet.register-default-servlet=true"})
+@ImportAutoConfiguration({ServletWebServerFactoryAutoConfiguration.class, WebSocketServletAutoConfiguration.class,
+        JsonRpcWebSocketAutoConfiguration.class})
+public class JsonRpcWebSocketEndpointTest {
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Call methods over WebSocket")
+    public void call() throws Exception {
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        WebSocket webSocket = HttpClient.newHttpClient().newWebSocketBuilder()
+                .buildAsync(URI.create("ws://localhost:" + port + "/api/ws"), new WebSocket.Listener() {
+                    private final StringBuilder text = new StringBuilder();
+
+                    @Override
+                    public CompletionStage<?> onText(final WebSocket socket, final CharSequence data,
+                                                     final boolean last) {
+                        text.append(data);
+                        if (last) {
+                            messages.add(text.toString());
+                            text.setLength(0);
+                        }
+                        socket.request(1);
+                        return null;
+                    }
+                }).get(5, TimeUnit.SECONDS);
+
+        // calls of a connection are executed at the same time, the fast one is responded first
+        webSocket.sendText("""
+                {"id" : 1, "method" : "mrXController.lurk", "params" : {"millis" : 50}, "jsonrpc" : "2.0"}""",
+                true).join();
+        webSocket.sendText("""
+                {"method" : "mrXController.stomp", "params" : {"steps" : 1}, "jsonrpc" : "2.0"}""", true).join();
+        webSocket.sendText("""
+                {"id" : 2, "method" : "mrXController.unknown", "jsonrpc" : "2.0"}""", true).join();
+
+        JsonNode first = objectMapper.readTree(messages.poll(5, TimeUnit.SECONDS));
+        assertEquals(2, first.get("id").asInt());
+        assertEquals(JsonRpcError.Code.METHOD_NOT_FOUND.getCode(), first.get("error").get("code").asInt());
+        JsonNode second = objectMapper.readTree(messages.poll(5, TimeUnit.SECONDS));
+        assertEquals(1, second.get("id").asInt());
+        assertEquals("lurked", second.get("result").asText());
+        // the notification is not responded
+        assertNull(messages.poll(200, TimeUnit.MILLISECONDS));
+
+        webSocket.sendText("""
+                [{"id" : 3, "method" : "mrXController.stomp", "params" : {"steps" : 0}, "jsonrpc" : "2.0"}]""",
+                true).join();
+        assertEquals(3, objectMapper.readTree(messages.poll(5, TimeUnit.SECONDS)).get(0).get("id").asInt());
+        webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+    }
+
+    @Test
+    @DisplayName("Call more methods than the calls in flight over WebSocket")
+    public void callOverInFlightLimit() throws Exception {
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        WebSocket webSocket = HttpClient.newHttpClient().newWebSocketBuilder()
+                .buildAsync(URI.create("ws://localhost:" + port + "/api/ws"), new WebSocket.Listener() {
+                    @Override
+                    public CompletionStage<?> onText(final WebSocket socket, final CharSequence data,
+                                                     final boolean last) {
+                        messages.add(data.toString());
+                        socket.request(1);
+                        return null;
+                    }
+                }).get(5, TimeUnit.SECONDS);
+
+        // over the 64 calls in flight the reading is suspended until the responses are sent, nothing is dropped
+        int calls = 100;
+        for (int id = 0; id < calls; id++) {
+            webSocket.sendText("""
+                    {"id" : %d, "method" : "mrXController.lurk", "params" : {"millis" : 20, "async" : true},
+                     "jsonrpc" : "2.0"}""".formatted(id), true).join();
+        }
+        Set<Integer> ids = new HashSet<>();
+        for (int i = 0; i < calls; i++) {
+            JsonNode response = objectMapper.readTree(messages.poll(5, TimeUnit.SECONDS));
+            assertEquals("lurked", response.get("result").asText());
+            ids.add(response.get("id").asInt());
+        }
+        assertEquals(calls, ids.size());
+        assertFalse(webSocket.isInputClosed());
+        webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+    }
+}